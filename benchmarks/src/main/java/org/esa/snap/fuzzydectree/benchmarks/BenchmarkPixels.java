@@ -0,0 +1,88 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Pixel input vectors for the classifier benchmarks, stored column-wise (one array per classifier input).
+ */
+public class BenchmarkPixels {
+
+    public static final String SYNTHETIC = "synthetic";
+
+    /**
+     * Returns {@link #SYNTHETIC} pixels, or the recorded pixels of the CSV file at the given path.
+     * The first line of the CSV file names the columns using the classifier input names ({@code b1},
+     * {@code b2}, ...), columns may be separated by commas, semicolons, tabs or blanks.
+     * Inputs without a column are set to zero.
+     */
+    public static double[][] create(String pixels, String[] inputNames, int numPixels) throws IOException {
+        if (SYNTHETIC.equals(pixels)) {
+            return createSynthetic(inputNames.length, numPixels, 42L);
+        }
+        return readRecorded(pixels, inputNames, numPixels);
+    }
+
+    /**
+     * Uniform samples in [-0.1, 1.1], every tenth pixel is a zero-filled nodata pixel.
+     */
+    public static double[][] createSynthetic(int numInputs, int numPixels, long seed) {
+        final Random random = new Random(seed);
+        final double[][] columns = new double[numInputs][numPixels];
+        for (int i = 0; i < numPixels; i++) {
+            final boolean nodata = random.nextInt(10) == 0;
+            for (int j = 0; j < numInputs; j++) {
+                columns[j][i] = nodata ? 0.0 : random.nextDouble() * 1.2 - 0.1;
+            }
+        }
+        return columns;
+    }
+
+    /**
+     * Reads the recorded pixels and repeats them cyclically until {@code numPixels} pixels are filled.
+     */
+    public static double[][] readRecorded(String path, String[] inputNames, int numPixels) throws IOException {
+        final List<double[]> rows = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(path), StandardCharsets.UTF_8)) {
+            final String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("Empty pixel file: " + path);
+            }
+            final List<String> columnNames = Arrays.asList(header.trim().split("[,;\\s]+"));
+            final int[] columnIndexes = new int[inputNames.length];
+            for (int j = 0; j < inputNames.length; j++) {
+                columnIndexes[j] = columnNames.indexOf(inputNames[j]);
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                final String[] values = line.trim().split("[,;\\s]+");
+                final double[] row = new double[inputNames.length];
+                for (int j = 0; j < inputNames.length; j++) {
+                    row[j] = columnIndexes[j] >= 0 ? Double.parseDouble(values[columnIndexes[j]]) : 0.0;
+                }
+                rows.add(row);
+            }
+        }
+        if (rows.isEmpty()) {
+            throw new IOException("No pixels in file: " + path);
+        }
+        final double[][] columns = new double[inputNames.length][numPixels];
+        for (int i = 0; i < numPixels; i++) {
+            final double[] row = rows.get(i % rows.size());
+            for (int j = 0; j < inputNames.length; j++) {
+                columns[j][i] = row[j];
+            }
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,46 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.fuzzydectree.IntertidalFlatClassifierConstants;
+
+import javax.media.jai.JAI;
+import java.util.Random;
+
+/**
+ * In-memory source products for the classifier benchmarks.
+ */
+public class BenchmarkProducts {
+
+    /**
+     * Creates a product with all input bands of the intertidal flat classifier, filled with synthetic samples.
+     * A border of {@code width / 8} pixels is zero-filled like the swath edges of real products.
+     */
+    public static Product createIntertidalSourceProduct(int width, int height, int tileSize, long seed) {
+        final Product product = new Product("intertidal_source", "BENCHMARK", width, height);
+        product.setPreferredTileSize(tileSize, tileSize);
+        final Random random = new Random(seed);
+        final int border = width / 8;
+        for (String[] inputName : IntertidalFlatClassifierConstants.INPUT_NAMES) {
+            final Band band = product.addBand(inputName[1], ProductData.TYPE_FLOAT32);
+            final float[] samples = new float[width * height];
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    if (x >= border) {
+                        samples[y * width + x] = (float) (random.nextDouble() * 1.2 - 0.1);
+                    }
+                }
+            }
+            band.setRasterData(ProductData.createInstance(samples));
+        }
+        return product;
+    }
+
+    /**
+     * Disables the JAI tile cache so that every tile request in a benchmark really runs computeTileStack.
+     */
+    public static void disableTileCache() {
+        JAI.getDefaultInstance().getTileCache().setMemoryCapacity(0L);
+    }
+}
@@ -0,0 +1,99 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifier;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuz;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierOpt;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the generated intertidal flat classifiers per pixel. The batched evaluation of the fuzzy classifier,
+ * which is what the operator uses, is measured by {@link ColumnClassifierBenchmark}.
+ * Scores are nanoseconds per pixel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ClassifierApplyBenchmark.NUM_PIXELS)
+public class ClassifierApplyBenchmark {
+
+    static final int NUM_PIXELS = 4096;
+
+    @Param({"IntertidalFlatClassifier", "IntertidalFlatClassifierOpt", "IntertidalFlatClassifierFuz"})
+    private String classifier;
+
+    @Param({BenchmarkPixels.SYNTHETIC})
+    private String pixels;
+
+    private PixelFunction pixelFunction;
+    private double[][] inputColumns;
+    private double[] inputs;
+    private double[] outputs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        final String[] inputNames;
+        final int outputSize;
+        switch (classifier) {
+            case "IntertidalFlatClassifier": {
+                final IntertidalFlatClassifier c = new IntertidalFlatClassifier();
+                pixelFunction = c::apply;
+                inputNames = c.getInputNames();
+                outputSize = c.getOutputSize();
+                break;
+            }
+            case "IntertidalFlatClassifierOpt": {
+                final IntertidalFlatClassifierOpt c = new IntertidalFlatClassifierOpt();
+                pixelFunction = c::apply;
+                inputNames = c.getInputNames();
+                outputSize = c.getOutputSize();
+                break;
+            }
+            case "IntertidalFlatClassifierFuz": {
+                final IntertidalFlatClassifierFuz c = new IntertidalFlatClassifierFuz();
+                pixelFunction = c::apply;
+                inputNames = c.getInputNames();
+                outputSize = c.getOutputSize();
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown classifier: " + classifier);
+        }
+        inputColumns = BenchmarkPixels.create(pixels, inputNames, NUM_PIXELS);
+        inputs = new double[inputNames.length];
+        outputs = new double[outputSize];
+    }
+
+    @Benchmark
+    public void applyPixel(Blackhole blackhole) {
+        for (int i = 0; i < NUM_PIXELS; i++) {
+            for (int j = 0; j < inputs.length; j++) {
+                inputs[j] = inputColumns[j][i];
+            }
+            pixelFunction.apply(inputs, outputs);
+            blackhole.consume(outputs);
+        }
+    }
+
+    private interface PixelFunction {
+        void apply(double[] inputs, double[] outputs);
+    }
+}
@@ -0,0 +1,98 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.fuzzydectree.IntertidalFlatClassifierConstants;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuz;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuzVec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the scalar batch evaluation of {@link IntertidalFlatClassifierFuz} with the column-wise
+ * {@link IntertidalFlatClassifierFuzVec}, also with the class of each pixel determined as the operators do.
+ * Scores are nanoseconds per pixel. Run with
+ * {@code -jvmArgsAppend -XX:-UseSuperWord} to see the effect of loop vectorization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ColumnClassifierBenchmark.NUM_PIXELS)
+public class ColumnClassifierBenchmark {
+
+    static final int NUM_PIXELS = 4096;
+
+    @Param({BenchmarkPixels.SYNTHETIC})
+    private String pixels;
+
+    private IntertidalFlatClassifierFuz scalarClassifier;
+    private IntertidalFlatClassifierFuzVec columnClassifier;
+    private double[][] inputColumns;
+    private double[][] outputColumns;
+    private float[][] floatInputColumns;
+    private float[][] floatOutputColumns;
+    private int[] classIndexes;
+    private float[] maxValues;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        scalarClassifier = new IntertidalFlatClassifierFuz();
+        columnClassifier = new IntertidalFlatClassifierFuzVec();
+        final String[] inputNames = new String[IntertidalFlatClassifierConstants.INPUT_NAMES.length];
+        for (int i = 0; i < inputNames.length; i++) {
+            inputNames[i] = IntertidalFlatClassifierConstants.INPUT_NAMES[i][0];
+        }
+        inputColumns = BenchmarkPixels.create(pixels, inputNames, NUM_PIXELS);
+        outputColumns = new double[scalarClassifier.getOutputSize()][NUM_PIXELS];
+        floatInputColumns = new float[inputColumns.length][NUM_PIXELS];
+        for (int i = 0; i < inputColumns.length; i++) {
+            for (int k = 0; k < NUM_PIXELS; k++) {
+                floatInputColumns[i][k] = (float) inputColumns[i][k];
+            }
+        }
+        floatOutputColumns = new float[scalarClassifier.getOutputSize()][NUM_PIXELS];
+        classIndexes = new int[NUM_PIXELS];
+        maxValues = new float[NUM_PIXELS];
+    }
+
+    @Benchmark
+    public double[][] scalar() {
+        scalarClassifier.apply(inputColumns, outputColumns, 0, NUM_PIXELS);
+        return outputColumns;
+    }
+
+    @Benchmark
+    public double[][] columns() {
+        columnClassifier.apply(inputColumns, outputColumns, 0, NUM_PIXELS);
+        return outputColumns;
+    }
+
+    @Benchmark
+    public int[] scalarClassify() {
+        scalarClassifier.applyAndClassify(floatInputColumns, floatOutputColumns, classIndexes, maxValues, 0,
+                                          NUM_PIXELS);
+        return classIndexes;
+    }
+
+    @Benchmark
+    public int[] columnsClassify() {
+        columnClassifier.applyAndClassify(floatInputColumns, floatOutputColumns, classIndexes, maxValues, 0,
+                                          NUM_PIXELS);
+        return classIndexes;
+    }
+}
@@ -0,0 +1,79 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.fuzzydectree.GenericClassifierConstants;
+import org.esa.snap.fuzzydectree.IntertidalFlatClassifierOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Rectangle;
+import java.awt.image.RenderedImage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifies a whole in-memory scene with the IntertidalFlatClassifier operator, tile by tile on the
+ * calling thread, optionally splitting each tile into stripes classified in parallel. Scores are milliseconds
+ * per scene.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ComputeTileStackBenchmark {
+
+    @Param({"2048"})
+    private int sceneSize;
+
+    @Param({"128", "512", "2048"})
+    private int tileSize;
+
+    @Param({"0", "64"})
+    private int tileStripeHeight;
+
+    private Product sourceProduct;
+    private Product targetProduct;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkProducts.disableTileCache();
+        sourceProduct = BenchmarkProducts.createIntertidalSourceProduct(sceneSize, sceneSize, tileSize, 42L);
+        final IntertidalFlatClassifierOp op = new IntertidalFlatClassifierOp();
+        op.setParameter("tileStripeHeight", tileStripeHeight);
+        op.setSourceProduct(sourceProduct);
+        targetProduct = op.getTargetProduct();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        targetProduct.dispose();
+        sourceProduct.dispose();
+    }
+
+    @Benchmark
+    public void classifyScene(Blackhole blackhole) {
+        final Band finalClassBand = targetProduct.getBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
+        final RenderedImage image = finalClassBand.getSourceImage();
+        for (int y = 0; y < sceneSize; y += tileSize) {
+            for (int x = 0; x < sceneSize; x += tileSize) {
+                final int w = Math.min(tileSize, sceneSize - x);
+                final int h = Math.min(tileSize, sceneSize - y);
+                blackhole.consume(image.getData(new Rectangle(x, y, w, h)));
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import com.bc.dectree.DecTreeDoc;
+import com.bc.dectree.DecTreeFunction;
+import com.bc.dectree.DecTreeParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link DecTreeFunction#apply} for a decision tree loaded from a yml file, as used by the
+ * GenericClassifier operator. Pass the file with {@code -p yamlFile=<path>}. Scores are nanoseconds per pixel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(DecTreeFunctionBenchmark.NUM_PIXELS)
+public class DecTreeFunctionBenchmark {
+
+    static final int NUM_PIXELS = 4096;
+
+    @Param({""})
+    private String yamlFile;
+
+    @Param({BenchmarkPixels.SYNTHETIC})
+    private String pixels;
+
+    private DecTreeFunction function;
+    private double[][] inputColumns;
+    private double[] inputs;
+    private double[] outputs;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, DecTreeParseException {
+        if (yamlFile.isEmpty()) {
+            throw new IllegalStateException("No decision tree given, use -p yamlFile=<path>");
+        }
+        function = DecTreeFunction.load(DecTreeDoc.parse(new File(yamlFile)));
+        inputColumns = BenchmarkPixels.create(pixels, function.getInputNames(), NUM_PIXELS);
+        inputs = new double[function.getInputSize()];
+        outputs = new double[function.getOutputSize()];
+    }
+
+    @Benchmark
+    public void apply(Blackhole blackhole) {
+        for (int i = 0; i < NUM_PIXELS; i++) {
+            for (int j = 0; j < inputs.length; j++) {
+                inputs[j] = inputColumns[j][i];
+            }
+            function.apply(inputs, outputs);
+            blackhole.consume(outputs);
+        }
+    }
+}
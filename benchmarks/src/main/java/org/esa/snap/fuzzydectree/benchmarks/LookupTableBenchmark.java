@@ -0,0 +1,87 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.fuzzydectree.IntertidalFlatClassifierConstants;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuz;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuzLut;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuzVec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares exact float evaluation of the fuzzy intertidal tree, scalar and column-wise, with the
+ * membership lookup tables of {@link IntertidalFlatClassifierFuzLut}. Scores are nanoseconds per pixel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(LookupTableBenchmark.NUM_PIXELS)
+public class LookupTableBenchmark {
+
+    static final int NUM_PIXELS = 4096;
+
+    @Param({"256", "4096"})
+    private int tableSize;
+
+    @Param({BenchmarkPixels.SYNTHETIC})
+    private String pixels;
+
+    private IntertidalFlatClassifierFuz scalarClassifier;
+    private IntertidalFlatClassifierFuzVec columnClassifier;
+    private IntertidalFlatClassifierFuzLut lookupTableClassifier;
+    private float[][] inputColumns;
+    private float[][] outputColumns;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        scalarClassifier = new IntertidalFlatClassifierFuz();
+        columnClassifier = new IntertidalFlatClassifierFuzVec();
+        lookupTableClassifier = new IntertidalFlatClassifierFuzLut(tableSize);
+        final String[] inputNames = new String[IntertidalFlatClassifierConstants.INPUT_NAMES.length];
+        for (int i = 0; i < inputNames.length; i++) {
+            inputNames[i] = IntertidalFlatClassifierConstants.INPUT_NAMES[i][0];
+        }
+        final double[][] columns = BenchmarkPixels.create(pixels, inputNames, NUM_PIXELS);
+        inputColumns = new float[columns.length][NUM_PIXELS];
+        for (int j = 0; j < columns.length; j++) {
+            for (int i = 0; i < NUM_PIXELS; i++) {
+                inputColumns[j][i] = (float) columns[j][i];
+            }
+        }
+        outputColumns = new float[scalarClassifier.getOutputSize()][NUM_PIXELS];
+    }
+
+    @Benchmark
+    public float[][] scalar() {
+        scalarClassifier.apply(inputColumns, outputColumns, 0, NUM_PIXELS);
+        return outputColumns;
+    }
+
+    @Benchmark
+    public float[][] columns() {
+        columnClassifier.apply(inputColumns, outputColumns, 0, NUM_PIXELS);
+        return outputColumns;
+    }
+
+    @Benchmark
+    public float[][] lookupTables() {
+        lookupTableClassifier.apply(inputColumns, outputColumns, 0, NUM_PIXELS);
+        return outputColumns;
+    }
+}
@@ -0,0 +1,61 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuz;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares branch-free evaluation of the fuzzy intertidal flat classifier with short-circuit evaluation,
+ * which skips subtrees whose truth value is zero. Scores are nanoseconds per pixel.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@OperationsPerInvocation(ShortCircuitBenchmark.NUM_PIXELS)
+public class ShortCircuitBenchmark {
+
+    static final int NUM_PIXELS = 4096;
+
+    @Param({BenchmarkPixels.SYNTHETIC})
+    private String pixels;
+
+    private IntertidalFlatClassifierFuz classifier;
+    private double[][] inputColumns;
+    private double[][] outputColumns;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        classifier = new IntertidalFlatClassifierFuz();
+        inputColumns = BenchmarkPixels.create(pixels, classifier.getInputNames(), NUM_PIXELS);
+        outputColumns = new double[classifier.getOutputSize()][NUM_PIXELS];
+    }
+
+    @Benchmark
+    public double[][] branchFree() {
+        classifier.apply(inputColumns, outputColumns, 0, NUM_PIXELS);
+        return outputColumns;
+    }
+
+    @Benchmark
+    public double[][] shortCircuit() {
+        classifier.applyShortCircuit(inputColumns, outputColumns, 0, NUM_PIXELS);
+        return outputColumns;
+    }
+}
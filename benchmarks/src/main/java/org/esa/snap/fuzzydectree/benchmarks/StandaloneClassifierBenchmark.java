@@ -0,0 +1,93 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.fuzzydectree.GenericClassifierConstants;
+import org.esa.snap.fuzzydectree.IntertidalFlatClassifierOp;
+import org.esa.snap.fuzzydectree.ProductClassifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.awt.Rectangle;
+import java.awt.image.RenderedImage;
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Classifies small in-memory subsets per invocation, including operator setup, once through the GPF operator
+ * and once with the standalone {@link ProductClassifier} used by the command line. The scores are the steady
+ * per-invocation overhead, see {@link StandaloneClassifierColdStartBenchmark} for the cold start. Scores are
+ * milliseconds per subset.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(3)
+public class StandaloneClassifierBenchmark {
+
+    @Param({"128", "512"})
+    private int sceneSize;
+
+    @Param({"128"})
+    private int tileSize;
+
+    private Product sourceProduct;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkProducts.disableTileCache();
+        sourceProduct = BenchmarkProducts.createIntertidalSourceProduct(sceneSize, sceneSize, tileSize, 42L);
+        pool = new ForkJoinPool();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+        sourceProduct.dispose();
+    }
+
+    @Benchmark
+    public void gpfOperator(Blackhole blackhole) {
+        final IntertidalFlatClassifierOp op = new IntertidalFlatClassifierOp();
+        op.setSourceProduct(sourceProduct);
+        final Product targetProduct = op.getTargetProduct();
+        final Band finalClassBand = targetProduct.getBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
+        final RenderedImage image = finalClassBand.getSourceImage();
+        for (int y = 0; y < sceneSize; y += tileSize) {
+            for (int x = 0; x < sceneSize; x += tileSize) {
+                final int w = Math.min(tileSize, sceneSize - x);
+                final int h = Math.min(tileSize, sceneSize - y);
+                blackhole.consume(image.getData(new Rectangle(x, y, w, h)));
+            }
+        }
+        targetProduct.dispose();
+        op.dispose();
+    }
+
+    @Benchmark
+    public void standalone(Blackhole blackhole) throws IOException {
+        final IntertidalFlatClassifierOp op = new IntertidalFlatClassifierOp();
+        op.setSourceProduct(sourceProduct);
+        final ProductClassifier classifier = new ProductClassifier(op);
+        classifier.classify(pool, ProductClassifier.DEFAULT_STRIPE_HEIGHT, null);
+        blackhole.consume(classifier);
+        classifier.getTargetProduct().dispose();
+        op.dispose();
+    }
+}
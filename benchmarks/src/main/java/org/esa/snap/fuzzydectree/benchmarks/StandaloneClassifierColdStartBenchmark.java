@@ -0,0 +1,23 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The benchmarks of {@link StandaloneClassifierBenchmark} as the first invocation in a fresh JVM, without
+ * warm-up, so that the scores include class loading, operator setup and JIT compilation. Each fork measures
+ * a single invocation. Scores are milliseconds per subset.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StandaloneClassifierColdStartBenchmark extends StandaloneClassifierBenchmark {
+}
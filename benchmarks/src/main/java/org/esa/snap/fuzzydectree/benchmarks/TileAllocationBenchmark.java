@@ -0,0 +1,63 @@
+package org.esa.snap.fuzzydectree.benchmarks;
+
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.fuzzydectree.GenericClassifierConstants;
+import org.esa.snap.fuzzydectree.IntertidalFlatClassifierOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.Rectangle;
+import java.awt.image.Raster;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes single tiles of the intertidal flat classifier. Run with {@code -prof gc} and compare
+ * {@code gc.alloc.rate.norm} (bytes allocated per tile) between revisions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TileAllocationBenchmark {
+
+    @Param({"512"})
+    private int tileSize;
+
+    private Product sourceProduct;
+    private Product targetProduct;
+    private Rectangle tileRectangle;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkProducts.disableTileCache();
+        sourceProduct = BenchmarkProducts.createIntertidalSourceProduct(tileSize, tileSize, tileSize, 42L);
+        final IntertidalFlatClassifierOp op = new IntertidalFlatClassifierOp();
+        op.setSourceProduct(sourceProduct);
+        targetProduct = op.getTargetProduct();
+        tileRectangle = new Rectangle(0, 0, tileSize, tileSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        targetProduct.dispose();
+        sourceProduct.dispose();
+    }
+
+    @Benchmark
+    public Raster computeTile() {
+        return targetProduct.getBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME).getSourceImage().getData(tileRectangle);
+    }
+}
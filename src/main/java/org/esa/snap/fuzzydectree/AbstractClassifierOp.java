@@ -0,0 +1,339 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.ceres.core.ProgressMonitor;
+import com.bc.dectree.DecTreeParseException;
+import org.esa.snap.core.datamodel.*;
+import org.esa.snap.core.gpf.Operator;
+import org.esa.snap.core.gpf.OperatorException;
+import org.esa.snap.core.gpf.Tile;
+import org.esa.snap.core.gpf.annotations.OperatorMetadata;
+import org.esa.snap.core.gpf.annotations.Parameter;
+import org.esa.snap.core.gpf.annotations.SourceProduct;
+import org.esa.snap.core.gpf.annotations.TargetProduct;
+import org.esa.snap.core.util.ProductUtils;
+import org.esa.snap.core.util.SystemUtils;
+
+import java.awt.*;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Base of the fuzzy decision tree classifier operators. Holds the parameters and the tile stack computation they
+ * share; subclasses provide the decision tree, the binding of its inputs to source bands and the classes.
+ */
+public abstract class AbstractClassifierOp extends Operator {
+
+    @Parameter(valueSet = {GenericClassifierConstants.OUTPUT_MODE_ALL,
+            GenericClassifierConstants.OUTPUT_MODE_CLASS_AND_MAX_VALUE,
+            GenericClassifierConstants.OUTPUT_MODE_CLASS,
+            GenericClassifierConstants.OUTPUT_MODE_TOP_K},
+            defaultValue = GenericClassifierConstants.OUTPUT_MODE_ALL,
+            description = "The bands written to the target product: all class memberships plus maximum membership " +
+                    "and final class, only maximum membership and final class, only the final class, or the " +
+                    "classes with the largest memberships and their memberships ('class_1', 'membership_1', ...).",
+            label = "Output bands")
+    private String outputMode;
+
+    @Parameter(defaultValue = "3", interval = "[1,16]",
+            description = "The number of classes and memberships written per pixel if the output mode is 'top_k'. " +
+                    "Places without a class with nonzero membership get class -1.",
+            label = "Number of top classes")
+    private int topK;
+
+    @Parameter(valueSet = {GenericClassifierConstants.MEMBERSHIP_ENCODING_FLOAT32,
+            GenericClassifierConstants.MEMBERSHIP_ENCODING_UINT8,
+            GenericClassifierConstants.MEMBERSHIP_ENCODING_UINT16},
+            defaultValue = GenericClassifierConstants.MEMBERSHIP_ENCODING_FLOAT32,
+            description = "The data type of the class membership bands and the maximum membership band. The integer " +
+                    "types are scaled to [0,1], with a step of 1/255 or 1/65535.",
+            label = "Membership encoding")
+    private String membershipEncoding;
+
+    @Parameter(defaultValue = "false",
+            description = "If true, the rules of subtrees whose truth value is zero are skipped. Pays off for " +
+                    "scenes dominated by few classes, e.g. water or nodata. Only supported by the intertidal flat " +
+                    "classifier, other trees are always evaluated completely.",
+            label = "Short-circuit evaluation")
+    private boolean shortCircuit;
+
+    @Parameter(defaultValue = "0", interval = "[0,1048576]",
+            description = "Maximum number of input vectors per thread whose classification is cached, 0 for no " +
+                    "caching. Pays off for scenes with large homogeneous areas like open water or nodata borders.",
+            label = "Decision cache size")
+    private int decisionCacheSize;
+
+    @Parameter(defaultValue = "0.0",
+            description = "If the decision cache is used, input samples are rounded to multiples of this step " +
+                    "before classification, so that similar pixels share cache entries. 0 keeps the inputs exact.",
+            label = "Decision cache quantization step")
+    private float decisionCacheQuantizationStep;
+
+    @Parameter(defaultValue = "false",
+            description = "If true, pixels which are invalid in any source band, according to the band's " +
+                    "valid-pixel expression or no-data value, are not classified.",
+            label = "Skip invalid source pixels")
+    private boolean skipInvalidPixels;
+
+    @Parameter(description = "A band maths expression for further pixels which are not classified, " +
+            "e.g. 'summary_error == 0'.",
+            label = "Nodata expression")
+    private String nodataExpression;
+
+    @Parameter(defaultValue = "false",
+            description = "If true, tile and pixel counts, stage times and tile latencies are collected, exposed " +
+                    "as JMX MBean and logged when the operator is disposed.",
+            label = "Collect performance metrics")
+    private boolean collectMetrics;
+
+    @Parameter(description = "A band maths expression for the region of interest, e.g. the name of a mask or " +
+            "vector data node of the source product. Pixels outside are not classified, tiles outside are " +
+            "computed without reading the source bands.",
+            label = "ROI expression")
+    private String roiExpression;
+
+    @Parameter(defaultValue = "0", interval = "[0,65536]",
+            description = "Number of scanlines per stripe when a large tile is classified on several threads, " +
+                    "0 to classify each tile on a single thread. Tiles of at least two stripes are split.",
+            label = "Tile stripe height")
+    private int tileStripeHeight;
+
+    @Parameter(defaultValue = "0", interval = "[0,64]",
+            description = "Number of tiles ahead, in row order, whose source tiles are read in the background " +
+                    "while a tile is classified, 0 for no prefetching. Pays off for slow storage or expensive " +
+                    "upstream operators. Prefetched tiles are held in the JAI tile cache.",
+            label = "Source tile prefetch depth")
+    private int prefetchDepth;
+
+    @Parameter(defaultValue = "0", interval = "[0,16]",
+            description = "Level of the source image pyramids which is classified, 0 for full resolution. Level N " +
+                    "has 1/2^N of the width and height, e.g. for quick-looks. The target product has the size of " +
+                    "the level. Unless the source reader provides the level images itself, they are downsampled " +
+                    "from the full resolution, which is still read completely.",
+            label = "Pyramid level")
+    private int pyramidLevel;
+
+    @SourceProduct(description = "Source product",
+            label = "Classification input product")
+    private Product sourceProduct;
+
+    @TargetProduct(description = "The target product.")
+    private Product targetProduct;
+
+    // the source product, or its view at the pyramid level
+    private Product levelProduct;
+
+    private TileStackClassifier tileStackClassifier;
+    private CachingRowClassifier decisionCache;
+    private Band[] sourceBands;
+    private Mask invalidPixelMask;
+    private ClassifierMetrics metrics;
+    private SourceTilePrefetcher sourceTilePrefetcher;
+
+    @Override
+    public void initialize() throws OperatorException {
+        if (collectMetrics) {
+            metrics = new ClassifierMetrics();
+        }
+        try {
+            RowClassifier rowClassifier = createRowClassifier();
+            levelProduct = pyramidLevel > 0 ? PyramidLevels.createLevelProduct(sourceProduct, pyramidLevel) :
+                    sourceProduct;
+            if (decisionCacheSize > 0) {
+                decisionCache = new CachingRowClassifier(rowClassifier, decisionCacheSize,
+                                                         decisionCacheQuantizationStep);
+                rowClassifier = decisionCache;
+            }
+            tileStackClassifier = new TileStackClassifier(rowClassifier, getClassValues(), createInvalidOutputs(),
+                                                          topKOutput() ? topK : 0, metrics);
+            sourceBands = bindSourceBands(levelProduct);
+            invalidPixelMask = InvalidPixelMask.createMask(levelProduct, skipInvalidPixels ? sourceBands : new Band[0],
+                                                           nodataExpression, roiExpression);
+
+            createTargetProduct();
+            if (prefetchDepth > 0) {
+                sourceTilePrefetcher = new SourceTilePrefetcher(sourceBands, invalidPixelMask,
+                                                                new Dimension(levelProduct.getSceneRasterWidth(),
+                                                                              levelProduct.getSceneRasterHeight()),
+                                                                prefetchDepth);
+            }
+            if (metrics != null) {
+                metrics.register(getClass().getAnnotation(OperatorMetadata.class).alias());
+            }
+        } catch (IOException | DecTreeParseException e) {
+            throw new OperatorException("Decision tree could not be loaded: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (metrics != null) {
+            SystemUtils.LOG.info("Classifier metrics: " + metrics.getSummary());
+            metrics.unregister();
+        }
+        if (sourceTilePrefetcher != null) {
+            sourceTilePrefetcher.dispose();
+        }
+        if (decisionCache != null) {
+            SystemUtils.LOG.info(String.format("Decision cache: %d hits, %d misses.",
+                                               decisionCache.getHitCount(), decisionCache.getMissCount()));
+        }
+        if (levelProduct != null && levelProduct != sourceProduct) {
+            levelProduct.dispose();
+        }
+        super.dispose();
+    }
+
+    @Override
+    public void computeTileStack(Map<Band, Tile> targetTiles, Rectangle targetRectangle, ProgressMonitor pm) throws OperatorException {
+        final TargetRows targetRows = TargetRows.create(targetTiles, targetProduct, getOutputNames(),
+                                                        tileStackClassifier.getTopK());
+
+        final long tileStart = metrics != null ? System.nanoTime() : 0L;
+        InvalidPixelMask invalidPixels = null;
+        if (invalidPixelMask != null) {
+            invalidPixels = new InvalidPixelMask(getSourceTile(invalidPixelMask, targetRectangle));
+            if (invalidPixels.isAllInvalid()) {
+                if (metrics != null) {
+                    metrics.addSourceFetch(System.nanoTime() - tileStart);
+                }
+                tileStackClassifier.fill(targetRows, targetRectangle);
+                if (metrics != null) {
+                    metrics.addTile(System.nanoTime() - tileStart);
+                }
+                return;
+            }
+        }
+
+        TileRowReader[] srcTile = new TileRowReader[sourceBands.length];
+        for (int i = 0; i < sourceBands.length; i++) {
+            srcTile[i] = new TileRowReader(getSourceTile(sourceBands[i], targetRectangle));
+        }
+        if (metrics != null) {
+            metrics.addSourceFetch(System.nanoTime() - tileStart);
+        }
+        if (sourceTilePrefetcher != null && targetProduct.getPreferredTileSize() != null) {
+            sourceTilePrefetcher.prefetchAfter(targetRectangle, targetProduct.getPreferredTileSize());
+        }
+
+        tileStackClassifier.compute(srcTile, targetRows, invalidPixels, targetRectangle, tileStripeHeight, pm,
+                                    this::checkForCancellation);
+        if (metrics != null) {
+            metrics.addTile(System.nanoTime() - tileStart);
+        }
+    }
+
+    /**
+     * Creates the classifier of the decision tree, called first in {@link #initialize()}.
+     */
+    protected abstract RowClassifier createRowClassifier() throws IOException, DecTreeParseException;
+
+    /**
+     * @return the final class value for each class membership output
+     */
+    protected abstract int[] getClassValues();
+
+    /**
+     * @return the outputs for pixels which are not classified
+     */
+    protected abstract float[] createInvalidOutputs();
+
+    /**
+     * @param product the source product, or its view at the pyramid level
+     * @return the source band of each input of the decision tree
+     */
+    protected abstract Band[] bindSourceBands(Product product);
+
+    /**
+     * @return the palette points of the classes, with the class values as samples and the class names as labels
+     */
+    protected abstract ColorPaletteDef.Point[] createClassPoints();
+
+    /**
+     * @return whether the rules of subtrees whose truth value is zero may be skipped
+     */
+    protected boolean isShortCircuit() {
+        return shortCircuit;
+    }
+
+    abstract String[] getOutputNames();
+
+    Band[] getSourceBands() {
+        return sourceBands;
+    }
+
+    Mask getInvalidPixelMask() {
+        return invalidPixelMask;
+    }
+
+    TileStackClassifier getTileStackClassifier() {
+        return tileStackClassifier;
+    }
+
+    private void createTargetProduct() {
+        final int w = levelProduct.getSceneRasterWidth();
+        final int h = levelProduct.getSceneRasterHeight();
+        targetProduct = new Product(sourceProduct.getName(), sourceProduct.getProductType(), w, h);
+
+        ProductUtils.copyMetadata(sourceProduct, targetProduct);
+        ProductUtils.copyGeoCoding(levelProduct, targetProduct);
+        targetProduct.setStartTime(sourceProduct.getStartTime());
+        targetProduct.setEndTime(sourceProduct.getEndTime());
+
+        if (topKOutput()) {
+            addTopKBands();
+            return;
+        }
+        if (GenericClassifierConstants.OUTPUT_MODE_ALL.equals(outputMode)) {
+            final String[] outputNames = getOutputNames();
+            // the last output is not a membership
+            for (int i = 0; i < outputNames.length - 1; i++) {
+                MembershipEncoding.addBand(targetProduct, outputNames[i], membershipEncoding);
+            }
+            targetProduct.addBand(outputNames[outputNames.length - 1], ProductData.TYPE_FLOAT32);
+        }
+        if (!GenericClassifierConstants.OUTPUT_MODE_CLASS.equals(outputMode)) {
+            MembershipEncoding.addBand(targetProduct, GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME,
+                                       membershipEncoding);
+        }
+        addClassBands(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
+    }
+
+    private boolean topKOutput() {
+        return GenericClassifierConstants.OUTPUT_MODE_TOP_K.equals(outputMode);
+    }
+
+    private void addTopKBands() {
+        final String[] classBandNames = new String[topK];
+        for (int j = 0; j < topK; j++) {
+            classBandNames[j] = GenericClassifierConstants.TOP_CLASS_BAND_PREFIX + (j + 1);
+        }
+        addClassBands(classBandNames);
+        for (int j = 0; j < topK; j++) {
+            // places without a class
+            targetProduct.getBand(classBandNames[j]).setNoDataValue(-1);
+            targetProduct.getBand(classBandNames[j]).setNoDataValueUsed(true);
+            MembershipEncoding.addBand(targetProduct, GenericClassifierConstants.TOP_MEMBERSHIP_BAND_PREFIX + (j + 1),
+                                       membershipEncoding);
+        }
+    }
+
+    // the class bands share the index coding
+    private void addClassBands(String... bandNames) {
+        final IndexCoding finalClassIndexCoding =
+                new IndexCoding(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
+
+        final ColorPaletteDef.Point[] points = createClassPoints();
+        for (ColorPaletteDef.Point point : points) {
+            finalClassIndexCoding.addIndex(point.getLabel(), (int) point.getSample(), point.getLabel());
+        }
+        for (String bandName : bandNames) {
+            final Band classBand = targetProduct.addBand(bandName, ProductData.TYPE_INT8);
+            final ColorPaletteDef cpd = new ColorPaletteDef(points);
+            final ImageInfo imageInfo = new ImageInfo(cpd);
+            classBand.setImageInfo(imageInfo);
+            classBand.setSampleCoding(finalClassIndexCoding);
+        }
+
+        targetProduct.getIndexCodingGroup().add(finalClassIndexCoding);
+    }
+}
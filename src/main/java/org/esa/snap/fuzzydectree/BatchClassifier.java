@@ -0,0 +1,196 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeParseException;
+import org.esa.snap.core.dataio.ProductIO;
+import org.esa.snap.core.dataio.ProductWriter;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.gpf.OperatorException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Classifies many products in one JVM, e.g. the granules of a nightly run. The decision tree is parsed once and
+ * the classifier code stays compiled across products, so small products do not pay parsing and warm-up again.
+ * <p>
+ * Products are processed by a bounded number of product threads: while one product is classified, others are
+ * read or written. The classification of all products shares one fork/join pool, see {@link ProductClassifier}.
+ */
+public final class BatchClassifier {
+
+    public static final int DEFAULT_CONCURRENT_PRODUCTS = 2;
+
+    private final File treeFile;
+    private final Map<String, String> parameters;
+    private final ForkJoinPool pool;
+    private final int stripeHeight;
+    private final String format;
+
+    /**
+     * @param treeFile     the decision tree yml file, or {@code null} for the intertidal flat classifier
+     * @param parameters   the operator parameters, as given on the command line
+     * @param pool         the pool classifying the stripes of all products
+     * @param stripeHeight the number of scanlines classified together
+     * @param format       the target product format
+     * @throws IOException           if the tree file cannot be read
+     * @throws DecTreeParseException if the tree file is invalid
+     */
+    public BatchClassifier(File treeFile, Map<String, String> parameters, ForkJoinPool pool, int stripeHeight,
+                           String format) throws IOException, DecTreeParseException {
+        if (treeFile != null) {
+            // parsed here once, the operators of all products get the function from the cache
+            DecTreeFunctionCache.load(treeFile);
+        }
+        this.treeFile = treeFile;
+        this.parameters = new LinkedHashMap<>(parameters);
+        this.pool = pool;
+        this.stripeHeight = stripeHeight;
+        this.format = format;
+    }
+
+    /**
+     * Resolves source product paths. A path whose file name contains glob characters, e.g.
+     * {@code /data/S2*_MSIL2A*.dim}, stands for the matching files of its directory, in name order.
+     *
+     * @throws IOException if a path without glob characters does not exist or a directory cannot be listed
+     */
+    public static List<File> findSources(List<String> paths) throws IOException {
+        final List<File> sourceFiles = new ArrayList<>();
+        for (String path : paths) {
+            final File file = new File(path);
+            final String name = file.getName();
+            if (name.indexOf('*') < 0 && name.indexOf('?') < 0 && name.indexOf('[') < 0 && name.indexOf('{') < 0) {
+                if (!file.exists()) {
+                    throw new IOException("Source product '" + path + "' not found.");
+                }
+                sourceFiles.add(file);
+                continue;
+            }
+            final File dir = file.getAbsoluteFile().getParentFile();
+            final List<File> matches = new ArrayList<>();
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir.toPath(), name)) {
+                for (Path match : stream) {
+                    matches.add(match.toFile());
+                }
+            }
+            Collections.sort(matches);
+            sourceFiles.addAll(matches);
+        }
+        return sourceFiles;
+    }
+
+    /**
+     * Classifies all source products into the target directory. A product which fails is reported and does not
+     * stop the others. A product whose target product would have the same name as the one of a previous product,
+     * e.g. products of the same name from different directories, fails without being read.
+     *
+     * @param sourceFiles        the source products
+     * @param targetDir          the directory of the target products, named like the source products
+     * @param concurrentProducts the maximum number of products read, classified or written at the same time
+     * @param out                receives a line per classified product
+     * @param err                receives a line per failed product
+     * @return the number of failed products
+     */
+    public int classify(List<File> sourceFiles, File targetDir, int concurrentProducts, PrintStream out,
+                        PrintStream err) {
+        if (concurrentProducts <= 0) {
+            throw new IllegalArgumentException("concurrentProducts must be positive");
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(concurrentProducts);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            final Map<String, File> baseNames = new HashMap<>();
+            for (File sourceFile : sourceFiles) {
+                final File previous = baseNames.putIfAbsent(getBaseName(sourceFile), sourceFile);
+                if (previous != null) {
+                    // both would be written to the same target file at the same time
+                    final CompletableFuture<String> duplicate = new CompletableFuture<>();
+                    duplicate.completeExceptionally(new IOException("target product would overwrite the one of " +
+                                                                            previous));
+                    results.add(duplicate);
+                    continue;
+                }
+                results.add(executor.submit(() -> classifyProduct(sourceFile, targetDir)));
+            }
+            int numFailed = 0;
+            for (int i = 0; i < results.size(); i++) {
+                try {
+                    out.println(results.get(i).get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    err.println("Error: batch interrupted.");
+                    return numFailed + results.size() - i;
+                } catch (ExecutionException e) {
+                    err.println("Error: " + sourceFiles.get(i) + ": " + e.getCause().getMessage());
+                    numFailed++;
+                }
+            }
+            return numFailed;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String classifyProduct(File sourceFile, File targetDir) throws IOException {
+        final long t0 = System.nanoTime();
+        final Product sourceProduct = ProductIO.readProduct(sourceFile);
+        if (sourceProduct == null) {
+            throw new IOException("no reader found");
+        }
+        AbstractClassifierOp operator = null;
+        try {
+            operator = ClassifierCli.createOperator(treeFile, parameters, sourceProduct);
+            final ProductClassifier classifier = new ProductClassifier(operator);
+            final ProductWriter writer = ProductIO.getProductWriter(format);
+            if (writer == null) {
+                throw new IOException("no writer found for format '" + format + "'");
+            }
+            final File targetFile = new File(targetDir, getBaseName(sourceFile) +
+                    writer.getWriterPlugIn().getDefaultFileExtensions()[0]);
+            if (targetFile.getAbsoluteFile().equals(sourceFile.getAbsoluteFile())) {
+                throw new IOException("target product would overwrite the source product");
+            }
+            writer.writeProductNodes(classifier.getTargetProduct(), targetFile);
+            try {
+                classifier.classify(pool, stripeHeight, writer);
+            } finally {
+                writer.close();
+            }
+            // the target product is smaller than the source product at a pyramid level
+            final Product targetProduct = classifier.getTargetProduct();
+            final long numPixels = (long) targetProduct.getSceneRasterWidth() * targetProduct.getSceneRasterHeight();
+            return String.format("%s: classified %d pixels in %d ms", targetFile, numPixels,
+                                 (System.nanoTime() - t0) / 1000000);
+        } catch (OperatorException | IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        } finally {
+            // also stops the prefetching and unregisters the metrics if the classification failed
+            if (operator != null) {
+                operator.dispose();
+            }
+            sourceProduct.dispose();
+        }
+    }
+
+    private static String getBaseName(File file) {
+        final String name = file.getName();
+        final int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
@@ -0,0 +1,270 @@
+package org.esa.snap.fuzzydectree;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Memoizes the results of another {@link RowClassifier} for recurring input vectors, as found in large
+ * homogeneous areas like open water, sand banks or nodata borders.
+ * <p>
+ * Each thread keeps a bounded open-addressing cache. Only the pixels missing in the cache are passed to the
+ * wrapped classifier, in one call per row. If a quantization step is given, input samples are rounded to
+ * multiples of it before classification, so that nearby vectors share a cache entry; results then equal the
+ * classification of the rounded inputs. Without quantization, vectors are only shared if all samples are
+ * bitwise equal and results are exact.
+ */
+final class CachingRowClassifier implements RowClassifier {
+
+    static final int MAX_CAPACITY = 1 << 20;
+
+    private static final int MAX_PROBES = 4;
+    private static final int NAN_KEY = Integer.MIN_VALUE;
+
+    private final RowClassifier classifier;
+    private final int capacity;
+    private final float quantizationStep;
+    private final ThreadLocal<Cache> caches;
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+
+    /**
+     * @param classifier       the classifier whose results are cached
+     * @param capacity         the maximum number of cached input vectors per thread, rounded up to a power of 2
+     * @param quantizationStep the step input samples are rounded to, or 0 to cache exact input vectors
+     */
+    CachingRowClassifier(RowClassifier classifier, int capacity, float quantizationStep) {
+        if (capacity <= 0 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be in the range 1 to " + MAX_CAPACITY);
+        }
+        if (!(quantizationStep >= 0.0F)) {
+            throw new IllegalArgumentException("quantizationStep must not be negative");
+        }
+        this.classifier = classifier;
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.quantizationStep = quantizationStep;
+        this.caches = ThreadLocal.withInitial(Cache::new);
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+    }
+
+    @Override
+    public int getInputSize() {
+        return classifier.getInputSize();
+    }
+
+    @Override
+    public int getOutputSize() {
+        return classifier.getOutputSize();
+    }
+
+    /**
+     * @return the number of pixels whose result was found in a cache
+     */
+    long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * @return the number of pixels passed to the wrapped classifier
+     */
+    long getMissCount() {
+        return missCount.sum();
+    }
+
+    @Override
+    public void apply(float[][] inputs, float[][] outputs, int offset, int length) {
+        final Cache cache = caches.get();
+        final int numMisses = cache.lookup(inputs, outputs, offset, length);
+        if (numMisses > 0) {
+            try {
+                classifier.apply(cache.missInputs, cache.missOutputs, 0, numMisses);
+            } catch (Throwable t) {
+                cache.discard(numMisses);
+                throw t;
+            }
+            cache.store(outputs, numMisses);
+        }
+        hitCount.add(length - numMisses);
+        missCount.add(numMisses);
+    }
+
+    private int quantize(float sample) {
+        if (quantizationStep == 0.0F) {
+            return Float.floatToIntBits(sample);
+        }
+        if (sample != sample) {
+            return NAN_KEY;
+        }
+        final int key = Math.round(sample / quantizationStep);
+        return key == NAN_KEY ? NAN_KEY + 1 : key;
+    }
+
+    private float dequantize(int key) {
+        if (quantizationStep == 0.0F) {
+            return Float.intBitsToFloat(key);
+        }
+        return key == NAN_KEY ? Float.NaN : key * quantizationStep;
+    }
+
+    private static int hash(int[] key, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + key[i];
+        }
+        // spread the bits, like the murmur3 finalizer
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    // Open-addressing table of input vectors and their outputs. A key is probed at up to MAX_PROBES
+    // consecutive slots. If all of them are taken by other keys, one of them is evicted round robin.
+    // Missing keys get their slot right away, marked as pending for the current row, so that further
+    // pixels of the row with the same key are served by the same evaluation.
+    private final class Cache {
+
+        final int numInputs = getInputSize();
+        final int numOutputs = getOutputSize();
+        final int[] keys = new int[capacity * numInputs];
+        final float[] values = new float[capacity * numOutputs];
+        final boolean[] used = new boolean[capacity];
+        final long[] pendingRows = new long[capacity];
+        final int[] pendingMisses = new int[capacity];
+        final int[] pixelKey = new int[numInputs];
+        long row;
+        int evictionCounter;
+
+        // the pixels of the current row missing in the cache, their slots and their positions in the row
+        float[][] missInputs = new float[numInputs][0];
+        float[][] missOutputs = new float[numOutputs][0];
+        int[] missSlots = new int[0];
+        int[] missPixels = new int[0];
+        // the pixels of the current row sharing the key of an earlier miss, and the index of that miss
+        int[] duplicatePixels = new int[0];
+        int[] duplicateMisses = new int[0];
+        int numDuplicates;
+
+        int lookup(float[][] inputs, float[][] outputs, int offset, int length) {
+            ensureCapacity(length);
+            row++;
+            numDuplicates = 0;
+            int numMisses = 0;
+            for (int k = offset; k < offset + length; k++) {
+                for (int i = 0; i < numInputs; i++) {
+                    pixelKey[i] = quantize(inputs[i][k]);
+                }
+                int slot = find(pixelKey);
+                if (slot >= 0 && pendingRows[slot] == row) {
+                    duplicatePixels[numDuplicates] = k;
+                    duplicateMisses[numDuplicates] = pendingMisses[slot];
+                    numDuplicates++;
+                } else if (slot >= 0) {
+                    for (int j = 0; j < numOutputs; j++) {
+                        outputs[j][k] = values[slot * numOutputs + j];
+                    }
+                } else {
+                    for (int i = 0; i < numInputs; i++) {
+                        missInputs[i][numMisses] = dequantize(pixelKey[i]);
+                    }
+                    slot = insert(pixelKey);
+                    pendingRows[slot] = row;
+                    pendingMisses[slot] = numMisses;
+                    missSlots[numMisses] = slot;
+                    missPixels[numMisses] = k;
+                    numMisses++;
+                }
+            }
+            return numMisses;
+        }
+
+        void store(float[][] outputs, int numMisses) {
+            for (int m = 0; m < numMisses; m++) {
+                final int k = missPixels[m];
+                for (int j = 0; j < numOutputs; j++) {
+                    outputs[j][k] = missOutputs[j][m];
+                }
+                if (ownsSlot(m)) {
+                    final int slot = missSlots[m];
+                    for (int j = 0; j < numOutputs; j++) {
+                        values[slot * numOutputs + j] = missOutputs[j][m];
+                    }
+                }
+            }
+            for (int d = 0; d < numDuplicates; d++) {
+                final int k = duplicatePixels[d];
+                final int m = duplicateMisses[d];
+                for (int j = 0; j < numOutputs; j++) {
+                    outputs[j][k] = missOutputs[j][m];
+                }
+            }
+        }
+
+        void discard(int numMisses) {
+            for (int m = 0; m < numMisses; m++) {
+                if (ownsSlot(m)) {
+                    used[missSlots[m]] = false;
+                }
+            }
+        }
+
+        // a pending slot may have been evicted by a later miss of the same row
+        private boolean ownsSlot(int m) {
+            final int slot = missSlots[m];
+            return pendingRows[slot] == row && pendingMisses[slot] == m;
+        }
+
+        private int find(int[] key) {
+            final int h = hash(key, 0, numInputs);
+            for (int p = 0; p < MAX_PROBES; p++) {
+                final int slot = (h + p) & (capacity - 1);
+                if (!used[slot]) {
+                    return -1;
+                }
+                if (keyEquals(slot, key)) {
+                    return slot;
+                }
+            }
+            return -1;
+        }
+
+        private int insert(int[] key) {
+            final int h = hash(key, 0, numInputs);
+            int slot = -1;
+            for (int p = 0; p < MAX_PROBES && slot < 0; p++) {
+                final int candidate = (h + p) & (capacity - 1);
+                if (!used[candidate]) {
+                    slot = candidate;
+                }
+            }
+            if (slot < 0) {
+                slot = (h + (evictionCounter++ & (MAX_PROBES - 1))) & (capacity - 1);
+            }
+            System.arraycopy(key, 0, keys, slot * numInputs, numInputs);
+            used[slot] = true;
+            return slot;
+        }
+
+        private boolean keyEquals(int slot, int[] key) {
+            final int slotOffset = slot * numInputs;
+            for (int i = 0; i < numInputs; i++) {
+                if (keys[slotOffset + i] != key[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void ensureCapacity(int length) {
+            if (missPixels.length < length) {
+                missInputs = new float[numInputs][length];
+                missOutputs = new float[numOutputs][length];
+                missSlots = new int[length];
+                missPixels = new int[length];
+                duplicatePixels = new int[length];
+                duplicateMisses = new int[length];
+            }
+        }
+    }
+}
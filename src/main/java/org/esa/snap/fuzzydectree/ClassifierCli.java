@@ -0,0 +1,284 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeParseException;
+import org.esa.snap.core.dataio.ProductIO;
+import org.esa.snap.core.dataio.ProductWriter;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.gpf.Operator;
+import org.esa.snap.core.gpf.OperatorException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line entry point classifying a single product outside the GPF graph, for jobs where the startup and
+ * scheduling overhead of {@code gpt} matters. The product is read with the SNAP readers on the classpath,
+ * classified by a {@link ProductClassifier} and streamed to a product writer.
+ * <p>
+ * Operator parameters are given like with {@code gpt}, e.g. {@code -PoutputMode=class}. With {@code -points},
+ * the rows of a CSV file are classified instead, by a {@link PointClassifier}. With {@code -batch}, many products
+ * are classified in one run by a {@link BatchClassifier}.
+ */
+public final class ClassifierCli {
+
+    static final String USAGE =
+            "Usage: ClassifierCli [options] <source product> <target file>\n" +
+            "       ClassifierCli [options] -batch <target dir> <source product or glob>...\n" +
+            "Options:\n" +
+            "  -tree <file>      classify with a decision tree yml file, like GenericClassifier\n" +
+            "                    (default: IntertidalFlatClassifier)\n" +
+            "  -P<name>=<value>  operator parameter\n" +
+            "  -threads <n>      number of classifying threads (default: number of processors)\n" +
+            "  -stripe <n>       number of scanlines classified together (default: " +
+            ProductClassifier.DEFAULT_STRIPE_HEIGHT + ")\n" +
+            "  -f <format>       target product format (default: BEAM-DIMAP)\n" +
+            "  -points           classify the rows of a CSV source file into a CSV target file, see PointClassifier\n" +
+            "  -batch <dir>      classify all source products into the target directory, see BatchClassifier\n" +
+            "  -products <n>     number of products processed at the same time with -batch (default: " +
+            BatchClassifier.DEFAULT_CONCURRENT_PRODUCTS + ")\n";
+
+    private ClassifierCli() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    /**
+     * @return the exit code
+     */
+    static int run(String[] args, PrintStream out, PrintStream err) {
+        File treeFile = null;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int stripeHeight = ProductClassifier.DEFAULT_STRIPE_HEIGHT;
+        String format = "BEAM-DIMAP";
+        boolean points = false;
+        File batchDir = null;
+        int concurrentProducts = BatchClassifier.DEFAULT_CONCURRENT_PRODUCTS;
+        final List<String> sourcePaths = new ArrayList<>();
+        final Map<String, String> parameters = new LinkedHashMap<>();
+        File sourceFile = null;
+        File targetFile = null;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                final String arg = args[i];
+                if (arg.equals("-tree")) {
+                    treeFile = new File(optionValue(args, ++i, arg));
+                } else if (arg.equals("-threads")) {
+                    threads = Integer.parseInt(optionValue(args, ++i, arg));
+                } else if (arg.equals("-stripe")) {
+                    stripeHeight = Integer.parseInt(optionValue(args, ++i, arg));
+                } else if (arg.equals("-f")) {
+                    format = optionValue(args, ++i, arg);
+                } else if (arg.equals("-points")) {
+                    points = true;
+                } else if (arg.equals("-batch")) {
+                    batchDir = new File(optionValue(args, ++i, arg));
+                } else if (arg.equals("-products")) {
+                    concurrentProducts = Integer.parseInt(optionValue(args, ++i, arg));
+                } else if (arg.startsWith("-P") && arg.indexOf('=') > 2) {
+                    parameters.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+                } else if (arg.startsWith("-")) {
+                    throw new IllegalArgumentException("Unknown option '" + arg + "'.");
+                } else if (batchDir != null) {
+                    sourcePaths.add(arg);
+                } else if (sourceFile == null) {
+                    sourceFile = new File(arg);
+                } else if (targetFile == null) {
+                    targetFile = new File(arg);
+                } else {
+                    throw new IllegalArgumentException("Unexpected argument '" + arg + "'.");
+                }
+            }
+            if (batchDir != null) {
+                if (sourceFile != null || points) {
+                    throw new IllegalArgumentException("Option -batch must precede the source products and " +
+                                                               "cannot be combined with -points.");
+                }
+                if (sourcePaths.isEmpty()) {
+                    throw new IllegalArgumentException("Source products are required.");
+                }
+            } else if (targetFile == null) {
+                throw new IllegalArgumentException("Source product and target file are required.");
+            }
+            if (threads <= 0 || stripeHeight <= 0 || concurrentProducts <= 0) {
+                throw new IllegalArgumentException("Threads, stripe height and products must be positive.");
+            }
+        } catch (IllegalArgumentException e) {
+            err.println("Error: " + e.getMessage());
+            err.print(USAGE);
+            return 1;
+        }
+
+        if (points) {
+            return runPoints(treeFile, sourceFile, targetFile, out, err);
+        }
+
+        if (batchDir != null) {
+            return runBatch(treeFile, parameters, threads, stripeHeight, format, sourcePaths, batchDir,
+                            concurrentProducts, out, err);
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        Product sourceProduct = null;
+        AbstractClassifierOp operator = null;
+        try {
+            long t0 = System.nanoTime();
+            sourceProduct = ProductIO.readProduct(sourceFile);
+            if (sourceProduct == null) {
+                err.println("Error: no reader found for '" + sourceFile + "'.");
+                return 2;
+            }
+            final long readTime = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            operator = createOperator(treeFile, parameters, sourceProduct);
+            final ProductClassifier classifier = new ProductClassifier(operator);
+            final ProductWriter writer = ProductIO.getProductWriter(format);
+            if (writer == null) {
+                err.println("Error: no writer found for format '" + format + "'.");
+                return 2;
+            }
+            writer.writeProductNodes(classifier.getTargetProduct(), targetFile);
+            final long setupTime = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            try {
+                classifier.classify(pool, stripeHeight, writer);
+            } finally {
+                writer.close();
+            }
+            final long classifyTime = System.nanoTime() - t0;
+
+            // the target product is smaller than the source product at a pyramid level
+            final Product targetProduct = classifier.getTargetProduct();
+            final long numPixels = (long) targetProduct.getSceneRasterWidth() * targetProduct.getSceneRasterHeight();
+            out.printf("Read source in %d ms, set up in %d ms, classified %d pixels in %d ms (%.1f Mpixel/s)%n",
+                       readTime / 1000000, setupTime / 1000000, numPixels, classifyTime / 1000000,
+                       numPixels * 1.0e3 / Math.max(classifyTime, 1));
+            return 0;
+        } catch (IOException | OperatorException | IllegalArgumentException e) {
+            err.println("Error: " + e.getMessage());
+            return 2;
+        } finally {
+            pool.shutdown();
+            // also stops the prefetching and unregisters the metrics if the classification failed
+            if (operator != null) {
+                operator.dispose();
+            }
+            if (sourceProduct != null) {
+                sourceProduct.dispose();
+            }
+        }
+    }
+
+    private static int runPoints(File treeFile, File sourceFile, File targetFile, PrintStream out, PrintStream err) {
+        try (BufferedReader reader = Files.newBufferedReader(sourceFile.toPath(), StandardCharsets.UTF_8);
+             Writer writer = Files.newBufferedWriter(targetFile.toPath(), StandardCharsets.UTF_8)) {
+            final long t0 = System.nanoTime();
+            final PointClassifier classifier = treeFile != null ?
+                    PointClassifier.createGeneric(treeFile) : PointClassifier.createIntertidal();
+            final long numPoints = classifier.classify(reader, writer, PointClassifier.DEFAULT_CHUNK_SIZE);
+            final long time = System.nanoTime() - t0;
+            out.printf("Classified %d points in %d ms%n", numPoints, time / 1000000);
+            return 0;
+        } catch (IOException | DecTreeParseException e) {
+            err.println("Error: " + e.getMessage());
+            return 2;
+        }
+    }
+
+    /**
+     * Creates the operator configuring the classification of a source product, a {@link GenericClassifierOp}
+     * if a tree file is given, else an {@link IntertidalFlatClassifierOp}.
+     */
+    static AbstractClassifierOp createOperator(File treeFile, Map<String, String> parameters,
+                                               Product sourceProduct) {
+        final AbstractClassifierOp operator = treeFile != null ? new GenericClassifierOp() : new IntertidalFlatClassifierOp();
+        if (treeFile != null) {
+            operator.setParameter("yamlFile", treeFile);
+        }
+        for (Map.Entry<String, String> parameter : parameters.entrySet()) {
+            operator.setParameter(parameter.getKey(),
+                                  parseParameter(operator, parameter.getKey(), parameter.getValue()));
+        }
+        operator.setSourceProduct(sourceProduct);
+        return operator;
+    }
+
+    private static int runBatch(File treeFile, Map<String, String> parameters, int threads, int stripeHeight,
+                                String format, List<String> sourcePaths, File targetDir, int concurrentProducts,
+                                PrintStream out, PrintStream err) {
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            final long t0 = System.nanoTime();
+            final List<File> sourceFiles = BatchClassifier.findSources(sourcePaths);
+            if (!targetDir.isDirectory() && !targetDir.mkdirs()) {
+                err.println("Error: cannot create target directory '" + targetDir + "'.");
+                return 2;
+            }
+            final BatchClassifier classifier = new BatchClassifier(treeFile, parameters, pool, stripeHeight, format);
+            final int numFailed = classifier.classify(sourceFiles, targetDir, concurrentProducts, out, err);
+            out.printf("Classified %d of %d products in %d ms%n", sourceFiles.size() - numFailed,
+                       sourceFiles.size(), (System.nanoTime() - t0) / 1000000);
+            return numFailed > 0 ? 3 : 0;
+        } catch (IOException | DecTreeParseException e) {
+            err.println("Error: " + e.getMessage());
+            return 2;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String optionValue(String[] args, int i, String option) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value of option '" + option + "'.");
+        }
+        return args[i];
+    }
+
+    /**
+     * Converts a parameter value to the type of the operator field holding it.
+     */
+    static Object parseParameter(Operator operator, String name, String value) {
+        Class<?> type = null;
+        // the shared parameters are declared by the base class
+        for (Class<?> c = operator.getClass(); c != null && type == null; c = c.getSuperclass()) {
+            try {
+                type = c.getDeclaredField(name).getType();
+            } catch (NoSuchFieldException e) {
+                // look in the superclass
+            }
+        }
+        if (type == null) {
+            throw new IllegalArgumentException("Unknown parameter '" + name + "'.");
+        }
+        if (type == String.class) {
+            return value;
+        } else if (type == String[].class) {
+            return value.split(",");
+        } else if (type == File.class) {
+            return new File(value);
+        } else if (type == int.class) {
+            return Integer.parseInt(value);
+        } else if (type == float.class) {
+            return Float.parseFloat(value);
+        } else if (type == double.class) {
+            return Double.parseDouble(value);
+        } else if (type == boolean.class) {
+            return Boolean.parseBoolean(value);
+        }
+        throw new IllegalArgumentException("Parameter '" + name + "' of type " + type.getSimpleName() +
+                                                   " is not supported.");
+    }
+}
@@ -0,0 +1,153 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.util.SystemUtils;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+
+/**
+ * Counters, stage times and tile latencies of a classifier operator. All updates are {@link LongAdder}
+ * increments or lock-free histogram records, so concurrent tile computations do not contend.
+ */
+final class ClassifierMetrics implements ClassifierMetricsMXBean {
+
+    private static final AtomicInteger INSTANCE_COUNTER = new AtomicInteger();
+
+    private final LongAdder tileCount = new LongAdder();
+    private final LongAdder classifiedPixelCount = new LongAdder();
+    private final LongAdder skippedPixelCount = new LongAdder();
+    private final LongAdder sourceFetchNanos = new LongAdder();
+    private final LongAdder sampleReadNanos = new LongAdder();
+    private final LongAdder classificationNanos = new LongAdder();
+    private final LongAdder targetWriteNanos = new LongAdder();
+    private final LongAdder tileNanos = new LongAdder();
+    private final LatencyHistogram tileLatencies = new LatencyHistogram();
+    private ObjectName objectName;
+
+    void addSourceFetch(long nanos) {
+        sourceFetchNanos.add(nanos);
+    }
+
+    void addRow(int numClassified, int numSkipped, long readNanos, long classificationNanos, long writeNanos) {
+        classifiedPixelCount.add(numClassified);
+        skippedPixelCount.add(numSkipped);
+        sampleReadNanos.add(readNanos);
+        this.classificationNanos.add(classificationNanos);
+        targetWriteNanos.add(writeNanos);
+    }
+
+    void addSkipped(long numSkipped) {
+        skippedPixelCount.add(numSkipped);
+    }
+
+    void addTile(long nanos) {
+        tileCount.increment();
+        tileNanos.add(nanos);
+        tileLatencies.record(nanos);
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server. Failures are logged only.
+     */
+    void register(String operatorName) {
+        try {
+            final ObjectName name = new ObjectName("org.esa.snap.fuzzydectree:type=ClassifierMetrics,operator=" +
+                                                           operatorName + ",id=" + INSTANCE_COUNTER.incrementAndGet());
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            objectName = name;
+        } catch (JMException e) {
+            SystemUtils.LOG.log(Level.WARNING, "Classifier metrics not registered: " + e.getMessage(), e);
+        }
+    }
+
+    void unregister() {
+        if (objectName != null) {
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            try {
+                server.unregisterMBean(objectName);
+            } catch (JMException e) {
+                SystemUtils.LOG.log(Level.WARNING, "Classifier metrics not unregistered: " + e.getMessage(), e);
+            }
+            objectName = null;
+        }
+    }
+
+    String getSummary() {
+        return String.format("%d tiles, %d pixels classified, %d pixels skipped, %.1f Mpixel/s; " +
+                                     "time in source fetch %d ms, sample read %d ms, classification %d ms, " +
+                                     "target write %d ms; tile latency p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, " +
+                                     "max %.2f ms",
+                             getTileCount(), getClassifiedPixelCount(), getSkippedPixelCount(),
+                             getPixelsPerSecond() / 1.0e6,
+                             getSourceFetchNanos() / 1000000, getSampleReadNanos() / 1000000,
+                             getClassificationNanos() / 1000000, getTargetWriteNanos() / 1000000,
+                             getTileLatencyMillisP50(), getTileLatencyMillisP90(), getTileLatencyMillisP99(),
+                             getTileLatencyMillisMax());
+    }
+
+    @Override
+    public long getTileCount() {
+        return tileCount.sum();
+    }
+
+    @Override
+    public long getClassifiedPixelCount() {
+        return classifiedPixelCount.sum();
+    }
+
+    @Override
+    public long getSkippedPixelCount() {
+        return skippedPixelCount.sum();
+    }
+
+    @Override
+    public long getSourceFetchNanos() {
+        return sourceFetchNanos.sum();
+    }
+
+    @Override
+    public long getSampleReadNanos() {
+        return sampleReadNanos.sum();
+    }
+
+    @Override
+    public long getClassificationNanos() {
+        return classificationNanos.sum();
+    }
+
+    @Override
+    public long getTargetWriteNanos() {
+        return targetWriteNanos.sum();
+    }
+
+    @Override
+    public double getPixelsPerSecond() {
+        final long nanos = tileNanos.sum();
+        return nanos > 0 ? getClassifiedPixelCount() * 1.0e9 / nanos : 0.0;
+    }
+
+    @Override
+    public double getTileLatencyMillisP50() {
+        return tileLatencies.getValueAtPercentile(50.0) / 1.0e6;
+    }
+
+    @Override
+    public double getTileLatencyMillisP90() {
+        return tileLatencies.getValueAtPercentile(90.0) / 1.0e6;
+    }
+
+    @Override
+    public double getTileLatencyMillisP99() {
+        return tileLatencies.getValueAtPercentile(99.0) / 1.0e6;
+    }
+
+    @Override
+    public double getTileLatencyMillisMax() {
+        return tileLatencies.getMax() / 1.0e6;
+    }
+}
@@ -0,0 +1,38 @@
+package org.esa.snap.fuzzydectree;
+
+/**
+ * Performance metrics of a classifier operator, registered with the platform MBean server while the operator
+ * is alive if metrics are switched on. Times are summed over all threads.
+ */
+public interface ClassifierMetricsMXBean {
+
+    long getTileCount();
+
+    long getClassifiedPixelCount();
+
+    long getSkippedPixelCount();
+
+    /**
+     * @return the time spent fetching source tiles, including the computation of upstream operators
+     */
+    long getSourceFetchNanos();
+
+    long getSampleReadNanos();
+
+    long getClassificationNanos();
+
+    long getTargetWriteNanos();
+
+    /**
+     * @return the classified pixels per second of summed tile computation time
+     */
+    double getPixelsPerSecond();
+
+    double getTileLatencyMillisP50();
+
+    double getTileLatencyMillisP90();
+
+    double getTileLatencyMillisP99();
+
+    double getTileLatencyMillisMax();
+}
@@ -0,0 +1,150 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeDoc;
+import com.bc.dectree.DecTreeFunction;
+import com.bc.dectree.impl.DecTreeCodeGen;
+import org.esa.snap.core.util.SystemUtils;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Compiles decision trees to bytecode. The Java source generated by the {@link DecTreeCodeGen} of the decision tree
+ * library is compiled in memory by the JDK's Java compiler and loaded by a class loader of its own, so that the JIT
+ * compiles the rules of the tree like the generated intertidal flat classifiers, instead of walking the parsed tree
+ * per pixel. The class is unloaded with its class loader once the function is no longer referenced.
+ */
+final class DecTreeCompiler {
+
+    static final String PACKAGE_NAME = "org.esa.snap.fuzzydectree.compiled";
+    static final String CLASS_NAME = "CompiledDecTree";
+
+    private DecTreeCompiler() {
+    }
+
+    /**
+     * @return the compiled function of the decision tree, or {@code null} if it cannot be compiled, e.g. on a JRE
+     * without the Java compiler
+     */
+    static DecTreeFunction compile(DecTreeDoc doc) {
+        final StringWriter source = new StringWriter();
+        try (PrintWriter writer = new PrintWriter(source)) {
+            DecTreeCodeGen.generate(doc, PACKAGE_NAME, CLASS_NAME, writer);
+        } catch (Exception e) {
+            // the code generator is part of the library's implementation, any failure falls back to its interpreter
+            SystemUtils.LOG.log(Level.WARNING, "Generating the decision tree code failed, it is interpreted.", e);
+            return null;
+        }
+        return compile(PACKAGE_NAME + "." + CLASS_NAME, source.toString());
+    }
+
+    /**
+     * @param className the fully qualified name of the class declared by the source
+     * @param source    the source of a class implementing {@link DecTreeFunction}, with a no-arg constructor
+     * @return a new instance of the compiled class, or {@code null} if the source cannot be compiled
+     */
+    static DecTreeFunction compile(String className, String source) {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            SystemUtils.LOG.info("No Java compiler available, decision trees are interpreted.");
+            return null;
+        }
+        final Map<String, ByteArrayOutputStream> classFiles = new HashMap<>();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager standardFileManager =
+                     compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+            final JavaFileManager fileManager = new ForwardingJavaFileManager<JavaFileManager>(standardFileManager) {
+                @Override
+                public JavaFileObject getJavaFileForOutput(Location location, String name, JavaFileObject.Kind kind,
+                                                           FileObject sibling) {
+                    return new SimpleJavaFileObject(toUri(name, kind), kind) {
+                        @Override
+                        public OutputStream openOutputStream() {
+                            final ByteArrayOutputStream classFile = new ByteArrayOutputStream();
+                            classFiles.put(name, classFile);
+                            return classFile;
+                        }
+                    };
+                }
+            };
+            final JavaFileObject sourceFile = new SimpleJavaFileObject(toUri(className, JavaFileObject.Kind.SOURCE),
+                                                                       JavaFileObject.Kind.SOURCE) {
+                @Override
+                public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                    return source;
+                }
+            };
+            final Boolean compiled = compiler.getTask(null, fileManager, diagnostics,
+                                                      Arrays.asList("-classpath", getClassPath(), "-nowarn"),
+                                                      null, Collections.singletonList(sourceFile)).call();
+            if (!Boolean.TRUE.equals(compiled)) {
+                SystemUtils.LOG.warning("Compiling the decision tree failed, it is interpreted: " +
+                                                diagnostics.getDiagnostics());
+                return null;
+            }
+        } catch (IOException e) {
+            SystemUtils.LOG.log(Level.WARNING, "Compiling the decision tree failed, it is interpreted.", e);
+            return null;
+        }
+
+        final ClassLoader classLoader = new ClassLoader(DecTreeFunction.class.getClassLoader()) {
+            @Override
+            protected Class<?> findClass(String name) throws ClassNotFoundException {
+                final ByteArrayOutputStream classFile = classFiles.get(name);
+                if (classFile == null) {
+                    throw new ClassNotFoundException(name);
+                }
+                final byte[] bytes = classFile.toByteArray();
+                return defineClass(name, bytes, 0, bytes.length);
+            }
+        };
+        try {
+            final Class<? extends DecTreeFunction> functionClass =
+                    classLoader.loadClass(className).asSubclass(DecTreeFunction.class);
+            return functionClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            SystemUtils.LOG.log(Level.WARNING, "Loading the compiled decision tree failed, it is interpreted.", e);
+            return null;
+        }
+    }
+
+    private static URI toUri(String className, JavaFileObject.Kind kind) {
+        return URI.create("string:///" + className.replace('.', '/') + kind.extension);
+    }
+
+    // module class loaders, like those of SNAP, do not add the decision tree library to the class path of the JVM
+    private static String getClassPath() {
+        final String classPath = System.getProperty("java.class.path");
+        final CodeSource codeSource = DecTreeFunction.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null) {
+            return classPath;
+        }
+        try {
+            return new File(codeSource.getLocation().toURI()).getPath() + File.pathSeparator + classPath;
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return classPath;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeDoc;
+import com.bc.dectree.DecTreeFunction;
+import com.bc.dectree.DecTreeParseException;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Holds the decision tree functions loaded from yml files, keyed by a SHA-256 hash of the file content.
+ * An unchanged yml file is parsed and loaded only once per JVM, no matter how many operators use it; an edited
+ * file has another key and is loaded again. Loaded functions are shared across operators in the same way a single
+ * operator already shares its function across concurrently computed tiles.
+ * <p>
+ * Trees are compiled to bytecode by {@link DecTreeCompiler}, or interpreted by the {@link DecTreeFunction} of the
+ * decision tree library if that is not possible. The cache keeps the functions of the {@value #MAX_SIZE} trees
+ * used last, so that the classes of trees which are no longer used can be unloaded.
+ */
+final class DecTreeFunctionCache {
+
+    static final int MAX_SIZE = 16;
+
+    private static final DecTreeFunctionCache INSTANCE = new DecTreeFunctionCache(MAX_SIZE,
+                                                                                  DecTreeFunctionCache::loadFunction);
+
+    /**
+     * Loads the function of a decision tree.
+     */
+    interface Loader {
+
+        /**
+         * @param name    the name of the yml file
+         * @param content the content of the yml file
+         */
+        DecTreeFunction load(String name, byte[] content) throws IOException, DecTreeParseException;
+    }
+
+    private final Map<String, DecTreeFunction> functions;
+    private final Loader loader;
+
+    DecTreeFunctionCache(int maxSize, Loader loader) {
+        // in access order, the least recently used function is evicted
+        this.functions = new LinkedHashMap<String, DecTreeFunction>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, DecTreeFunction> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.loader = loader;
+    }
+
+    static DecTreeFunction load(File yamlFile) throws IOException, DecTreeParseException {
+        return INSTANCE.get(yamlFile);
+    }
+
+    DecTreeFunction get(File yamlFile) throws IOException, DecTreeParseException {
+        // the tree is parsed from the hashed bytes, so that a file edited meanwhile cannot be cached under the old key
+        final byte[] content = Files.readAllBytes(yamlFile.toPath());
+        final String key = hash(content);
+        synchronized (functions) {
+            final DecTreeFunction function = functions.get(key);
+            if (function != null) {
+                return function;
+            }
+        }
+        // loaded without holding the lock, if two threads load the same tree the first function is kept
+        final DecTreeFunction function = loader.load(yamlFile.getName(), content);
+        synchronized (functions) {
+            final DecTreeFunction previous = functions.putIfAbsent(key, function);
+            return previous != null ? previous : function;
+        }
+    }
+
+    private static DecTreeFunction loadFunction(String name, byte[] content) throws IOException,
+            DecTreeParseException {
+        final DecTreeDoc doc;
+        try (Reader reader = new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)) {
+            doc = DecTreeDoc.parse(name, reader);
+        }
+        final DecTreeFunction function = DecTreeCompiler.compile(doc);
+        return function != null ? function : DecTreeFunction.load(doc);
+    }
+
+    static String hash(byte[] content) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            final StringBuilder sb = new StringBuilder(2 * digest.length);
+            for (byte b : digest) {
+                sb.append(String.format("%02x", b & 0xff));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
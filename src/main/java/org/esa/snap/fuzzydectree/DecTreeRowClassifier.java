@@ -0,0 +1,67 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeFunction;
+
+/**
+ * Adapts a {@link DecTreeFunction}, which classifies single pixels in double precision, to a {@link RowClassifier}.
+ */
+final class DecTreeRowClassifier implements RowClassifier {
+
+    private final DecTreeFunction function;
+
+    DecTreeRowClassifier(DecTreeFunction function) {
+        this.function = function;
+    }
+
+    @Override
+    public int getInputSize() {
+        return function.getInputSize();
+    }
+
+    @Override
+    public int getOutputSize() {
+        return function.getOutputSize();
+    }
+
+    @Override
+    public void apply(float[][] inputs, float[][] outputs, int offset, int length) {
+        final double[] pixelInputs = new double[inputs.length];
+        final double[] pixelOutputs = new double[outputs.length];
+        for (int k = offset; k < offset + length; k++) {
+            for (int i = 0; i < pixelInputs.length; i++) {
+                pixelInputs[i] = inputs[i][k];
+            }
+            function.apply(pixelInputs, pixelOutputs);
+            for (int i = 0; i < pixelOutputs.length; i++) {
+                outputs[i][k] = (float) pixelOutputs[i];
+            }
+        }
+    }
+
+    // DecTreeFunction only exposes apply(), so the maximum is taken from the pixel outputs while they are copied
+    @Override
+    public void applyAndClassify(float[][] inputs, float[][] outputs, int[] classIndexes, float[] maxValues,
+                                 int offset, int length) {
+        final double[] pixelInputs = new double[inputs.length];
+        final double[] pixelOutputs = new double[outputs.length];
+        final int numClasses = function.getOutputSize() - 1;
+        for (int k = offset; k < offset + length; k++) {
+            for (int i = 0; i < pixelInputs.length; i++) {
+                pixelInputs[i] = inputs[i][k];
+            }
+            function.apply(pixelInputs, pixelOutputs);
+            double outputMax = Double.MIN_VALUE;
+            int maxOutputIndex = -1;
+            for (int i = 0; i < pixelOutputs.length; i++) {
+                final float output = (float) pixelOutputs[i];
+                outputs[i][k] = output;
+                if (i < numClasses && output > outputMax) {
+                    outputMax = output;
+                    maxOutputIndex = i;
+                }
+            }
+            classIndexes[k] = maxOutputIndex;
+            maxValues[k] = (float) outputMax;
+        }
+    }
+}
@@ -10,6 +10,21 @@ public class GenericClassifierConstants {
     public static final String FINAL_CLASS_BAND_NAME = "final_class";
     public static final String FUZZY_MAX_VAL_BAND_NAME = "fuzzy_max_value";
 
+    // values of the 'outputMode' operator parameter
+    public static final String OUTPUT_MODE_ALL = "all";
+    public static final String OUTPUT_MODE_CLASS_AND_MAX_VALUE = "class_and_max_value";
+    public static final String OUTPUT_MODE_CLASS = "class";
+    public static final String OUTPUT_MODE_TOP_K = "top_k";
+
+    // band names of the top-K output mode, numbered from 1
+    public static final String TOP_CLASS_BAND_PREFIX = "class_";
+    public static final String TOP_MEMBERSHIP_BAND_PREFIX = "membership_";
+
+    // values of the 'membershipEncoding' operator parameter
+    public static final String MEMBERSHIP_ENCODING_FLOAT32 = "float32";
+    public static final String MEMBERSHIP_ENCODING_UINT8 = "uint8";
+    public static final String MEMBERSHIP_ENCODING_UINT16 = "uint16";
+
     public static final int[][] DEFAULT_CLASSIF_RGB = {
             {0, 0, 0},
             {0, 0, 255},
@@ -1,25 +1,24 @@
 package org.esa.snap.fuzzydectree;
 
-import com.bc.ceres.core.ProgressMonitor;
-import com.bc.dectree.DecTreeDoc;
 import com.bc.dectree.DecTreeFunction;
 import com.bc.dectree.DecTreeParseException;
-import org.esa.snap.core.datamodel.*;
-import org.esa.snap.core.gpf.Operator;
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.ColorPaletteDef;
+import org.esa.snap.core.datamodel.Product;
 import org.esa.snap.core.gpf.OperatorException;
 import org.esa.snap.core.gpf.OperatorSpi;
-import org.esa.snap.core.gpf.Tile;
 import org.esa.snap.core.gpf.annotations.OperatorMetadata;
 import org.esa.snap.core.gpf.annotations.Parameter;
-import org.esa.snap.core.gpf.annotations.SourceProduct;
-import org.esa.snap.core.gpf.annotations.TargetProduct;
-import org.esa.snap.core.util.ProductUtils;
 
 import java.awt.*;
 import java.io.File;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 /**
  * Performs generic classification based on fuzzy decision tree as defined in input yml file.
@@ -31,102 +30,112 @@ import java.util.Random;
         category = "Classification",
         copyright = "Copyright (C) 2018 by Brockmann Consult",
         description = "Performs generic classification based on fuzzy decision tree as defined in input yml file.")
-public class GenericClassifierOp extends Operator {
+public class GenericClassifierOp extends AbstractClassifierOp {
 
 
     @Parameter(description = "A yml file defining the decision tree for fuzzy classification.",
             label = "Decision tree yml file")
     private File yamlFile;
 
-    @SourceProduct(description = "Source product",
-            label = "Classification input product")
-    private Product sourceProduct;
-
-    @TargetProduct(description = "The target product.")
-    private Product targetProduct;
+    @Parameter(description = "Optional mapping of decision tree inputs to source bands, given as 'input=band' " +
+            "entries, e.g. 'b1=sand-tr_abundance'. Inputs not mapped here are resolved by equal band name, by the " +
+            "intertidal flat band aliases, or by position ('bN' is the N-th source band).",
+            label = "Input band mapping")
+    private String[] bandMapping;
 
     private DecTreeFunction genericClassifier;
 
+    @Override
+    protected RowClassifier createRowClassifier() throws IOException, DecTreeParseException {
+        genericClassifier = DecTreeFunctionCache.load(yamlFile);
+        return new DecTreeRowClassifier(genericClassifier);
+    }
 
     @Override
-    public void initialize() throws OperatorException {
-        try {
-            final DecTreeDoc doc = DecTreeDoc.parse(yamlFile);
-            genericClassifier = DecTreeFunction.load(doc);
-
-            createTargetProduct();
-        } catch (IOException | DecTreeParseException e) {
-            System.err.printf("Error: %s\n", e.getMessage());
+    protected int[] getClassValues() {
+        final int[] classValues = new int[genericClassifier.getOutputSize() - 1];
+        for (int i = 0; i < classValues.length; i++) {
+            classValues[i] = i;
         }
+        return classValues;
     }
 
     @Override
-    public void computeTileStack(Map<Band, Tile> targetTiles, Rectangle targetRectangle, ProgressMonitor pm) throws OperatorException {
-        final int numSrcBands = genericClassifier.getInputSize();
-        final int numTargetBands = genericClassifier.getOutputSize();
-
-        Tile[] srcTile = new Tile[numSrcBands];
-        for (int i = 0; i < numSrcBands; i++) {
-            final int bandIndex = Integer.parseInt(genericClassifier.getInputNames()[i].substring(1)) - 1;
-            srcTile[i] = getSourceTile(sourceProduct.getBandAt(bandIndex), targetRectangle);
-        }
+    protected float[] createInvalidOutputs() {
+        // pixels which are not classified get no membership and no class
+        final float[] invalidOutputs = new float[genericClassifier.getOutputSize()];
+        invalidOutputs[invalidOutputs.length - 1] = Float.NaN;
+        return invalidOutputs;
+    }
+
+    @Override
+    protected Band[] bindSourceBands(Product product) {
+        return bindSourceBands(product, genericClassifier.getInputNames(), bandMapping);
+    }
 
-        final Tile finalClassTargetTile =
-                targetTiles.get(targetProduct.getBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME));
-        final Tile fuzzyMaxValTargetTile =
-                targetTiles.get(targetProduct.getBand(GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME));
-
-        double[] inputs = new double[numSrcBands];
-        double[] outputs = new double[numTargetBands];
-        for (int y = targetRectangle.y; y < targetRectangle.y + targetRectangle.height; y++) {
-            checkForCancellation();
-            for (int x = targetRectangle.x; x < targetRectangle.x + targetRectangle.width; x++) {
-                for (int i = 0; i < numSrcBands; i++) {
-                    inputs[i] = srcTile[i].getSampleFloat(x, y);
+    /**
+     * Resolves each decision tree input to a source band: by the band mapping, by equal band name, by the
+     * intertidal flat band aliases or by position, in this order.
+     */
+    static Band[] bindSourceBands(Product product, String[] inputNames, String[] bandMapping) {
+        final Set<String> inputNameSet = new HashSet<>(Arrays.asList(inputNames));
+        final Map<String, String> explicitNames = new HashMap<>();
+        if (bandMapping != null) {
+            for (String entry : bandMapping) {
+                final int sep = entry.indexOf('=');
+                if (sep <= 0 || sep == entry.length() - 1) {
+                    throw new OperatorException("Invalid band mapping '" + entry + "', expected 'input=band'.");
                 }
-                genericClassifier.apply(inputs, outputs);
-                
-                double outputMax = Double.MIN_VALUE;
-                int maxOutputIndex = -1;
-                for (int i = 0; i < outputs.length; i++) {
-                    if (i < outputs.length-1 && outputs[i] > outputMax) {
-                        outputMax = outputs[i];
-                        maxOutputIndex = i;
-                    }
-                    final String targetBandName = genericClassifier.getOutputNames()[i];
-                    targetTiles.get(targetProduct.getBand(targetBandName)).setSample(x, y, outputs[i]);
+                final String inputName = entry.substring(0, sep).trim();
+                if (!inputNameSet.contains(inputName)) {
+                    throw new OperatorException("Band mapping '" + entry + "' names no decision tree input.");
+                }
+                if (explicitNames.put(inputName, entry.substring(sep + 1).trim()) != null) {
+                    throw new OperatorException("Decision tree input '" + inputName + "' is mapped more than once.");
                 }
-
-                finalClassTargetTile.setSample(x, y, maxOutputIndex);
-                fuzzyMaxValTargetTile.setSample(x, y, outputMax);
             }
         }
-    }
-
-    private void createTargetProduct() {
-        final int w = sourceProduct.getSceneRasterWidth();
-        final int h = sourceProduct.getSceneRasterHeight();
-        targetProduct = new Product(sourceProduct.getName(), sourceProduct.getProductType(), w, h);
 
-        ProductUtils.copyMetadata(sourceProduct, targetProduct);
-        ProductUtils.copyGeoCoding(sourceProduct, targetProduct);
-        targetProduct.setStartTime(sourceProduct.getStartTime());
-        targetProduct.setEndTime(sourceProduct.getEndTime());
+        final Map<String, String> aliases = new HashMap<>();
+        for (String[] inputName : IntertidalFlatClassifierConstants.INPUT_NAMES) {
+            aliases.put(inputName[0], inputName[1]);
+        }
 
-        for (int i = 0; i < genericClassifier.getOutputSize(); i++) {
-            targetProduct.addBand(genericClassifier.getOutputNames()[i], ProductData.TYPE_FLOAT32);
+        final Band[] sourceBands = new Band[inputNames.length];
+        for (int i = 0; i < inputNames.length; i++) {
+            final String inputName = inputNames[i];
+            final Band band;
+            if (explicitNames.containsKey(inputName)) {
+                band = product.getBand(explicitNames.get(inputName));
+                if (band == null) {
+                    throw new OperatorException("Source band '" + explicitNames.get(inputName) +
+                                                        "' mapped to input '" + inputName + "' not found.");
+                }
+            } else if (product.containsBand(inputName)) {
+                band = product.getBand(inputName);
+            } else if (aliases.containsKey(inputName) && product.containsBand(aliases.get(inputName))) {
+                band = product.getBand(aliases.get(inputName));
+            } else {
+                band = getBandByPosition(product, inputName);
+            }
+            sourceBands[i] = band;
         }
-        targetProduct.addBand(GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME, ProductData.TYPE_FLOAT32);
-        addFinalClassBand();
+        return sourceBands;
     }
 
-    private void addFinalClassBand() {
-        Band finalClassBand = targetProduct.addBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME,
-                                                    ProductData.TYPE_INT8);
-
-        final IndexCoding finalClassIndexCoding =
-                new IndexCoding(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
+    private static Band getBandByPosition(Product product, String inputName) {
+        if (inputName.matches("b\\d+")) {
+            final int bandIndex = Integer.parseInt(inputName.substring(1)) - 1;
+            if (bandIndex >= 0 && bandIndex < product.getNumBands()) {
+                return product.getBandAt(bandIndex);
+            }
+        }
+        throw new OperatorException("No source band found for decision tree input '" + inputName + "'.");
+    }
 
+    @Override
+    protected ColorPaletteDef.Point[] createClassPoints() {
+        final String[] outputNames = genericClassifier.getOutputNames();
         final int numClasses = genericClassifier.getOutputSize() - 1;
         ColorPaletteDef.Point[] points = new ColorPaletteDef.Point[numClasses];
         for (int i = 0; i < numClasses; i++) {
@@ -142,16 +151,14 @@ public class GenericClassifierOp extends Operator {
                 final Random random = new Random();
                 color = new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
             }
-            final String descr = genericClassifier.getOutputNames()[i];
-            points[i] = new ColorPaletteDef.Point(i, color, descr);
-            finalClassIndexCoding.addIndex(descr, i, descr);
+            points[i] = new ColorPaletteDef.Point(i, color, outputNames[i]);
         }
-        final ColorPaletteDef cpd = new ColorPaletteDef(points);
-        final ImageInfo imageInfo = new ImageInfo(cpd);
-        finalClassBand.setImageInfo(imageInfo);
-        finalClassBand.setSampleCoding(finalClassIndexCoding);
+        return points;
+    }
 
-        targetProduct.getIndexCodingGroup().add(finalClassIndexCoding);
+    @Override
+    String[] getOutputNames() {
+        return genericClassifier.getOutputNames();
     }
 
 
@@ -1,22 +1,24 @@
 package org.esa.snap.fuzzydectree;
 
-import com.bc.ceres.core.ProgressMonitor;
-import org.esa.snap.core.datamodel.*;
-import org.esa.snap.core.gpf.Operator;
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.ColorPaletteDef;
+import org.esa.snap.core.datamodel.Product;
 import org.esa.snap.core.gpf.OperatorException;
 import org.esa.snap.core.gpf.OperatorSpi;
-import org.esa.snap.core.gpf.Tile;
 import org.esa.snap.core.gpf.annotations.OperatorMetadata;
-import org.esa.snap.core.gpf.annotations.SourceProduct;
-import org.esa.snap.core.gpf.annotations.TargetProduct;
-import org.esa.snap.core.util.ProductUtils;
-import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuz;
+import org.esa.snap.core.gpf.annotations.Parameter;
+import org.esa.snap.core.util.SystemUtils;
 
 import java.awt.*;
-import java.util.Map;
 
 /**
  * Performs intertidal flat classification based on fuzzy decision tree.
+ * <p>
+ * The classification is computed in float precision, like the source and target bands. Memberships differ
+ * by at most 1.0E-5 from the double precision evaluation of the same tree.
+ * <p>
+ * Pixels which are skipped because they are invalid, match the nodata expression or lie outside the region
+ * of interest are classified as {@code nodata}, with a {@code bsum} of NaN.
  *
  * @author olafd
  */
@@ -25,91 +27,56 @@ import java.util.Map;
         category = "Classification",
         copyright = "Copyright (C) 2018 by Brockmann Consult",
         description = "Performs intertidal flat classification based on fuzzy decision tree.")
-public class IntertidalFlatClassifierOp extends Operator {
+public class IntertidalFlatClassifierOp extends AbstractClassifierOp {
 
+    @Parameter(defaultValue = "0", interval = "[0,65536]",
+            description = "Number of grid points per input of the membership lookup tables. If greater than 0, " +
+                    "memberships are interpolated from these tables instead of being computed exactly, which pays " +
+                    "off for quantized inputs. The maximum deviation from exact evaluation is logged.",
+            label = "Membership lookup table size")
+    private int lookupTableSize;
 
-    @SourceProduct(description = "Source product",
-            label = "Classification input product")
-    private Product sourceProduct;
+    private IntertidalRowClassifier intertidalFlatClassifier;
 
-    @TargetProduct(description = "The target product.")
-    private Product targetProduct;
+    @Override
+    protected RowClassifier createRowClassifier() {
+        if (lookupTableSize == 1) {
+            throw new OperatorException("Membership lookup tables need at least 2 grid points.");
+        }
+        intertidalFlatClassifier = new IntertidalRowClassifier(lookupTableSize, isShortCircuit());
+        if (lookupTableSize > 0) {
+            SystemUtils.LOG.info(String.format("Membership lookup tables with %d grid points, maximum deviation " +
+                                                       "from exact evaluation is %s.", lookupTableSize,
+                                               intertidalFlatClassifier.getMaxLookupTableError()));
+        }
+        return intertidalFlatClassifier;
+    }
 
-    private IntertidalFlatClassifierFuz intertidalFlatClassifier;
+    @Override
+    protected int[] getClassValues() {
+        return IntertidalFlatClassifierConstants.CLASSIF_CLASS;
+    }
 
     @Override
-    public void initialize() throws OperatorException {
-        intertidalFlatClassifier = new IntertidalFlatClassifierFuz();
-        createTargetProduct();
+    protected float[] createInvalidOutputs() {
+        return intertidalFlatClassifier.createInvalidOutputs();
     }
 
     @Override
-    public void computeTileStack(Map<Band, Tile> targetTiles, Rectangle targetRectangle, ProgressMonitor pm) throws OperatorException {
-        final int numSrcBands = intertidalFlatClassifier.getInputSize();
-        Tile[] srcTile = new Tile[numSrcBands];
-        for (int i = 0; i < numSrcBands; i++) {
+    protected Band[] bindSourceBands(Product product) {
+        final Band[] sourceBands = new Band[intertidalFlatClassifier.getInputSize()];
+        for (int i = 0; i < sourceBands.length; i++) {
             final String srcBandName = IntertidalFlatClassifierConstants.INPUT_NAMES[i][1];
-            srcTile[i] = getSourceTile(sourceProduct.getBand(srcBandName), targetRectangle);
-        }
-
-        final Tile finalClassTargetTile =
-                targetTiles.get(targetProduct.getBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME));
-        final Tile fuzzyMaxValTargetTile =
-                targetTiles.get(targetProduct.getBand(GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME));
-        final String bsumTargetBandName = intertidalFlatClassifier.getOutputNames()[13];
-        final Tile bsumTargetTile = targetTiles.get(targetProduct.getBand(bsumTargetBandName));
-
-        double[] inputs = new double[numSrcBands];
-        double[] classificationOutputs = new double[intertidalFlatClassifier.getOutputSize()];  // 13 classes + bsum
-        for (int y = targetRectangle.y; y < targetRectangle.y + targetRectangle.height; y++) {
-            checkForCancellation();
-            for (int x = targetRectangle.x; x < targetRectangle.x + targetRectangle.width; x++) {
-                for (int i = 0; i < numSrcBands; i++) {
-                    inputs[i] = srcTile[i].getSampleFloat(x, y);
-                }
-                intertidalFlatClassifier.apply(inputs, classificationOutputs);
-                double outputMax = Double.MIN_VALUE;
-                int maxOutputIndex = -1;
-                for (int i = 0; i < classificationOutputs.length-1; i++) {    // 13 classes
-                    if (classificationOutputs[i] > outputMax) {
-                        outputMax = classificationOutputs[i];
-                        maxOutputIndex = IntertidalFlatClassifierConstants.CLASSIF_CLASS[i];
-                    }
-                    final String targetBandName = intertidalFlatClassifier.getOutputNames()[i];
-                    targetTiles.get(targetProduct.getBand(targetBandName)).setSample(x, y, classificationOutputs[i]);
-                }
-
-                bsumTargetTile.setSample(x, y, classificationOutputs[13]);
-                finalClassTargetTile.setSample(x, y, maxOutputIndex);
-                fuzzyMaxValTargetTile.setSample(x, y, outputMax);
+            sourceBands[i] = product.getBand(srcBandName);
+            if (sourceBands[i] == null) {
+                throw new OperatorException("Source band '" + srcBandName + "' not found.");
             }
         }
+        return sourceBands;
     }
 
-    private void createTargetProduct() {
-        final int w = sourceProduct.getSceneRasterWidth();
-        final int h = sourceProduct.getSceneRasterHeight();
-        targetProduct = new Product(sourceProduct.getName(), sourceProduct.getProductType(), w, h);
-
-        ProductUtils.copyMetadata(sourceProduct, targetProduct);
-        ProductUtils.copyGeoCoding(sourceProduct, targetProduct);
-        targetProduct.setStartTime(sourceProduct.getStartTime());
-        targetProduct.setEndTime(sourceProduct.getEndTime());
-
-        for (int i = 0; i < intertidalFlatClassifier.getOutputSize(); i++) {
-            targetProduct.addBand(intertidalFlatClassifier.getOutputNames()[i], ProductData.TYPE_FLOAT32);
-        }
-        targetProduct.addBand(GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME, ProductData.TYPE_FLOAT32);
-        addFinalClassBand();
-    }
-
-    private void addFinalClassBand() {
-        Band finalClassBand = targetProduct.addBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME,
-                                                    ProductData.TYPE_INT8);
-
-        final IndexCoding finalClassIndexCoding =
-                new IndexCoding(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
-
+    @Override
+    protected ColorPaletteDef.Point[] createClassPoints() {
         ColorPaletteDef.Point[] points =
                 new ColorPaletteDef.Point[IntertidalFlatClassifierConstants.CLASSIF_CLASS.length];
         for (int i = 0; i < IntertidalFlatClassifierConstants.CLASSIF_CLASS.length; i++) {
@@ -119,14 +86,14 @@ public class IntertidalFlatClassifierOp extends Operator {
             final Color color = new Color(r, g, b);
             final String descr = IntertidalFlatClassifierConstants.CLASSIF_CLASS_DESCR[i];
             points[i] = new ColorPaletteDef.Point(i+1, color, descr);
-            finalClassIndexCoding.addIndex(descr, i+1, descr);
         }
-        final ColorPaletteDef cpd = new ColorPaletteDef(points);
-        final ImageInfo imageInfo = new ImageInfo(cpd);
-        finalClassBand.setImageInfo(imageInfo);
-        finalClassBand.setSampleCoding(finalClassIndexCoding);
+        return points;
+    }
 
-        targetProduct.getIndexCodingGroup().add(finalClassIndexCoding);
+    @Override
+    String[] getOutputNames() {
+        // 13 classes + bsum
+        return intertidalFlatClassifier.getOutputNames();
     }
 
     public static class Spi extends OperatorSpi {
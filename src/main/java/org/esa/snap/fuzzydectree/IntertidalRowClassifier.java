@@ -0,0 +1,125 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuz;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuzLut;
+import org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuzVec;
+
+/**
+ * The fuzzy intertidal flat classifier as {@link RowClassifier}. Uses the scalar
+ * {@link IntertidalFlatClassifierFuz}, which takes the class maximum while evaluating the tree, and is faster than
+ * the column-wise {@link IntertidalFlatClassifierFuzVec} even where the JVM vectorizes its loops
+ * (see ColumnClassifierBenchmark). With short-circuit evaluation switched on,
+ * the scalar classifier skips all subtrees whose truth value is zero. With a lookup table size given,
+ * memberships are interpolated from tables by {@link IntertidalFlatClassifierFuzLut} instead.
+ */
+final class IntertidalRowClassifier implements RowClassifier {
+
+    /**
+     * System property to switch on the column-wise classifier, e.g. for comparisons. Default is {@code false}.
+     */
+    static final String USE_COLUMN_CLASSIFIER_PROPERTY = "snap.fuzzydectree.useColumnClassifier";
+
+    private final boolean shortCircuit;
+
+    private final IntertidalFlatClassifierFuz scalarClassifier;
+    // copied once, the operator looks the names up per tile
+    private final String[] outputNames;
+    private final ThreadLocal<IntertidalFlatClassifierFuzVec> columnClassifier;
+    private final IntertidalFlatClassifierFuzLut lookupTableClassifier;
+    private final ThreadLocal<IntertidalFlatClassifierFuzLut> lookupTableClassifiers;
+
+    IntertidalRowClassifier() {
+        this(0, false);
+    }
+
+    /**
+     * @param lookupTableSize the number of grid points per input of the membership lookup tables,
+     *                        or 0 for exact evaluation
+     * @param shortCircuit    whether subtrees whose truth value is zero are skipped, ignored with lookup tables
+     */
+    IntertidalRowClassifier(int lookupTableSize, boolean shortCircuit) {
+        scalarClassifier = new IntertidalFlatClassifierFuz();
+        outputNames = scalarClassifier.getOutputNames();
+        if (lookupTableSize > 0) {
+            // tables are shared, scratch columns are per thread
+            lookupTableClassifier = new IntertidalFlatClassifierFuzLut(lookupTableSize);
+            lookupTableClassifiers =
+                    ThreadLocal.withInitial(() -> new IntertidalFlatClassifierFuzLut(lookupTableClassifier));
+        } else {
+            lookupTableClassifier = null;
+            lookupTableClassifiers = null;
+        }
+        this.shortCircuit = shortCircuit;
+        if (!shortCircuit &&
+                Boolean.parseBoolean(System.getProperty(USE_COLUMN_CLASSIFIER_PROPERTY, "false")) &&
+                IntertidalFlatClassifierFuzVec.isSupported()) {
+            // column-wise evaluation needs per-thread scratch columns
+            columnClassifier = ThreadLocal.withInitial(IntertidalFlatClassifierFuzVec::new);
+        } else {
+            columnClassifier = null;
+        }
+    }
+
+    @Override
+    public int getInputSize() {
+        return scalarClassifier.getInputSize();
+    }
+
+    @Override
+    public int getOutputSize() {
+        return scalarClassifier.getOutputSize();
+    }
+
+    String[] getOutputNames() {
+        return outputNames;
+    }
+
+    /**
+     * @return a new array of the outputs of skipped pixels, the memberships the tree gives for
+     * {@code summary_error == 0}: {@code nodata} is 1, {@code bsum} is NaN
+     */
+    float[] createInvalidOutputs() {
+        final float[] invalidOutputs = new float[getOutputSize()];
+        invalidOutputs[0] = 1.0F;
+        invalidOutputs[invalidOutputs.length - 1] = Float.NaN;
+        return invalidOutputs;
+    }
+
+    /**
+     * @return the maximum deviation of any membership from exact evaluation, 0 if no lookup tables are used
+     */
+    float getMaxLookupTableError() {
+        float maxError = 0.0F;
+        if (lookupTableClassifier != null) {
+            for (float error : lookupTableClassifier.computeErrorReport().values()) {
+                maxError = Math.max(maxError, error);
+            }
+        }
+        return maxError;
+    }
+
+    @Override
+    public void apply(float[][] inputs, float[][] outputs, int offset, int length) {
+        if (lookupTableClassifiers != null) {
+            lookupTableClassifiers.get().apply(inputs, outputs, offset, length);
+        } else if (shortCircuit) {
+            scalarClassifier.applyShortCircuit(inputs, outputs, offset, length);
+        } else if (columnClassifier != null) {
+            columnClassifier.get().apply(inputs, outputs, offset, length);
+        } else {
+            scalarClassifier.apply(inputs, outputs, offset, length);
+        }
+    }
+
+    @Override
+    public void applyAndClassify(float[][] inputs, float[][] outputs, int[] classIndexes, float[] maxValues,
+                                 int offset, int length) {
+        if (lookupTableClassifiers != null || shortCircuit) {
+            RowClassifier.super.applyAndClassify(inputs, outputs, classIndexes, maxValues, offset, length);
+        } else if (columnClassifier != null) {
+            columnClassifier.get().applyAndClassify(inputs, outputs, classIndexes, maxValues, offset, length);
+        } else {
+            scalarClassifier.applyAndClassify(inputs, outputs, classIndexes, maxValues, offset, length);
+        }
+    }
+}
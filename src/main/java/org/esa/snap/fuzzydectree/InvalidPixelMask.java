@@ -0,0 +1,148 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Mask;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.gpf.OperatorException;
+import org.esa.snap.core.gpf.Tile;
+
+import java.awt.Color;
+import java.awt.Rectangle;
+import java.awt.image.Raster;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the pixels which are not classified, from a tile of the mask created by {@link #createMask}.
+ * The invalid pixels are counted per scanline up front, so that entirely invalid scanlines and tiles
+ * can skip reading the source rows and the classification.
+ */
+final class InvalidPixelMask {
+
+    private final Tile tile;
+    private final byte[] data;
+    private final int[] invalidCounts;
+    private int invalidCount;
+
+    InvalidPixelMask(Tile tile) {
+        this.tile = tile;
+        this.data = tile.getDataBufferByte();
+        this.invalidCounts = new int[tile.getHeight()];
+        for (int y = tile.getMinY(); y <= tile.getMaxY(); y++) {
+            int count = 0;
+            if (data != null) {
+                final int index = tile.getScanlineOffset() + (y - tile.getMinY()) * tile.getScanlineStride();
+                for (int i = 0; i < tile.getWidth(); i++) {
+                    if (data[index + i] != 0) {
+                        count++;
+                    }
+                }
+            } else {
+                for (int x = tile.getMinX(); x <= tile.getMaxX(); x++) {
+                    if (tile.getSampleInt(x, y) != 0) {
+                        count++;
+                    }
+                }
+            }
+            invalidCounts[y - tile.getMinY()] = count;
+            invalidCount += count;
+        }
+    }
+
+    /**
+     * Creates the mask of the pixels which are not classified: pixels which are invalid in any of the source
+     * bands, according to their valid-pixel expression and no-data value, pixels matching the nodata
+     * expression and pixels outside the region of interest.
+     *
+     * @param sourceProduct     the source product, becomes the owner of the mask
+     * @param sourceBands       the source bands whose invalid pixels are masked, may be empty
+     * @param nodataExpression  a band maths expression for further pixels to skip, may be {@code null} or empty
+     * @param roiExpression     a band maths expression for the pixels to classify, may be {@code null} or empty
+     * @return the mask, or {@code null} if no pixel is to be skipped
+     * @throws OperatorException if an expression is invalid for the source product
+     */
+    static Mask createMask(Product sourceProduct, Band[] sourceBands, String nodataExpression,
+                           String roiExpression) {
+        final List<String> terms = new ArrayList<>();
+        for (Band band : sourceBands) {
+            final String validMaskExpression = band.getValidMaskExpression();
+            if (validMaskExpression != null && !validMaskExpression.trim().isEmpty() &&
+                    !terms.contains("!(" + validMaskExpression + ")")) {
+                terms.add("!(" + validMaskExpression + ")");
+            }
+        }
+        if (nodataExpression != null && !nodataExpression.trim().isEmpty()) {
+            checkExpression(sourceProduct, nodataExpression, "Nodata");
+            terms.add("(" + nodataExpression + ")");
+        }
+        if (roiExpression != null && !roiExpression.trim().isEmpty()) {
+            checkExpression(sourceProduct, roiExpression, "ROI");
+            terms.add("!(" + roiExpression + ")");
+        }
+        if (terms.isEmpty()) {
+            return null;
+        }
+        final Mask mask = Mask.BandMathsType.create("__classifier_invalid_pixels", null,
+                                                    sourceProduct.getSceneRasterWidth(),
+                                                    sourceProduct.getSceneRasterHeight(),
+                                                    String.join(" || ", terms), Color.BLACK, 0.0);
+        mask.setOwner(sourceProduct);
+        return mask;
+    }
+
+    private static void checkExpression(Product sourceProduct, String expression, String kind) {
+        if (!sourceProduct.isCompatibleBandArithmeticExpression(expression)) {
+            throw new OperatorException(kind + " expression '" + expression + "' is invalid for the source product.");
+        }
+    }
+
+    /**
+     * @return {@code true} if no pixel of the tile is classified
+     */
+    boolean isAllInvalid() {
+        return invalidCount == tile.getWidth() * tile.getHeight();
+    }
+
+    /**
+     * @return {@code true} if no pixel of the raster, a tile of the mask image, within the given rectangle is
+     * classified
+     */
+    static boolean isAllInvalid(Raster raster, Rectangle rectangle) {
+        final Rectangle r = raster.getBounds().intersection(rectangle);
+        for (int y = r.y; y < r.y + r.height; y++) {
+            for (int x = r.x; x < r.x + r.width; x++) {
+                if (raster.getSample(x, y, 0) == 0) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reads which pixels of a scanline are not classified.
+     *
+     * @return the number of invalid pixels in the scanline
+     */
+    int readRow(int y, int x0, int width, boolean[] invalid) {
+        final int count = invalidCounts[y - tile.getMinY()];
+        if (count == 0 || count == tile.getWidth()) {
+            // nothing to look up, also covers rows the caller fills in bulk
+            Arrays.fill(invalid, 0, width, count != 0);
+            return count;
+        }
+        if (data != null) {
+            final int index = tile.getScanlineOffset() + (y - tile.getMinY()) * tile.getScanlineStride() +
+                    (x0 - tile.getMinX());
+            for (int i = 0; i < width; i++) {
+                invalid[i] = data[index + i] != 0;
+            }
+        } else {
+            for (int i = 0; i < width; i++) {
+                invalid[i] = tile.getSampleInt(x0 + i, y) != 0;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,77 @@
+package org.esa.snap.fuzzydectree;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with log-linear buckets, like HdrHistogram: each power of
+ * two is split into {@value #SUB_BUCKETS} buckets, so percentiles are reported with a relative error of at most
+ * 1/{@value #SUB_BUCKETS}. Recording is a single atomic increment, safe for concurrent tile computations.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(64 * SUB_BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+
+    void record(long nanos) {
+        final long value = Math.max(nanos, 0L);
+        counts.incrementAndGet(bucketIndex(value));
+        max.accumulate(value);
+    }
+
+    long getCount() {
+        long count = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @param percentile the percentile, in the range 0 to 100
+     * @return the upper bound of the bucket holding the percentile, at most the maximum recorded value,
+     * or 0 if nothing was recorded
+     */
+    long getValueAtPercentile(double percentile) {
+        final long count = getCount();
+        if (count == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    // values below SUB_BUCKETS get a bucket each, larger values one of SUB_BUCKETS buckets per power of two
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        final int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        final long subBucket = index % SUB_BUCKETS;
+        final long lowerBound = (1L << exponent) | (subBucket << (exponent - SUB_BUCKET_BITS));
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+}
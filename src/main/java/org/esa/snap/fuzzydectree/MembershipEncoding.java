@@ -0,0 +1,76 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.core.datamodel.RasterDataNode;
+
+/**
+ * Stores memberships, which are always in [0,1], as scaled unsigned integers: {@code uint8} with a step of 1/255,
+ * or {@code uint16} with a step of 1/65535. Samples are rounded to the nearest step and clamped, NaN is stored as 0.
+ */
+final class MembershipEncoding {
+
+    private MembershipEncoding() {
+    }
+
+    /**
+     * Adds a membership band of the given encoding, see {@link GenericClassifierConstants}.
+     */
+    static Band addBand(Product product, String name, String encoding) {
+        final Band band;
+        if (GenericClassifierConstants.MEMBERSHIP_ENCODING_UINT8.equals(encoding)) {
+            band = product.addBand(name, ProductData.TYPE_UINT8);
+            band.setScalingFactor(1.0 / 255);
+        } else if (GenericClassifierConstants.MEMBERSHIP_ENCODING_UINT16.equals(encoding)) {
+            band = product.addBand(name, ProductData.TYPE_UINT16);
+            band.setScalingFactor(1.0 / 65535);
+        } else {
+            band = product.addBand(name, ProductData.TYPE_FLOAT32);
+        }
+        return band;
+    }
+
+    /**
+     * @return the largest raw value of a band holding encoded memberships, or 0 for other bands
+     */
+    static int getMaxRawValue(RasterDataNode node) {
+        if (!node.isScalingApplied()) {
+            return 0;
+        }
+        if (node.getDataType() == ProductData.TYPE_UINT8) {
+            return 255;
+        } else if (node.getDataType() == ProductData.TYPE_UINT16) {
+            return 65535;
+        }
+        return 0;
+    }
+
+    static int encode(float sample, int maxRawValue) {
+        final int raw = Math.round(sample * maxRawValue);
+        return raw < 0 ? 0 : raw > maxRawValue ? maxRawValue : raw;
+    }
+
+    /**
+     * @return the samples in the data type of the band, encoded if the band holds encoded memberships
+     */
+    static ProductData toRasterData(Band band, float[] samples) {
+        final int maxRawValue = getMaxRawValue(band);
+        if (maxRawValue == 0) {
+            return ProductData.createInstance(samples);
+        }
+        final ProductData data = ProductData.createInstance(band.getDataType(), samples.length);
+        if (band.getDataType() == ProductData.TYPE_UINT8) {
+            final byte[] elems = (byte[]) data.getElems();
+            for (int i = 0; i < samples.length; i++) {
+                elems[i] = (byte) encode(samples[i], maxRawValue);
+            }
+        } else {
+            final short[] elems = (short[]) data.getElems();
+            for (int i = 0; i < samples.length; i++) {
+                elems[i] = (short) encode(samples[i], maxRawValue);
+            }
+        }
+        return data;
+    }
+}
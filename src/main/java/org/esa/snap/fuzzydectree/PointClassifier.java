@@ -0,0 +1,203 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeFunction;
+import com.bc.dectree.DecTreeParseException;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Classifies points given as rows of a CSV file, e.g. in-situ spectra or match-ups, without packing them into
+ * a raster product. Rows are read and classified in chunks and written out right away, so memory use is bounded
+ * by the chunk size.
+ * <p>
+ * The first line which is neither empty nor a {@code #} comment names the columns. Columns are separated by tabs,
+ * semicolons or commas, whichever the header uses first, and type suffixes like {@code b1:float} of the SNAP CSV
+ * product format are ignored. Inputs are matched to columns by their decision tree name ({@code b1}, ...) or by
+ * the band name of the intertidal flat classifier ({@code sand-tr_abundance}, ...). Empty input values are NaN.
+ * Each row is written unchanged, followed by the class memberships, maximum membership and final class.
+ */
+public final class PointClassifier {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final String[] inputNames;
+    private final String[] outputNames;
+    private final TileStackClassifier tileStackClassifier;
+    private final Map<String, String> aliases;
+
+    private PointClassifier(String[] inputNames, String[] outputNames, TileStackClassifier tileStackClassifier) {
+        this.inputNames = inputNames;
+        this.outputNames = outputNames;
+        this.tileStackClassifier = tileStackClassifier;
+        this.aliases = new HashMap<>();
+        for (String[] inputName : IntertidalFlatClassifierConstants.INPUT_NAMES) {
+            aliases.put(inputName[0], inputName[1]);
+        }
+    }
+
+    /**
+     * Creates a classifier for the intertidal flat decision tree, classifying like {@link IntertidalFlatClassifierOp}.
+     */
+    public static PointClassifier createIntertidal() {
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        final String[] inputNames = new String[IntertidalFlatClassifierConstants.INPUT_NAMES.length];
+        for (int i = 0; i < inputNames.length; i++) {
+            inputNames[i] = IntertidalFlatClassifierConstants.INPUT_NAMES[i][0];
+        }
+        // the invalid outputs are unused, no point is skipped
+        return new PointClassifier(inputNames, classifier.getOutputNames(),
+                                   new TileStackClassifier(classifier, IntertidalFlatClassifierConstants.CLASSIF_CLASS,
+                                                           classifier.createInvalidOutputs()));
+    }
+
+    /**
+     * Creates a classifier for a decision tree yml file, classifying like {@link GenericClassifierOp}.
+     */
+    public static PointClassifier createGeneric(File yamlFile) throws IOException, DecTreeParseException {
+        final DecTreeFunction function = DecTreeFunctionCache.load(yamlFile);
+        final int[] classValues = new int[function.getOutputSize() - 1];
+        for (int i = 0; i < classValues.length; i++) {
+            classValues[i] = i;
+        }
+        // unused, no point is skipped; as in GenericClassifierOp
+        final float[] invalidOutputs = new float[function.getOutputSize()];
+        invalidOutputs[invalidOutputs.length - 1] = Float.NaN;
+        return new PointClassifier(function.getInputNames(), function.getOutputNames(),
+                                   new TileStackClassifier(new DecTreeRowClassifier(function), classValues,
+                                                           invalidOutputs));
+    }
+
+    /**
+     * Classifies all points of the input and writes them with their classification.
+     *
+     * @param in        the CSV input
+     * @param out       the CSV output, using the separator of the input
+     * @param chunkSize the number of rows classified together
+     * @return the number of points classified
+     * @throws IOException if reading or writing fails, or if the input has no column for an input of the tree
+     *                     or an unparsable value
+     */
+    public long classify(BufferedReader in, Writer out, int chunkSize) throws IOException {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        long lineNumber = 0;
+        String header;
+        do {
+            header = in.readLine();
+            lineNumber++;
+            if (header == null) {
+                throw new IOException("No header line found.");
+            }
+            if (header.startsWith("#")) {
+                out.write(header);
+                out.write('\n');
+            }
+        } while (header.trim().isEmpty() || header.startsWith("#"));
+
+        final char separator = findSeparator(header);
+        final int[] columnIndexes = bindColumns(header.split(String.valueOf(separator), -1));
+        out.write(header);
+        for (String outputName : outputNames) {
+            out.write(separator);
+            out.write(outputName);
+        }
+        out.write(separator);
+        out.write(GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME);
+        out.write(separator);
+        out.write(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
+        out.write('\n');
+
+        final String[] lines = new String[chunkSize];
+        final float[][] inputs = new float[inputNames.length][chunkSize];
+        final float[][] outputs = new float[outputNames.length][chunkSize];
+        final float[] fuzzyMaxVal = new float[chunkSize];
+        final int[] finalClass = new int[chunkSize];
+        long numPoints = 0;
+        while (true) {
+            int n = 0;
+            String line;
+            while (n < chunkSize && (line = in.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                parseInputs(line, separator, columnIndexes, inputs, n, lineNumber);
+                lines[n++] = line;
+            }
+            if (n == 0) {
+                break;
+            }
+            tileStackClassifier.classifyRow(inputs, outputs, fuzzyMaxVal, finalClass, null, 0, n);
+            final StringBuilder sb = new StringBuilder();
+            for (int k = 0; k < n; k++) {
+                sb.setLength(0);
+                sb.append(lines[k]);
+                for (float[] output : outputs) {
+                    sb.append(separator).append(output[k]);
+                }
+                sb.append(separator).append(fuzzyMaxVal[k]);
+                sb.append(separator).append(finalClass[k]);
+                sb.append('\n');
+                out.append(sb);
+            }
+            numPoints += n;
+        }
+        out.flush();
+        return numPoints;
+    }
+
+    private static char findSeparator(String header) {
+        for (char c : new char[]{'\t', ';', ','}) {
+            if (header.indexOf(c) >= 0) {
+                return c;
+            }
+        }
+        return ',';
+    }
+
+    private int[] bindColumns(String[] columnNames) throws IOException {
+        final List<String> names = new ArrayList<>();
+        for (String columnName : columnNames) {
+            final int typeSep = columnName.indexOf(':');
+            names.add((typeSep >= 0 ? columnName.substring(0, typeSep) : columnName).trim());
+        }
+        final int[] columnIndexes = new int[inputNames.length];
+        for (int i = 0; i < inputNames.length; i++) {
+            int index = names.indexOf(inputNames[i]);
+            if (index < 0 && aliases.containsKey(inputNames[i])) {
+                index = names.indexOf(aliases.get(inputNames[i]));
+            }
+            if (index < 0) {
+                throw new IOException("No column found for decision tree input '" + inputNames[i] + "' in " +
+                                              Arrays.toString(names.toArray()) + ".");
+            }
+            columnIndexes[i] = index;
+        }
+        return columnIndexes;
+    }
+
+    private static void parseInputs(String line, char separator, int[] columnIndexes, float[][] inputs, int k,
+                                    long lineNumber) throws IOException {
+        final String[] values = line.split(String.valueOf(separator), -1);
+        for (int i = 0; i < columnIndexes.length; i++) {
+            if (columnIndexes[i] >= values.length) {
+                throw new IOException("Line " + lineNumber + ": too few columns.");
+            }
+            final String value = values[columnIndexes[i]].trim();
+            try {
+                inputs[i][k] = value.isEmpty() ? Float.NaN : Float.parseFloat(value);
+            } catch (NumberFormatException e) {
+                throw new IOException("Line " + lineNumber + ": invalid number '" + value + "'.");
+            }
+        }
+    }
+}
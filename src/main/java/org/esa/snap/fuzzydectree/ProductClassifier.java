@@ -0,0 +1,220 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.ceres.core.ProgressMonitor;
+import org.esa.snap.core.dataio.ProductWriter;
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Mask;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductData;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Classifies a whole product without the GPF tile scheduling and the JAI tile cache. Stripes of scanlines are
+ * read from the source bands, classified in parallel on a fork/join pool and streamed to a product writer.
+ * <p>
+ * The classification is configured by one of the classifier operators, which is only initialized, so that
+ * parameters, target bands and results are the same as with {@code gpt}.
+ */
+public final class ProductClassifier {
+
+    public static final int DEFAULT_STRIPE_HEIGHT = 16;
+
+    private final Product targetProduct;
+    private final Band[] sourceBands;
+    private final Mask invalidPixelMask;
+    private final TileStackClassifier tileStackClassifier;
+    private final Band[] outputBands;
+    private final Band fuzzyMaxValBand;
+    private final Band finalClassBand;
+    private final Band[] topClassBands;
+    private final Band[] topMembershipBands;
+    private final ThreadLocal<StripeBuffers> stripeBuffers;
+
+    /**
+     * @param operator the operator configuring the classification, with source product and parameters set
+     */
+    public ProductClassifier(AbstractClassifierOp operator) {
+        // initializes the operator
+        final Product targetProduct = operator.getTargetProduct();
+        final TileStackClassifier tileStackClassifier = operator.getTileStackClassifier();
+        final String[] outputNames = operator.getOutputNames();
+        this.targetProduct = targetProduct;
+        this.sourceBands = operator.getSourceBands();
+        this.invalidPixelMask = operator.getInvalidPixelMask();
+        this.tileStackClassifier = tileStackClassifier;
+        this.outputBands = new Band[outputNames.length];
+        for (int i = 0; i < outputNames.length; i++) {
+            outputBands[i] = targetProduct.getBand(outputNames[i]);
+        }
+        this.fuzzyMaxValBand = targetProduct.getBand(GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME);
+        this.finalClassBand = targetProduct.getBand(GenericClassifierConstants.FINAL_CLASS_BAND_NAME);
+        this.topClassBands = new Band[tileStackClassifier.getTopK()];
+        this.topMembershipBands = new Band[tileStackClassifier.getTopK()];
+        for (int j = 0; j < topClassBands.length; j++) {
+            topClassBands[j] = targetProduct.getBand(GenericClassifierConstants.TOP_CLASS_BAND_PREFIX + (j + 1));
+            topMembershipBands[j] =
+                    targetProduct.getBand(GenericClassifierConstants.TOP_MEMBERSHIP_BAND_PREFIX + (j + 1));
+        }
+        this.stripeBuffers = ThreadLocal.withInitial(StripeBuffers::new);
+    }
+
+    public Product getTargetProduct() {
+        return targetProduct;
+    }
+
+    /**
+     * Classifies all scanlines of the source product. Stripes are written in the order they complete.
+     *
+     * @param pool         the pool classifying the stripes
+     * @param stripeHeight the number of scanlines classified together
+     * @param writer       the writer of the target product, after {@code writeProductNodes}, or {@code null} to
+     *                     discard the results
+     * @throws IOException if reading the source or writing the target fails
+     */
+    public void classify(ForkJoinPool pool, int stripeHeight, ProductWriter writer) throws IOException {
+        if (stripeHeight <= 0) {
+            throw new IllegalArgumentException("stripeHeight must be positive");
+        }
+        final int height = targetProduct.getSceneRasterHeight();
+        final List<Callable<Void>> stripes = new ArrayList<>();
+        for (int y = 0; y < height; y += stripeHeight) {
+            final int y0 = y;
+            final int h = Math.min(stripeHeight, height - y);
+            stripes.add(() -> {
+                classifyStripe(y0, h, writer);
+                return null;
+            });
+        }
+        for (Future<Void> stripe : pool.invokeAll(stripes)) {
+            try {
+                stripe.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Classification interrupted.", e);
+            } catch (ExecutionException e) {
+                final Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    // The stripe is classified as a single row: the classifier and the maximum search are per pixel.
+    // Reads are serialized per band rather than per product: a reader may not read the same band concurrently,
+    // but reads of different bands proceed in parallel.
+    private void classifyStripe(int y, int h, ProductWriter writer) throws IOException {
+        final int width = targetProduct.getSceneRasterWidth();
+        final int length = width * h;
+        final StripeBuffers buffers = stripeBuffers.get();
+        buffers.ensureLength(length);
+
+        boolean[] invalid = null;
+        int numInvalid = 0;
+        if (invalidPixelMask != null) {
+            final int[] maskSamples = buffers.maskSamples;
+            synchronized (invalidPixelMask) {
+                invalidPixelMask.readPixels(0, y, width, h, maskSamples);
+            }
+            invalid = buffers.invalid;
+            for (int k = 0; k < length; k++) {
+                invalid[k] = maskSamples[k] != 0;
+                if (invalid[k]) {
+                    numInvalid++;
+                }
+            }
+        }
+
+        final float[][] inputs = buffers.inputs;
+        if (numInvalid < length) {
+            for (int i = 0; i < sourceBands.length; i++) {
+                synchronized (sourceBands[i]) {
+                    sourceBands[i].readPixels(0, y, width, h, inputs[i]);
+                }
+            }
+        }
+        final float[][] outputs = buffers.outputs;
+        final float[] fuzzyMaxVal = buffers.fuzzyMaxVal;
+        final int[] finalClass = buffers.finalClass;
+        tileStackClassifier.classifyRow(inputs, outputs, fuzzyMaxVal, finalClass, invalid, numInvalid, length);
+        final int[][] topClasses = buffers.topClasses;
+        final float[][] topMemberships = buffers.topMemberships;
+        if (topClassBands.length > 0) {
+            tileStackClassifier.selectTopK(outputs, topClasses, topMemberships, length);
+        }
+
+        if (writer == null) {
+            return;
+        }
+        for (int i = 0; i < outputBands.length; i++) {
+            if (outputBands[i] != null) {
+                write(writer, outputBands[i], y, width, h, MembershipEncoding.toRasterData(outputBands[i], outputs[i]));
+            }
+        }
+        if (fuzzyMaxValBand != null) {
+            write(writer, fuzzyMaxValBand, y, width, h, MembershipEncoding.toRasterData(fuzzyMaxValBand, fuzzyMaxVal));
+        }
+        if (finalClassBand != null) {
+            write(writer, finalClassBand, y, width, h, toClassData(finalClass));
+        }
+        for (int j = 0; j < topClassBands.length; j++) {
+            write(writer, topClassBands[j], y, width, h, toClassData(topClasses[j]));
+            write(writer, topMembershipBands[j], y, width, h,
+                  MembershipEncoding.toRasterData(topMembershipBands[j], topMemberships[j]));
+        }
+    }
+
+    private static ProductData toClassData(int[] classes) {
+        final byte[] samples = new byte[classes.length];
+        for (int k = 0; k < classes.length; k++) {
+            samples[k] = (byte) classes[k];
+        }
+        return ProductData.createInstance(samples);
+    }
+
+    private static void write(ProductWriter writer, Band band, int y, int width, int h,
+                              ProductData data) throws IOException {
+        synchronized (writer) {
+            writer.writeBandRasterData(band, 0, y, width, h, data, ProgressMonitor.NULL);
+        }
+    }
+
+    // The arrays are written as they are, so they have the length of the stripe. Only the last stripe is shorter.
+    private final class StripeBuffers {
+
+        int length = -1;
+        int[] maskSamples;
+        boolean[] invalid;
+        float[][] inputs;
+        float[][] outputs;
+        float[] fuzzyMaxVal;
+        int[] finalClass;
+        int[][] topClasses;
+        float[][] topMemberships;
+
+        void ensureLength(int length) {
+            if (this.length != length) {
+                this.length = length;
+                maskSamples = new int[length];
+                invalid = new boolean[length];
+                inputs = new float[sourceBands.length][length];
+                outputs = new float[outputBands.length][length];
+                fuzzyMaxVal = new float[length];
+                finalClass = new int[length];
+                topClasses = new int[topClassBands.length][length];
+                topMemberships = new float[topClassBands.length][length];
+            }
+        }
+    }
+}
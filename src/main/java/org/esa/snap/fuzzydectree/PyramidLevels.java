@@ -0,0 +1,80 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.dataio.ProductSubsetDef;
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductNodeGroup;
+import org.esa.snap.core.datamodel.RasterDataNode;
+import org.esa.snap.core.gpf.OperatorException;
+import org.esa.snap.core.util.ProductUtils;
+
+import java.awt.image.RenderedImage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Creates views of a product at a lower level of its image pyramids, so that the classifier operators can classify
+ * quick-looks from the level images instead of the full resolution. This saves classification work in proportion to
+ * the pixel count. It does not necessarily save I/O: the level images of most products are downsampled from the full
+ * resolution images, which are still read completely. Only a reader that provides the levels itself reads fewer
+ * pixels, which cannot be told from the product.
+ */
+final class PyramidLevels {
+
+    private PyramidLevels() {
+    }
+
+    /**
+     * Creates a product with the size of the given pyramid level of the product, 1/2^level of the width and height,
+     * and a subsampled geo-coding. The bands, tie-point grids and masks of the product become bands of the same
+     * name, properties and flag or index coding, whose source images are the level images, so that band maths
+     * expressions like valid-pixel expressions keep working, also those using flags. Samples are read from the
+     * level images; the product has no reader.
+     *
+     * @throws OperatorException if the product has less than {@code level + 1} pyramid levels
+     */
+    static Product createLevelProduct(Product product, int level) {
+        if (level >= product.getNumResolutionLevels()) {
+            throw new OperatorException("Pyramid level " + level + " requested, but the source product has only " +
+                                                product.getNumResolutionLevels() + " levels.");
+        }
+        final RenderedImage referenceImage = product.getBandAt(0).getSourceImage().getImage(level);
+        final int w = referenceImage.getWidth();
+        final int h = referenceImage.getHeight();
+        final Product levelProduct = new Product(product.getName(), product.getProductType(), w, h);
+        final ProductSubsetDef subsetDef = new ProductSubsetDef();
+        subsetDef.setSubSampling(1 << level, 1 << level);
+        product.transferGeoCodingTo(levelProduct, subsetDef);
+        levelProduct.setStartTime(product.getStartTime());
+        levelProduct.setEndTime(product.getEndTime());
+        ProductUtils.copyFlagCodings(product, levelProduct);
+        ProductUtils.copyIndexCodings(product, levelProduct);
+
+        final List<RasterDataNode> rasters = new ArrayList<>(Arrays.asList(product.getBands()));
+        rasters.addAll(Arrays.asList(product.getTiePointGrids()));
+        final ProductNodeGroup<?> maskGroup = product.getMaskGroup();
+        for (int i = 0; i < maskGroup.getNodeCount(); i++) {
+            rasters.add((RasterDataNode) maskGroup.get(i));
+        }
+        for (RasterDataNode raster : rasters) {
+            final RenderedImage levelImage = raster.getSourceImage().getImage(level);
+            if (levelImage.getWidth() != w || levelImage.getHeight() != h) {
+                throw new OperatorException("Raster '" + raster.getName() + "' has a different size than the " +
+                                                    "first band, products of multiple sizes are not supported.");
+            }
+            final Band band = new Band(raster.getName(), raster.getDataType(), w, h);
+            ProductUtils.copyRasterDataNodeProperties(raster, band);
+            if (raster instanceof Band && ((Band) raster).isFlagBand()) {
+                final String codingName = ((Band) raster).getFlagCoding().getName();
+                band.setSampleCoding(levelProduct.getFlagCodingGroup().get(codingName));
+            } else if (raster instanceof Band && ((Band) raster).isIndexBand()) {
+                final String codingName = ((Band) raster).getIndexCoding().getName();
+                band.setSampleCoding(levelProduct.getIndexCodingGroup().get(codingName));
+            }
+            band.setSourceImage(levelImage);
+            levelProduct.addBand(band);
+        }
+        return levelProduct;
+    }
+}
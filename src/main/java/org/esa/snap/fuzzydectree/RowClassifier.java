@@ -0,0 +1,41 @@
+package org.esa.snap.fuzzydectree;
+
+/**
+ * A fuzzy classifier evaluated on columns of samples, one array per input and per output.
+ */
+interface RowClassifier {
+
+    int getInputSize();
+
+    int getOutputSize();
+
+    /**
+     * Classifies the pixels {@code offset} to {@code offset + length - 1} of the given input columns.
+     * Implementations must be safe for concurrent use by several tile computations.
+     */
+    void apply(float[][] inputs, float[][] outputs, int offset, int length);
+
+    /**
+     * Classifies like {@link #apply} and determines the class of each pixel: the index of the first of the class
+     * outputs (all but the last output) with the largest membership if that is larger than
+     * {@link Double#MIN_VALUE}, else -1, and that membership. Implementations may track the maximum while
+     * classifying instead of in a second pass over the outputs.
+     */
+    default void applyAndClassify(float[][] inputs, float[][] outputs, int[] classIndexes, float[] maxValues,
+                                  int offset, int length) {
+        apply(inputs, outputs, offset, length);
+        final int numClasses = getOutputSize() - 1;
+        for (int k = offset; k < offset + length; k++) {
+            double outputMax = Double.MIN_VALUE;
+            int maxOutputIndex = -1;
+            for (int i = 0; i < numClasses; i++) {
+                if (outputs[i][k] > outputMax) {
+                    outputMax = outputs[i][k];
+                    maxOutputIndex = i;
+                }
+            }
+            classIndexes[k] = maxOutputIndex;
+            maxValues[k] = (float) outputMax;
+        }
+    }
+}
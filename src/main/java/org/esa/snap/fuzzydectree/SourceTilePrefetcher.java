@@ -0,0 +1,151 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Mask;
+import org.esa.snap.core.datamodel.RasterDataNode;
+import org.esa.snap.core.util.SystemUtils;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.Raster;
+import java.awt.image.RenderedImage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+/**
+ * Requests the source tiles of the next target tiles, in row order, while the current target tile is classified.
+ * The tiles are computed by a background thread into the JAI tile cache, where {@code getSourceTile} finds them,
+ * so that readers and upstream operators are not waited for on the classifier threads.
+ * <p>
+ * At most {@code depth} target tiles are queued. If the classification runs ahead of the prefetching, the oldest
+ * request is dropped, since that tile is about to be computed anyway. Memory is bounded by the tile cache.
+ * Tiles whose pixels are all masked as invalid only have their mask tile read, like in the operators.
+ */
+final class SourceTilePrefetcher {
+
+    private final Mask invalidPixelMask;
+    private final Band[] sourceBands;
+    private final Dimension sceneSize;
+    private final int depth;
+    private final ThreadPoolExecutor executor;
+    // the highest target tile index requested in the current pass over the image
+    private final AtomicInteger lastTileIndex;
+
+    /**
+     * @param sourceBands      the source bands
+     * @param invalidPixelMask the mask of pixels which are not classified, may be {@code null}
+     * @param sceneSize        the size of the source and target products
+     * @param depth            the number of target tiles requested ahead of the current one
+     */
+    SourceTilePrefetcher(Band[] sourceBands, Mask invalidPixelMask, Dimension sceneSize, int depth) {
+        this.invalidPixelMask = invalidPixelMask;
+        this.sourceBands = sourceBands;
+        this.sceneSize = sceneSize;
+        this.depth = depth;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(depth),
+                                               runnable -> {
+                                                   final Thread thread = new Thread(runnable, "classifier-prefetch");
+                                                   thread.setDaemon(true);
+                                                   return thread;
+                                               },
+                                               new ThreadPoolExecutor.DiscardOldestPolicy());
+        this.lastTileIndex = new AtomicInteger(-1);
+    }
+
+    /**
+     * Requests the source tiles of the target tiles following the given one.
+     *
+     * @param targetRectangle the target tile being computed
+     * @param tileSize        the tile size of the target product
+     */
+    void prefetchAfter(Rectangle targetRectangle, Dimension tileSize) {
+        for (Rectangle rectangle : selectTiles(targetRectangle, tileSize)) {
+            executor.execute(() -> fetch(rectangle));
+        }
+    }
+
+    /**
+     * Selects the target tiles following the given one, in row order, which have not been requested yet.
+     * Tiles may be computed out of order by several threads. A tile far before the requested ones, more than
+     * a row of tiles plus the depth, starts a new pass over the image, e.g. when the product is written again.
+     */
+    List<Rectangle> selectTiles(Rectangle targetRectangle, Dimension tileSize) {
+        final int numXTiles = (sceneSize.width + tileSize.width - 1) / tileSize.width;
+        final int numYTiles = (sceneSize.height + tileSize.height - 1) / tileSize.height;
+        final int tileIndex = targetRectangle.y / tileSize.height * numXTiles + targetRectangle.x / tileSize.width;
+        final int endIndex = Math.min(tileIndex + depth, numXTiles * numYTiles - 1);
+        int last;
+        int first;
+        do {
+            last = lastTileIndex.get();
+            first = tileIndex < last - depth - numXTiles ? tileIndex : last;
+            if (first >= endIndex) {
+                return Collections.emptyList();
+            }
+        } while (!lastTileIndex.compareAndSet(last, endIndex));
+        final List<Rectangle> rectangles = new ArrayList<>();
+        for (int index = Math.max(first + 1, tileIndex + 1); index <= endIndex; index++) {
+            rectangles.add(new Rectangle(index % numXTiles * tileSize.width,
+                                         index / numXTiles * tileSize.height,
+                                         tileSize.width, tileSize.height)
+                                   .intersection(new Rectangle(sceneSize)));
+        }
+        return rectangles;
+    }
+
+    void dispose() {
+        executor.shutdownNow();
+    }
+
+    private void fetch(Rectangle rectangle) {
+        if (invalidPixelMask != null) {
+            final List<Raster> maskTiles = fetch(invalidPixelMask, rectangle);
+            boolean allInvalid = maskTiles != null;
+            for (int i = 0; allInvalid && i < maskTiles.size(); i++) {
+                allInvalid = InvalidPixelMask.isAllInvalid(maskTiles.get(i), rectangle);
+            }
+            if (allInvalid) {
+                // the operators do not read the source tiles either
+                return;
+            }
+        }
+        for (Band band : sourceBands) {
+            fetch(band, rectangle);
+        }
+    }
+
+    /**
+     * @return the tiles of the raster's image covering the rectangle, {@code null} if interrupted or failed
+     */
+    private static List<Raster> fetch(RasterDataNode raster, Rectangle rectangle) {
+        if (Thread.currentThread().isInterrupted()) {
+            return null;
+        }
+        try {
+            final RenderedImage image = raster.getSourceImage().getImage(0);
+            final int tileX0 = Math.floorDiv(rectangle.x - image.getTileGridXOffset(), image.getTileWidth());
+            final int tileY0 = Math.floorDiv(rectangle.y - image.getTileGridYOffset(), image.getTileHeight());
+            final int tileX1 = Math.floorDiv(rectangle.x + rectangle.width - 1 - image.getTileGridXOffset(),
+                                             image.getTileWidth());
+            final int tileY1 = Math.floorDiv(rectangle.y + rectangle.height - 1 - image.getTileGridYOffset(),
+                                             image.getTileHeight());
+            final List<Raster> tiles = new ArrayList<>();
+            for (int tileY = tileY0; tileY <= tileY1; tileY++) {
+                for (int tileX = tileX0; tileX <= tileX1; tileX++) {
+                    tiles.add(image.getTile(tileX, tileY));
+                }
+            }
+            return tiles;
+        } catch (RuntimeException e) {
+            // the tile is read again by getSourceTile, which reports the failure
+            SystemUtils.LOG.log(Level.FINE, "Prefetching source tile of " + raster.getName() + " failed.", e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.gpf.Tile;
+
+import java.util.Map;
+
+/**
+ * The target tiles of a tile stack computed by {@link TileStackClassifier}, as {@link TileRowWriter}s.
+ * Writers are {@code null} for bands which are not in the target product.
+ */
+final class TargetRows {
+
+    final TileRowWriter[] outputs;
+    final TileRowWriter fuzzyMaxVal;
+    final TileRowWriter finalClass;
+    final TileRowWriter[] topClasses;
+    final TileRowWriter[] topMemberships;
+
+    TargetRows(TileRowWriter[] outputs, TileRowWriter fuzzyMaxVal, TileRowWriter finalClass,
+               TileRowWriter[] topClasses, TileRowWriter[] topMemberships) {
+        this.outputs = outputs;
+        this.fuzzyMaxVal = fuzzyMaxVal;
+        this.finalClass = finalClass;
+        this.topClasses = topClasses;
+        this.topMemberships = topMemberships;
+    }
+
+    /**
+     * @param outputNames the names of the classifier outputs
+     * @param topK        the number of top class and membership bands
+     */
+    static TargetRows create(Map<Band, Tile> targetTiles, Product targetProduct, String[] outputNames, int topK) {
+        final TileRowWriter[] outputs = new TileRowWriter[outputNames.length];
+        for (int i = 0; i < outputNames.length; i++) {
+            outputs[i] = TileRowWriter.create(targetTiles, targetProduct, outputNames[i]);
+        }
+        final TileRowWriter[] topClasses = new TileRowWriter[topK];
+        final TileRowWriter[] topMemberships = new TileRowWriter[topK];
+        for (int j = 0; j < topK; j++) {
+            topClasses[j] = TileRowWriter.create(targetTiles, targetProduct,
+                                                 GenericClassifierConstants.TOP_CLASS_BAND_PREFIX + (j + 1));
+            topMemberships[j] = TileRowWriter.create(targetTiles, targetProduct,
+                                                     GenericClassifierConstants.TOP_MEMBERSHIP_BAND_PREFIX + (j + 1));
+        }
+        return new TargetRows(outputs,
+                              TileRowWriter.create(targetTiles, targetProduct,
+                                                   GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME),
+                              TileRowWriter.create(targetTiles, targetProduct,
+                                                   GenericClassifierConstants.FINAL_CLASS_BAND_NAME),
+                              topClasses, topMemberships);
+    }
+}
@@ -0,0 +1,43 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.core.datamodel.RasterDataNode;
+import org.esa.snap.core.gpf.Tile;
+
+/**
+ * Reads scanlines of geophysical samples from a source tile.
+ * Unscaled float bands without valid-pixel expression are read directly from the tile's data buffer,
+ * all other bands fall back to {@link Tile#getSampleFloat(int, int)}.
+ */
+final class TileRowReader {
+
+    private final Tile tile;
+    private final float[] data;
+    private final int scanlineOffset;
+    private final int scanlineStride;
+
+    TileRowReader(Tile tile) {
+        this.tile = tile;
+        this.data = isRawReadable(tile.getRasterDataNode()) ? tile.getDataBufferFloat() : null;
+        this.scanlineOffset = tile.getScanlineOffset();
+        this.scanlineStride = tile.getScanlineStride();
+    }
+
+    static boolean isRawReadable(RasterDataNode node) {
+        final String validPixelExpression = node.getValidPixelExpression();
+        return node.getDataType() == ProductData.TYPE_FLOAT32 &&
+                !node.isScalingApplied() &&
+                (validPixelExpression == null || validPixelExpression.trim().isEmpty());
+    }
+
+    void readRow(int y, int x0, int width, float[] samples) {
+        if (data != null) {
+            final int index = scanlineOffset + (y - tile.getMinY()) * scanlineStride + (x0 - tile.getMinX());
+            System.arraycopy(data, index, samples, 0, width);
+        } else {
+            for (int i = 0; i < width; i++) {
+                samples[i] = tile.getSampleFloat(x0 + i, y);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.core.gpf.Tile;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Writes scanlines of samples into a target tile.
+ * The float32 and int8 bands created by the classifier operators, and their uint8 and uint16 membership bands
+ * (see {@link MembershipEncoding}), are written directly into the tile's data buffer, other tiles fall back to
+ * {@link Tile#setSample(int, int, float)}.
+ */
+final class TileRowWriter {
+
+    private final Tile tile;
+    private final float[] floatData;
+    private final byte[] byteData;
+    private final short[] shortData;
+    private final int maxRawValue;
+    private final int scanlineOffset;
+    private final int scanlineStride;
+
+    TileRowWriter(Tile tile) {
+        this.tile = tile;
+        this.floatData = tile.getDataBufferFloat();
+        this.byteData = floatData == null ? tile.getDataBufferByte() : null;
+        this.shortData = floatData == null && byteData == null ? getDataBufferShort(tile) : null;
+        this.maxRawValue = MembershipEncoding.getMaxRawValue(tile.getRasterDataNode());
+        this.scanlineOffset = tile.getScanlineOffset();
+        this.scanlineStride = tile.getScanlineStride();
+    }
+
+    // uint16 tiles are backed by a DataBufferUShort, for which getDataBufferShort returns null
+    private static short[] getDataBufferShort(Tile tile) {
+        return tile.getRasterDataNode().getDataType() == ProductData.TYPE_UINT16 ?
+                tile.getDataBufferUShort() : tile.getDataBufferShort();
+    }
+
+    /**
+     * @return a writer for the target tile of the named band, or {@code null} if the target product has no such band
+     */
+    static TileRowWriter create(Map<Band, Tile> targetTiles, Product targetProduct, String bandName) {
+        final Band band = targetProduct.getBand(bandName);
+        return band != null ? new TileRowWriter(targetTiles.get(band)) : null;
+    }
+
+    void writeRow(int y, int x0, int width, float[] samples) {
+        final int index = scanlineOffset + (y - tile.getMinY()) * scanlineStride + (x0 - tile.getMinX());
+        if (floatData != null) {
+            System.arraycopy(samples, 0, floatData, index, width);
+        } else if (maxRawValue != 0 && byteData != null) {
+            for (int i = 0; i < width; i++) {
+                byteData[index + i] = (byte) MembershipEncoding.encode(samples[i], maxRawValue);
+            }
+        } else if (maxRawValue != 0 && shortData != null) {
+            for (int i = 0; i < width; i++) {
+                shortData[index + i] = (short) MembershipEncoding.encode(samples[i], maxRawValue);
+            }
+        } else if (byteData != null) {
+            for (int i = 0; i < width; i++) {
+                byteData[index + i] = (byte) samples[i];
+            }
+        } else {
+            for (int i = 0; i < width; i++) {
+                tile.setSample(x0 + i, y, samples[i]);
+            }
+        }
+    }
+
+    void writeRow(int y, int x0, int width, int[] samples) {
+        final int index = scanlineOffset + (y - tile.getMinY()) * scanlineStride + (x0 - tile.getMinX());
+        if (byteData != null) {
+            for (int i = 0; i < width; i++) {
+                byteData[index + i] = (byte) samples[i];
+            }
+        } else if (floatData != null) {
+            for (int i = 0; i < width; i++) {
+                floatData[index + i] = samples[i];
+            }
+        } else {
+            for (int i = 0; i < width; i++) {
+                tile.setSample(x0 + i, y, samples[i]);
+            }
+        }
+    }
+
+    void fillRow(int y, int x0, int width, float value) {
+        final int index = scanlineOffset + (y - tile.getMinY()) * scanlineStride + (x0 - tile.getMinX());
+        if (floatData != null) {
+            Arrays.fill(floatData, index, index + width, value);
+        } else if (maxRawValue != 0 && byteData != null) {
+            Arrays.fill(byteData, index, index + width, (byte) MembershipEncoding.encode(value, maxRawValue));
+        } else if (maxRawValue != 0 && shortData != null) {
+            Arrays.fill(shortData, index, index + width, (short) MembershipEncoding.encode(value, maxRawValue));
+        } else if (byteData != null) {
+            Arrays.fill(byteData, index, index + width, (byte) value);
+        } else {
+            for (int i = 0; i < width; i++) {
+                tile.setSample(x0 + i, y, value);
+            }
+        }
+    }
+
+    void fillRow(int y, int x0, int width, int value) {
+        final int index = scanlineOffset + (y - tile.getMinY()) * scanlineStride + (x0 - tile.getMinX());
+        if (byteData != null) {
+            Arrays.fill(byteData, index, index + width, (byte) value);
+        } else if (floatData != null) {
+            Arrays.fill(floatData, index, index + width, value);
+        } else {
+            for (int i = 0; i < width; i++) {
+                tile.setSample(x0 + i, y, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.ceres.core.ProgressMonitor;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Classifies a tile stack row by row: reads the source rows, applies a {@link RowClassifier}, determines
+ * the class with maximum membership and writes memberships, maximum membership and final class.
+ * <p>
+ * The last classifier output is not a class membership (e.g. {@code bsum}) and does not take part in the
+ * maximum search. Writers may be {@code null} for outputs which are not written to the target product.
+ * Optionally, the K classes with the largest memberships are selected for each pixel as well.
+ * <p>
+ * Pixels marked by an {@link InvalidPixelMask} are not classified but get a constant output vector. Scanlines
+ * and tiles without any valid pixel are filled in bulk, in other scanlines only the valid pixels are passed
+ * to the classifier.
+ * <p>
+ * Large tiles may be split into stripes of scanlines classified in parallel. Each thread keeps its own
+ * scanline scratch arrays, so the classifier must be safe for concurrent use, like any {@link RowClassifier}.
+ */
+final class TileStackClassifier {
+
+    private final RowClassifier classifier;
+    private final int[] classValues;
+    private final float[] invalidOutputs;
+    private final int invalidClassIndex;
+    private final int invalidFinalClass;
+    private final float invalidFuzzyMaxVal;
+    private final ThreadLocal<RowBuffers> rowBuffers;
+    private final int topK;
+    private final int[][] invalidTopClasses;
+    private final float[][] invalidTopMemberships;
+    private final ClassifierMetrics metrics;
+
+    /**
+     * @param classifier     the classifier
+     * @param classValues    the final class value for each class membership output
+     * @param invalidOutputs the outputs for pixels which are not classified
+     */
+    TileStackClassifier(RowClassifier classifier, int[] classValues, float[] invalidOutputs) {
+        this(classifier, classValues, invalidOutputs, 0, null);
+    }
+
+    /**
+     * @param classifier     the classifier
+     * @param classValues    the final class value for each class membership output
+     * @param invalidOutputs the outputs for pixels which are not classified
+     * @param topK           the number of top classes selected per pixel, 0 for none
+     * @param metrics        the metrics receiving pixel counts and stage times of {@link #compute}, may be {@code null}
+     */
+    TileStackClassifier(RowClassifier classifier, int[] classValues, float[] invalidOutputs, int topK,
+                        ClassifierMetrics metrics) {
+        this.classifier = classifier;
+        this.topK = topK;
+        this.metrics = metrics;
+        this.classValues = classValues;
+        this.invalidOutputs = invalidOutputs;
+        double outputMax = Double.MIN_VALUE;
+        int maxOutputIndex = -1;
+        for (int i = 0; i < classValues.length; i++) {
+            if (invalidOutputs[i] > outputMax) {
+                outputMax = invalidOutputs[i];
+                maxOutputIndex = i;
+            }
+        }
+        this.invalidClassIndex = maxOutputIndex;
+        this.invalidFinalClass = toClassValue(maxOutputIndex);
+        this.invalidFuzzyMaxVal = (float) outputMax;
+        this.rowBuffers = ThreadLocal.withInitial(RowBuffers::new);
+        this.invalidTopClasses = new int[topK][1];
+        this.invalidTopMemberships = new float[topK][1];
+        if (topK > 0) {
+            final float[][] invalidOutputColumns = new float[invalidOutputs.length][];
+            for (int i = 0; i < invalidOutputs.length; i++) {
+                invalidOutputColumns[i] = new float[]{invalidOutputs[i]};
+            }
+            selectTopK(invalidOutputColumns, invalidTopClasses, invalidTopMemberships, 1);
+        }
+    }
+
+    /**
+     * Classifies the target rectangle. Rectangles of at least two stripes are split into stripes of
+     * {@code stripeHeight} scanlines, which are classified in parallel on the fork/join pool of the calling
+     * thread, or the common pool. The cancellation check is run before each scanline, on the thread
+     * classifying it, and progress is reported per scanline.
+     *
+     * @param invalidPixels the pixels which are not classified, may be {@code null}
+     * @param stripeHeight  the number of scanlines per parallel stripe, or 0 to classify on the calling thread
+     */
+    void compute(TileRowReader[] sourceRows,
+                 TargetRows targetRows,
+                 InvalidPixelMask invalidPixels,
+                 Rectangle targetRectangle,
+                 int stripeHeight,
+                 ProgressMonitor pm,
+                 Runnable cancellationCheck) {
+        final int y0 = targetRectangle.y;
+        final int y1 = targetRectangle.y + targetRectangle.height;
+        pm.beginTask("Classifying tile", targetRectangle.height);
+        try {
+            if (stripeHeight <= 0 || targetRectangle.height < 2 * stripeHeight) {
+                computeRows(sourceRows, targetRows, invalidPixels, targetRectangle, y0, y1, pm, cancellationCheck);
+                return;
+            }
+            final List<ForkJoinTask<?>> stripes = new ArrayList<>();
+            for (int y = y0; y < y1; y += stripeHeight) {
+                final int stripeY0 = y;
+                final int stripeY1 = Math.min(y + stripeHeight, y1);
+                stripes.add(ForkJoinTask.adapt(
+                        () -> computeRows(sourceRows, targetRows, invalidPixels, targetRectangle,
+                                          stripeY0, stripeY1, pm, cancellationCheck)));
+            }
+            ForkJoinTask.invokeAll(stripes);
+        } finally {
+            pm.done();
+        }
+    }
+
+    private void computeRows(TileRowReader[] sourceRows,
+                             TargetRows targetRows,
+                             InvalidPixelMask invalidPixels,
+                             Rectangle targetRectangle,
+                             int y0, int y1,
+                             ProgressMonitor pm,
+                             Runnable cancellationCheck) {
+        final int x0 = targetRectangle.x;
+        final int width = targetRectangle.width;
+        final RowBuffers buffers = rowBuffers.get();
+        buffers.ensureWidth(width);
+        final float[][] inputs = buffers.inputs;
+        final float[][] outputs = buffers.outputs;
+        final int[] finalClass = buffers.finalClass;
+        final float[] fuzzyMaxVal = buffers.fuzzyMaxVal;
+        final boolean[] invalid = buffers.invalid;
+        final int[][] topClasses = buffers.topClasses;
+        final float[][] topMemberships = buffers.topMemberships;
+        for (int y = y0; y < y1; y++) {
+            cancellationCheck.run();
+            final int numInvalid = invalidPixels != null ? invalidPixels.readRow(y, x0, width, invalid) : 0;
+            if (numInvalid == width) {
+                fillRow(targetRows, y, x0, width);
+                if (metrics != null) {
+                    metrics.addSkipped(width);
+                }
+            } else {
+                final long t0 = metrics != null ? System.nanoTime() : 0L;
+                for (int i = 0; i < sourceRows.length; i++) {
+                    sourceRows[i].readRow(y, x0, width, inputs[i]);
+                }
+                final long t1 = metrics != null ? System.nanoTime() : 0L;
+                classifyRow(inputs, outputs, fuzzyMaxVal, finalClass, invalid, numInvalid, width);
+                if (topK > 0) {
+                    selectTopK(outputs, topClasses, topMemberships, width);
+                }
+                final long t2 = metrics != null ? System.nanoTime() : 0L;
+
+                for (int i = 0; i < targetRows.outputs.length; i++) {
+                    if (targetRows.outputs[i] != null) {
+                        targetRows.outputs[i].writeRow(y, x0, width, outputs[i]);
+                    }
+                }
+                if (targetRows.fuzzyMaxVal != null) {
+                    targetRows.fuzzyMaxVal.writeRow(y, x0, width, fuzzyMaxVal);
+                }
+                if (targetRows.finalClass != null) {
+                    targetRows.finalClass.writeRow(y, x0, width, finalClass);
+                }
+                for (int j = 0; j < targetRows.topClasses.length; j++) {
+                    if (targetRows.topClasses[j] != null) {
+                        targetRows.topClasses[j].writeRow(y, x0, width, topClasses[j]);
+                    }
+                    if (targetRows.topMemberships[j] != null) {
+                        targetRows.topMemberships[j].writeRow(y, x0, width, topMemberships[j]);
+                    }
+                }
+                if (metrics != null) {
+                    metrics.addRow(width - numInvalid, numInvalid, t1 - t0, t2 - t1, System.nanoTime() - t2);
+                }
+            }
+            synchronized (pm) {
+                pm.worked(1);
+            }
+        }
+    }
+
+    /**
+     * Classifies a row of input samples and determines class and maximum membership of each pixel.
+     *
+     * @param invalid    flags for the pixels which are not classified, may be {@code null} if numInvalid is 0
+     * @param numInvalid the number of flagged pixels
+     */
+    void classifyRow(float[][] inputs, float[][] outputs, float[] fuzzyMaxVal, int[] finalClass,
+                     boolean[] invalid, int numInvalid, int width) {
+        if (numInvalid == width) {
+            for (int i = 0; i < outputs.length; i++) {
+                Arrays.fill(outputs[i], 0, width, invalidOutputs[i]);
+            }
+            Arrays.fill(finalClass, 0, width, invalidFinalClass);
+            Arrays.fill(fuzzyMaxVal, 0, width, invalidFuzzyMaxVal);
+            return;
+        }
+
+        if (numInvalid == 0) {
+            classifier.applyAndClassify(inputs, outputs, finalClass, fuzzyMaxVal, 0, width);
+        } else {
+            applyToValid(inputs, outputs, fuzzyMaxVal, finalClass, invalid, width - numInvalid, width);
+        }
+        for (int k = 0; k < width; k++) {
+            finalClass[k] = toClassValue(finalClass[k]);
+        }
+    }
+
+    private int toClassValue(int classIndex) {
+        return classIndex >= 0 ? classValues[classIndex] : -1;
+    }
+
+    // Only the valid pixels are passed to the classifier, packed into contiguous scratch columns.
+    // Leaves class indexes in finalClass.
+    private void applyToValid(float[][] inputs, float[][] outputs, float[] fuzzyMaxVal, int[] finalClass,
+                              boolean[] invalid, int numValid, int width) {
+        final RowBuffers buffers = rowBuffers.get();
+        buffers.ensureValidLength(numValid);
+        for (int i = 0; i < inputs.length; i++) {
+            final float[] validInputs = buffers.validInputs[i];
+            int j = 0;
+            for (int k = 0; k < width; k++) {
+                if (!invalid[k]) {
+                    validInputs[j++] = inputs[i][k];
+                }
+            }
+        }
+        classifier.applyAndClassify(buffers.validInputs, buffers.validOutputs, buffers.validClassIndexes,
+                                    buffers.validMaxValues, 0, numValid);
+        for (int i = 0; i < outputs.length; i++) {
+            final float[] validOutputs = buffers.validOutputs[i];
+            final float invalidOutput = invalidOutputs[i];
+            int j = 0;
+            for (int k = 0; k < width; k++) {
+                outputs[i][k] = invalid[k] ? invalidOutput : validOutputs[j++];
+            }
+        }
+        int j = 0;
+        for (int k = 0; k < width; k++) {
+            if (invalid[k]) {
+                finalClass[k] = invalidClassIndex;
+                fuzzyMaxVal[k] = invalidFuzzyMaxVal;
+            } else {
+                finalClass[k] = buffers.validClassIndexes[j];
+                fuzzyMaxVal[k] = buffers.validMaxValues[j];
+                j++;
+            }
+        }
+    }
+
+    int getTopK() {
+        return topK;
+    }
+
+    /**
+     * Selects the {@link #getTopK() top K} classes of each pixel from the outputs of {@link #classifyRow}: the
+     * class values and memberships in order of decreasing membership, the first class equal to the final class.
+     * Classes with zero membership are not selected, remaining places get class -1 and membership 0.
+     */
+    void selectTopK(float[][] outputs, int[][] topClasses, float[][] topMemberships, int width) {
+        final int numClasses = classValues.length;
+        final int[] classIndexes = new int[topK];
+        final float[] memberships = new float[topK];
+        for (int k = 0; k < width; k++) {
+            // insertion into the K places, ties keep the lower class index first like the maximum search
+            int n = 0;
+            for (int i = 0; i < numClasses; i++) {
+                final float membership = outputs[i][k];
+                if (!(membership > Double.MIN_VALUE) || (n == topK && !(membership > memberships[topK - 1]))) {
+                    continue;
+                }
+                int p = n < topK ? n++ : topK - 1;
+                while (p > 0 && membership > memberships[p - 1]) {
+                    memberships[p] = memberships[p - 1];
+                    classIndexes[p] = classIndexes[p - 1];
+                    p--;
+                }
+                memberships[p] = membership;
+                classIndexes[p] = i;
+            }
+            for (int j = 0; j < topK; j++) {
+                topClasses[j][k] = j < n ? classValues[classIndexes[j]] : -1;
+                topMemberships[j][k] = j < n ? memberships[j] : 0.0F;
+            }
+        }
+    }
+
+    /**
+     * Writes the outputs for pixels which are not classified to the whole target rectangle.
+     */
+    void fill(TargetRows targetRows, Rectangle targetRectangle) {
+        if (metrics != null) {
+            metrics.addSkipped((long) targetRectangle.width * targetRectangle.height);
+        }
+        for (int y = targetRectangle.y; y < targetRectangle.y + targetRectangle.height; y++) {
+            fillRow(targetRows, y, targetRectangle.x, targetRectangle.width);
+        }
+    }
+
+    private void fillRow(TargetRows targetRows, int y, int x0, int width) {
+        for (int i = 0; i < targetRows.outputs.length; i++) {
+            if (targetRows.outputs[i] != null) {
+                targetRows.outputs[i].fillRow(y, x0, width, invalidOutputs[i]);
+            }
+        }
+        if (targetRows.fuzzyMaxVal != null) {
+            targetRows.fuzzyMaxVal.fillRow(y, x0, width, invalidFuzzyMaxVal);
+        }
+        if (targetRows.finalClass != null) {
+            targetRows.finalClass.fillRow(y, x0, width, invalidFinalClass);
+        }
+        for (int j = 0; j < targetRows.topClasses.length; j++) {
+            if (targetRows.topClasses[j] != null) {
+                targetRows.topClasses[j].fillRow(y, x0, width, invalidTopClasses[j][0]);
+            }
+            if (targetRows.topMemberships[j] != null) {
+                targetRows.topMemberships[j].fillRow(y, x0, width, invalidTopMemberships[j][0]);
+            }
+        }
+    }
+
+    // scanline scratch arrays, one set per thread, grown to the widest tile or row seen
+    private final class RowBuffers {
+
+        float[][] inputs = new float[classifier.getInputSize()][0];
+        float[][] outputs = new float[classifier.getOutputSize()][0];
+        int[] finalClass = new int[0];
+        float[] fuzzyMaxVal = new float[0];
+        boolean[] invalid = new boolean[0];
+        int[][] topClasses = new int[topK][0];
+        float[][] topMemberships = new float[topK][0];
+        float[][] validInputs = new float[classifier.getInputSize()][0];
+        float[][] validOutputs = new float[classifier.getOutputSize()][0];
+        int[] validClassIndexes = new int[0];
+        float[] validMaxValues = new float[0];
+
+        void ensureWidth(int width) {
+            if (finalClass.length < width) {
+                inputs = new float[classifier.getInputSize()][width];
+                outputs = new float[classifier.getOutputSize()][width];
+                finalClass = new int[width];
+                fuzzyMaxVal = new float[width];
+                invalid = new boolean[width];
+                topClasses = new int[topK][width];
+                topMemberships = new float[topK][width];
+            }
+        }
+
+        void ensureValidLength(int length) {
+            if (validInputs[0].length < length) {
+                validInputs = new float[classifier.getInputSize()][length];
+                validOutputs = new float[classifier.getOutputSize()][length];
+                validClassIndexes = new int[length];
+                validMaxValues = new float[length];
+            }
+        }
+    }
+}
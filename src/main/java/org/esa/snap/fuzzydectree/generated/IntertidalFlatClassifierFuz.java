@@ -5,15 +5,13 @@ package org.esa.snap.fuzzydectree.generated;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
-// Generated by com.bc.dectree.impl.DecTreeCodeGen on Mon Apr 09 18:09:59 CEST 2018
+// Derived from the output of com.bc.dectree.impl.DecTreeCodeGen of Mon Apr 09 18:09:59 CEST 2018 and maintained by
+// hand since: ramp constants are folded and repeated predicates are shared, which the generator does not do. Do not
+// regenerate this class, IntertidalFlatClassifierFoldingTest checks it against the generator output.
 //public class IntertidalFlatClassifierFuz implements DecTreeFunction {
 public class IntertidalFlatClassifierFuz  {
 
-    public final int getInputSize() { return 12; }
-    public final int getOutputSize() { return 14; }
-
-    public final String[] getInputNames() {
-        return new String[] {
+    private static final String[] INPUT_NAMES = {
             /*0*/ "b1",
             /*1*/ "b2",
             /*2*/ "b3",
@@ -26,11 +24,9 @@ public class IntertidalFlatClassifierFuz  {
             /*9*/ "b14",
             /*10*/ "b16",
             /*11*/ "b19",
-        };
-    }
+    };
 
-    public final String[] getOutputNames() {
-        return new String[] {
+    private static final String[] OUTPUT_NAMES = {
             /*0*/ "nodata",
             /*1*/ "Wasser",
             /*2*/ "Schill",
@@ -45,7 +41,17 @@ public class IntertidalFlatClassifierFuz  {
             /*11*/ "schlick_t",
             /*12*/ "Wasser2",
             /*13*/ "bsum",
-        };
+    };
+
+    public final int getInputSize() { return 12; }
+    public final int getOutputSize() { return 14; }
+
+    public final String[] getInputNames() {
+        return INPUT_NAMES.clone();
+    }
+
+    public final String[] getOutputNames() {
+        return OUTPUT_NAMES.clone();
     }
 
     public final void apply(double[] inputs, double[] outputs) {
@@ -81,6 +87,9 @@ public class IntertidalFlatClassifierFuz  {
         double schlick_t = 0.0;
         double Wasser2 = 0.0;
 
+        final double _B8_B8_muschel_min = B8_B8_muschel_min(b8);
+        final double _B8_B8_sediment_wasser = B8_B8_sediment_wasser(b8);
+
         final double _t0 = 1.0;
         // if b4 is B4_nodata:
         double _t1 = min(_t0, B4_B4_nodata(b4));
@@ -95,7 +104,7 @@ public class IntertidalFlatClassifierFuz  {
         Wasser = max(Wasser, _t3);
         //     else if (b19 is B19_muschel and (b8 is B8_muschel_min and b8 is B8_muschel_max) and b7 is B7_muschel) or (b8 is B8_muschel_min and bsum is BSum_schill_1) or (b8 is B8_muschel_schill and bsum is BSum_schill_2):
         _t3 = min(_t2, 1.0 - _t3);
-        double _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(B8_B8_muschel_min(b8), B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(B8_B8_muschel_min(b8), BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
+        double _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(_B8_B8_muschel_min, B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(_B8_B8_muschel_min, BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
         //         if bsum is BSum_schill_1a:
         double _t5 = min(_t4, BSum_BSum_schill_1a(bsum));
         //             Schill: true
@@ -125,22 +134,22 @@ public class IntertidalFlatClassifierFuz  {
         Sand = max(Sand, _t8);
         // else if b3 is B3_sand2 and b8 is B8_sediment_wasser:
         _t8 = min(_t7, 1.0 - _t8);
-        double _t9 = min(_t8, min(B3_B3_sand2(b3), B8_B8_sediment_wasser(b8)));
+        double _t9 = min(_t8, min(B3_B3_sand2(b3), _B8_B8_sediment_wasser));
         //     Misch: true
         Misch = max(Misch, _t9);
         // else if b3 is B3_misch and b8 is B8_sediment_wasser:
         _t9 = min(_t8, 1.0 - _t9);
-        double _t10 = min(_t9, min(B3_B3_misch(b3), B8_B8_sediment_wasser(b8)));
+        double _t10 = min(_t9, min(B3_B3_misch(b3), _B8_B8_sediment_wasser));
         //     Misch2: true
         Misch2 = max(Misch2, _t10);
         // else if b3 is B3_schlick and b2 is B2_schlick and b8 is B8_sediment_wasser:
         _t10 = min(_t9, 1.0 - _t10);
-        double _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), B8_B8_sediment_wasser(b8))));
+        double _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), _B8_B8_sediment_wasser)));
         //     Schlick: true
         Schlick = max(Schlick, _t11);
         // else if b16 is B16_sediment_wasser and b8 is B8_sediment_wasser:
         _t11 = min(_t10, 1.0 - _t11);
-        double _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), B8_B8_sediment_wasser(b8)));
+        double _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), _B8_B8_sediment_wasser));
         //     schlick_t: true
         schlick_t = max(schlick_t, _t12);
         // else:
@@ -164,6 +173,948 @@ public class IntertidalFlatClassifierFuz  {
         outputs[13] = bsum;
     }
 
+    public final void apply(double[][] inputs, double[][] outputs, int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        final double[] b1_ = inputs[0];
+        final double[] b2_ = inputs[1];
+        final double[] b3_ = inputs[2];
+        final double[] b4_ = inputs[3];
+        final double[] b5_ = inputs[4];
+        final double[] b7_ = inputs[5];
+        final double[] b8_ = inputs[6];
+        final double[] b12_ = inputs[7];
+        final double[] b13_ = inputs[8];
+        final double[] b14_ = inputs[9];
+        final double[] b16_ = inputs[10];
+        final double[] b19_ = inputs[11];
+
+        final double[] nodata_ = outputs[0];
+        final double[] Wasser_ = outputs[1];
+        final double[] Schill_ = outputs[2];
+        final double[] Muschel_ = outputs[3];
+        final double[] dense2_ = outputs[4];
+        final double[] dense1_ = outputs[5];
+        final double[] Strand_ = outputs[6];
+        final double[] Sand_ = outputs[7];
+        final double[] Misch_ = outputs[8];
+        final double[] Misch2_ = outputs[9];
+        final double[] Schlick_ = outputs[10];
+        final double[] schlick_t_ = outputs[11];
+        final double[] Wasser2_ = outputs[12];
+        final double[] bsum_ = outputs[13];
+
+        for (int i = offset; i < offset + length; i++) {
+            final double b1 = b1_[i];
+            final double b2 = b2_[i];
+            final double b3 = b3_[i];
+            final double b4 = b4_[i];
+            final double b5 = b5_[i];
+            final double b7 = b7_[i];
+            final double b8 = b8_[i];
+            final double b12 = b12_[i];
+            final double b13 = b13_[i];
+            final double b14 = b14_[i];
+            final double b16 = b16_[i];
+            final double b19 = b19_[i];
+
+            final double bsum = b12 + b13 + b14;
+
+            double nodata = 0.0;
+            double Wasser = 0.0;
+            double Schill = 0.0;
+            double Muschel = 0.0;
+            double dense2 = 0.0;
+            double dense1 = 0.0;
+            double Strand = 0.0;
+            double Sand = 0.0;
+            double Misch = 0.0;
+            double Misch2 = 0.0;
+            double Schlick = 0.0;
+            double schlick_t = 0.0;
+            double Wasser2 = 0.0;
+
+            final double _B8_B8_muschel_min = B8_B8_muschel_min(b8);
+            final double _B8_B8_sediment_wasser = B8_B8_sediment_wasser(b8);
+
+            final double _t0 = 1.0;
+            // if b4 is B4_nodata:
+            double _t1 = min(_t0, B4_B4_nodata(b4));
+            //     nodata: true
+            nodata = max(nodata, _t1);
+            // else if (b8 is B8_veg and b1 is B1_veg) or b8 is B8_veg_wasser:
+            _t1 = min(_t0, 1.0 - _t1);
+            double _t2 = min(_t1, max(min(B8_B8_veg(b8), B1_B1_veg(b1)), B8_B8_veg_wasser(b8)));
+            //     if b5 is B5_wasser:
+            double _t3 = min(_t2, B5_B5_wasser(b5));
+            //         Wasser: true
+            Wasser = max(Wasser, _t3);
+            //     else if (b19 is B19_muschel and (b8 is B8_muschel_min and b8 is B8_muschel_max) and b7 is B7_muschel) or (b8 is B8_muschel_min and bsum is BSum_schill_1) or (b8 is B8_muschel_schill and bsum is BSum_schill_2):
+            _t3 = min(_t2, 1.0 - _t3);
+            double _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(_B8_B8_muschel_min, B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(_B8_B8_muschel_min, BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
+            //         if bsum is BSum_schill_1a:
+            double _t5 = min(_t4, BSum_BSum_schill_1a(bsum));
+            //             Schill: true
+            Schill = max(Schill, _t5);
+            //         else:
+            _t5 = min(_t4, 1.0 - _t5);
+            //             Muschel: true
+            Muschel = max(Muschel, _t5);
+            //     else if b8 is B8_veg_dicht:
+            _t4 = min(_t3, 1.0 - _t4);
+            double _t6 = min(_t4, B8_B8_veg_dicht(b8));
+            //         dense2: true
+            dense2 = max(dense2, _t6);
+            //     else:
+            _t6 = min(_t4, 1.0 - _t6);
+            //         dense1: true
+            dense1 = max(dense1, _t6);
+            // else if b1 is B1_strand:
+            _t2 = min(_t1, 1.0 - _t2);
+            double _t7 = min(_t2, B1_B1_strand(b1));
+            //     Strand: true
+            Strand = max(Strand, _t7);
+            // else if b3 is B3_sand:
+            _t7 = min(_t2, 1.0 - _t7);
+            double _t8 = min(_t7, B3_B3_sand(b3));
+            //     Sand: true
+            Sand = max(Sand, _t8);
+            // else if b3 is B3_sand2 and b8 is B8_sediment_wasser:
+            _t8 = min(_t7, 1.0 - _t8);
+            double _t9 = min(_t8, min(B3_B3_sand2(b3), _B8_B8_sediment_wasser));
+            //     Misch: true
+            Misch = max(Misch, _t9);
+            // else if b3 is B3_misch and b8 is B8_sediment_wasser:
+            _t9 = min(_t8, 1.0 - _t9);
+            double _t10 = min(_t9, min(B3_B3_misch(b3), _B8_B8_sediment_wasser));
+            //     Misch2: true
+            Misch2 = max(Misch2, _t10);
+            // else if b3 is B3_schlick and b2 is B2_schlick and b8 is B8_sediment_wasser:
+            _t10 = min(_t9, 1.0 - _t10);
+            double _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), _B8_B8_sediment_wasser)));
+            //     Schlick: true
+            Schlick = max(Schlick, _t11);
+            // else if b16 is B16_sediment_wasser and b8 is B8_sediment_wasser:
+            _t11 = min(_t10, 1.0 - _t11);
+            double _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), _B8_B8_sediment_wasser));
+            //     schlick_t: true
+            schlick_t = max(schlick_t, _t12);
+            // else:
+            _t12 = min(_t11, 1.0 - _t12);
+            //     Wasser2: true
+            Wasser2 = max(Wasser2, _t12);
+
+            nodata_[i] = nodata;
+            Wasser_[i] = Wasser;
+            Schill_[i] = Schill;
+            Muschel_[i] = Muschel;
+            dense2_[i] = dense2;
+            dense1_[i] = dense1;
+            Strand_[i] = Strand;
+            Sand_[i] = Sand;
+            Misch_[i] = Misch;
+            Misch2_[i] = Misch2;
+            Schlick_[i] = Schlick;
+            schlick_t_[i] = schlick_t;
+            Wasser2_[i] = Wasser2;
+            bsum_[i] = bsum;
+        }
+    }
+
+    public final void apply(float[][] inputs, float[][] outputs, int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        final float[] b1_ = inputs[0];
+        final float[] b2_ = inputs[1];
+        final float[] b3_ = inputs[2];
+        final float[] b4_ = inputs[3];
+        final float[] b5_ = inputs[4];
+        final float[] b7_ = inputs[5];
+        final float[] b8_ = inputs[6];
+        final float[] b12_ = inputs[7];
+        final float[] b13_ = inputs[8];
+        final float[] b14_ = inputs[9];
+        final float[] b16_ = inputs[10];
+        final float[] b19_ = inputs[11];
+
+        final float[] nodata_ = outputs[0];
+        final float[] Wasser_ = outputs[1];
+        final float[] Schill_ = outputs[2];
+        final float[] Muschel_ = outputs[3];
+        final float[] dense2_ = outputs[4];
+        final float[] dense1_ = outputs[5];
+        final float[] Strand_ = outputs[6];
+        final float[] Sand_ = outputs[7];
+        final float[] Misch_ = outputs[8];
+        final float[] Misch2_ = outputs[9];
+        final float[] Schlick_ = outputs[10];
+        final float[] schlick_t_ = outputs[11];
+        final float[] Wasser2_ = outputs[12];
+        final float[] bsum_ = outputs[13];
+
+        for (int i = offset; i < offset + length; i++) {
+            final float b1 = b1_[i];
+            final float b2 = b2_[i];
+            final float b3 = b3_[i];
+            final float b4 = b4_[i];
+            final float b5 = b5_[i];
+            final float b7 = b7_[i];
+            final float b8 = b8_[i];
+            final float b12 = b12_[i];
+            final float b13 = b13_[i];
+            final float b14 = b14_[i];
+            final float b16 = b16_[i];
+            final float b19 = b19_[i];
+
+            final float bsum = b12 + b13 + b14;
+
+            float nodata = 0.0f;
+            float Wasser = 0.0f;
+            float Schill = 0.0f;
+            float Muschel = 0.0f;
+            float dense2 = 0.0f;
+            float dense1 = 0.0f;
+            float Strand = 0.0f;
+            float Sand = 0.0f;
+            float Misch = 0.0f;
+            float Misch2 = 0.0f;
+            float Schlick = 0.0f;
+            float schlick_t = 0.0f;
+            float Wasser2 = 0.0f;
+
+            final float _B8_B8_muschel_min = B8_B8_muschel_min(b8);
+            final float _B8_B8_sediment_wasser = B8_B8_sediment_wasser(b8);
+
+            final float _t0 = 1.0f;
+            // if b4 is B4_nodata:
+            float _t1 = min(_t0, B4_B4_nodata(b4));
+            //     nodata: true
+            nodata = max(nodata, _t1);
+            // else if (b8 is B8_veg and b1 is B1_veg) or b8 is B8_veg_wasser:
+            _t1 = min(_t0, 1.0f - _t1);
+            float _t2 = min(_t1, max(min(B8_B8_veg(b8), B1_B1_veg(b1)), B8_B8_veg_wasser(b8)));
+            //     if b5 is B5_wasser:
+            float _t3 = min(_t2, B5_B5_wasser(b5));
+            //         Wasser: true
+            Wasser = max(Wasser, _t3);
+            //     else if (b19 is B19_muschel and (b8 is B8_muschel_min and b8 is B8_muschel_max) and b7 is B7_muschel) or (b8 is B8_muschel_min and bsum is BSum_schill_1) or (b8 is B8_muschel_schill and bsum is BSum_schill_2):
+            _t3 = min(_t2, 1.0f - _t3);
+            float _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(_B8_B8_muschel_min, B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(_B8_B8_muschel_min, BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
+            //         if bsum is BSum_schill_1a:
+            float _t5 = min(_t4, BSum_BSum_schill_1a(bsum));
+            //             Schill: true
+            Schill = max(Schill, _t5);
+            //         else:
+            _t5 = min(_t4, 1.0f - _t5);
+            //             Muschel: true
+            Muschel = max(Muschel, _t5);
+            //     else if b8 is B8_veg_dicht:
+            _t4 = min(_t3, 1.0f - _t4);
+            float _t6 = min(_t4, B8_B8_veg_dicht(b8));
+            //         dense2: true
+            dense2 = max(dense2, _t6);
+            //     else:
+            _t6 = min(_t4, 1.0f - _t6);
+            //         dense1: true
+            dense1 = max(dense1, _t6);
+            // else if b1 is B1_strand:
+            _t2 = min(_t1, 1.0f - _t2);
+            float _t7 = min(_t2, B1_B1_strand(b1));
+            //     Strand: true
+            Strand = max(Strand, _t7);
+            // else if b3 is B3_sand:
+            _t7 = min(_t2, 1.0f - _t7);
+            float _t8 = min(_t7, B3_B3_sand(b3));
+            //     Sand: true
+            Sand = max(Sand, _t8);
+            // else if b3 is B3_sand2 and b8 is B8_sediment_wasser:
+            _t8 = min(_t7, 1.0f - _t8);
+            float _t9 = min(_t8, min(B3_B3_sand2(b3), _B8_B8_sediment_wasser));
+            //     Misch: true
+            Misch = max(Misch, _t9);
+            // else if b3 is B3_misch and b8 is B8_sediment_wasser:
+            _t9 = min(_t8, 1.0f - _t9);
+            float _t10 = min(_t9, min(B3_B3_misch(b3), _B8_B8_sediment_wasser));
+            //     Misch2: true
+            Misch2 = max(Misch2, _t10);
+            // else if b3 is B3_schlick and b2 is B2_schlick and b8 is B8_sediment_wasser:
+            _t10 = min(_t9, 1.0f - _t10);
+            float _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), _B8_B8_sediment_wasser)));
+            //     Schlick: true
+            Schlick = max(Schlick, _t11);
+            // else if b16 is B16_sediment_wasser and b8 is B8_sediment_wasser:
+            _t11 = min(_t10, 1.0f - _t11);
+            float _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), _B8_B8_sediment_wasser));
+            //     schlick_t: true
+            schlick_t = max(schlick_t, _t12);
+            // else:
+            _t12 = min(_t11, 1.0f - _t12);
+            //     Wasser2: true
+            Wasser2 = max(Wasser2, _t12);
+
+            nodata_[i] = nodata;
+            Wasser_[i] = Wasser;
+            Schill_[i] = Schill;
+            Muschel_[i] = Muschel;
+            dense2_[i] = dense2;
+            dense1_[i] = dense1;
+            Strand_[i] = Strand;
+            Sand_[i] = Sand;
+            Misch_[i] = Misch;
+            Misch2_[i] = Misch2;
+            Schlick_[i] = Schlick;
+            schlick_t_[i] = schlick_t;
+            Wasser2_[i] = Wasser2;
+            bsum_[i] = bsum;
+        }
+    }
+
+    // Variants of apply() which also determine the class with maximum membership, like the operators do
+    // after apply(): the first of the class outputs (all but bsum) with the largest membership, if it is
+    // larger than Double.MIN_VALUE, else -1. The maximum is tracked while the tree assigns the classes.
+    public final int applyAndClassify(double[] inputs, double[] outputs) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        final double b1 = inputs[0];
+        final double b2 = inputs[1];
+        final double b3 = inputs[2];
+        final double b4 = inputs[3];
+        final double b5 = inputs[4];
+        final double b7 = inputs[5];
+        final double b8 = inputs[6];
+        final double b12 = inputs[7];
+        final double b13 = inputs[8];
+        final double b14 = inputs[9];
+        final double b16 = inputs[10];
+        final double b19 = inputs[11];
+
+        final double bsum = b12 + b13 + b14;
+
+        double nodata = 0.0;
+        double Wasser = 0.0;
+        double Schill = 0.0;
+        double Muschel = 0.0;
+        double dense2 = 0.0;
+        double dense1 = 0.0;
+        double Strand = 0.0;
+        double Sand = 0.0;
+        double Misch = 0.0;
+        double Misch2 = 0.0;
+        double Schlick = 0.0;
+        double schlick_t = 0.0;
+        double Wasser2 = 0.0;
+
+        final double _B8_B8_muschel_min = B8_B8_muschel_min(b8);
+        final double _B8_B8_sediment_wasser = B8_B8_sediment_wasser(b8);
+
+        double _max = Double.MIN_VALUE;
+        int _argmax = -1;
+
+        final double _t0 = 1.0;
+        // if b4 is B4_nodata:
+        double _t1 = min(_t0, B4_B4_nodata(b4));
+        //     nodata: true
+        nodata = max(nodata, _t1);
+        if (nodata > _max) { _max = nodata; _argmax = 0; }
+        // else if (b8 is B8_veg and b1 is B1_veg) or b8 is B8_veg_wasser:
+        _t1 = min(_t0, 1.0 - _t1);
+        double _t2 = min(_t1, max(min(B8_B8_veg(b8), B1_B1_veg(b1)), B8_B8_veg_wasser(b8)));
+        //     if b5 is B5_wasser:
+        double _t3 = min(_t2, B5_B5_wasser(b5));
+        //         Wasser: true
+        Wasser = max(Wasser, _t3);
+        if (Wasser > _max) { _max = Wasser; _argmax = 1; }
+        //     else if (b19 is B19_muschel and (b8 is B8_muschel_min and b8 is B8_muschel_max) and b7 is B7_muschel) or (b8 is B8_muschel_min and bsum is BSum_schill_1) or (b8 is B8_muschel_schill and bsum is BSum_schill_2):
+        _t3 = min(_t2, 1.0 - _t3);
+        double _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(_B8_B8_muschel_min, B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(_B8_B8_muschel_min, BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
+        //         if bsum is BSum_schill_1a:
+        double _t5 = min(_t4, BSum_BSum_schill_1a(bsum));
+        //             Schill: true
+        Schill = max(Schill, _t5);
+        if (Schill > _max) { _max = Schill; _argmax = 2; }
+        //         else:
+        _t5 = min(_t4, 1.0 - _t5);
+        //             Muschel: true
+        Muschel = max(Muschel, _t5);
+        if (Muschel > _max) { _max = Muschel; _argmax = 3; }
+        //     else if b8 is B8_veg_dicht:
+        _t4 = min(_t3, 1.0 - _t4);
+        double _t6 = min(_t4, B8_B8_veg_dicht(b8));
+        //         dense2: true
+        dense2 = max(dense2, _t6);
+        if (dense2 > _max) { _max = dense2; _argmax = 4; }
+        //     else:
+        _t6 = min(_t4, 1.0 - _t6);
+        //         dense1: true
+        dense1 = max(dense1, _t6);
+        if (dense1 > _max) { _max = dense1; _argmax = 5; }
+        // else if b1 is B1_strand:
+        _t2 = min(_t1, 1.0 - _t2);
+        double _t7 = min(_t2, B1_B1_strand(b1));
+        //     Strand: true
+        Strand = max(Strand, _t7);
+        if (Strand > _max) { _max = Strand; _argmax = 6; }
+        // else if b3 is B3_sand:
+        _t7 = min(_t2, 1.0 - _t7);
+        double _t8 = min(_t7, B3_B3_sand(b3));
+        //     Sand: true
+        Sand = max(Sand, _t8);
+        if (Sand > _max) { _max = Sand; _argmax = 7; }
+        // else if b3 is B3_sand2 and b8 is B8_sediment_wasser:
+        _t8 = min(_t7, 1.0 - _t8);
+        double _t9 = min(_t8, min(B3_B3_sand2(b3), _B8_B8_sediment_wasser));
+        //     Misch: true
+        Misch = max(Misch, _t9);
+        if (Misch > _max) { _max = Misch; _argmax = 8; }
+        // else if b3 is B3_misch and b8 is B8_sediment_wasser:
+        _t9 = min(_t8, 1.0 - _t9);
+        double _t10 = min(_t9, min(B3_B3_misch(b3), _B8_B8_sediment_wasser));
+        //     Misch2: true
+        Misch2 = max(Misch2, _t10);
+        if (Misch2 > _max) { _max = Misch2; _argmax = 9; }
+        // else if b3 is B3_schlick and b2 is B2_schlick and b8 is B8_sediment_wasser:
+        _t10 = min(_t9, 1.0 - _t10);
+        double _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), _B8_B8_sediment_wasser)));
+        //     Schlick: true
+        Schlick = max(Schlick, _t11);
+        if (Schlick > _max) { _max = Schlick; _argmax = 10; }
+        // else if b16 is B16_sediment_wasser and b8 is B8_sediment_wasser:
+        _t11 = min(_t10, 1.0 - _t11);
+        double _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), _B8_B8_sediment_wasser));
+        //     schlick_t: true
+        schlick_t = max(schlick_t, _t12);
+        if (schlick_t > _max) { _max = schlick_t; _argmax = 11; }
+        // else:
+        _t12 = min(_t11, 1.0 - _t12);
+        //     Wasser2: true
+        Wasser2 = max(Wasser2, _t12);
+        if (Wasser2 > _max) { _max = Wasser2; _argmax = 12; }
+
+        outputs[0] = nodata;
+        outputs[1] = Wasser;
+        outputs[2] = Schill;
+        outputs[3] = Muschel;
+        outputs[4] = dense2;
+        outputs[5] = dense1;
+        outputs[6] = Strand;
+        outputs[7] = Sand;
+        outputs[8] = Misch;
+        outputs[9] = Misch2;
+        outputs[10] = Schlick;
+        outputs[11] = schlick_t;
+        outputs[12] = Wasser2;
+        outputs[13] = bsum;
+
+        return _argmax;
+    }
+
+    public final void applyAndClassify(float[][] inputs, float[][] outputs, int[] classIndexes, float[] maxValues,
+                                       int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        final float[] b1_ = inputs[0];
+        final float[] b2_ = inputs[1];
+        final float[] b3_ = inputs[2];
+        final float[] b4_ = inputs[3];
+        final float[] b5_ = inputs[4];
+        final float[] b7_ = inputs[5];
+        final float[] b8_ = inputs[6];
+        final float[] b12_ = inputs[7];
+        final float[] b13_ = inputs[8];
+        final float[] b14_ = inputs[9];
+        final float[] b16_ = inputs[10];
+        final float[] b19_ = inputs[11];
+
+        final float[] nodata_ = outputs[0];
+        final float[] Wasser_ = outputs[1];
+        final float[] Schill_ = outputs[2];
+        final float[] Muschel_ = outputs[3];
+        final float[] dense2_ = outputs[4];
+        final float[] dense1_ = outputs[5];
+        final float[] Strand_ = outputs[6];
+        final float[] Sand_ = outputs[7];
+        final float[] Misch_ = outputs[8];
+        final float[] Misch2_ = outputs[9];
+        final float[] Schlick_ = outputs[10];
+        final float[] schlick_t_ = outputs[11];
+        final float[] Wasser2_ = outputs[12];
+        final float[] bsum_ = outputs[13];
+
+        for (int i = offset; i < offset + length; i++) {
+            final float b1 = b1_[i];
+            final float b2 = b2_[i];
+            final float b3 = b3_[i];
+            final float b4 = b4_[i];
+            final float b5 = b5_[i];
+            final float b7 = b7_[i];
+            final float b8 = b8_[i];
+            final float b12 = b12_[i];
+            final float b13 = b13_[i];
+            final float b14 = b14_[i];
+            final float b16 = b16_[i];
+            final float b19 = b19_[i];
+
+            final float bsum = b12 + b13 + b14;
+
+            float nodata = 0.0f;
+            float Wasser = 0.0f;
+            float Schill = 0.0f;
+            float Muschel = 0.0f;
+            float dense2 = 0.0f;
+            float dense1 = 0.0f;
+            float Strand = 0.0f;
+            float Sand = 0.0f;
+            float Misch = 0.0f;
+            float Misch2 = 0.0f;
+            float Schlick = 0.0f;
+            float schlick_t = 0.0f;
+            float Wasser2 = 0.0f;
+
+            final float _B8_B8_muschel_min = B8_B8_muschel_min(b8);
+            final float _B8_B8_sediment_wasser = B8_B8_sediment_wasser(b8);
+
+            double _max = Double.MIN_VALUE;
+            int _argmax = -1;
+
+            final float _t0 = 1.0f;
+            // if b4 is B4_nodata:
+            float _t1 = min(_t0, B4_B4_nodata(b4));
+            //     nodata: true
+            nodata = max(nodata, _t1);
+            if (nodata > _max) { _max = nodata; _argmax = 0; }
+            // else if (b8 is B8_veg and b1 is B1_veg) or b8 is B8_veg_wasser:
+            _t1 = min(_t0, 1.0f - _t1);
+            float _t2 = min(_t1, max(min(B8_B8_veg(b8), B1_B1_veg(b1)), B8_B8_veg_wasser(b8)));
+            //     if b5 is B5_wasser:
+            float _t3 = min(_t2, B5_B5_wasser(b5));
+            //         Wasser: true
+            Wasser = max(Wasser, _t3);
+            if (Wasser > _max) { _max = Wasser; _argmax = 1; }
+            //     else if (b19 is B19_muschel and (b8 is B8_muschel_min and b8 is B8_muschel_max) and b7 is B7_muschel) or (b8 is B8_muschel_min and bsum is BSum_schill_1) or (b8 is B8_muschel_schill and bsum is BSum_schill_2):
+            _t3 = min(_t2, 1.0f - _t3);
+            float _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(_B8_B8_muschel_min, B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(_B8_B8_muschel_min, BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
+            //         if bsum is BSum_schill_1a:
+            float _t5 = min(_t4, BSum_BSum_schill_1a(bsum));
+            //             Schill: true
+            Schill = max(Schill, _t5);
+            if (Schill > _max) { _max = Schill; _argmax = 2; }
+            //         else:
+            _t5 = min(_t4, 1.0f - _t5);
+            //             Muschel: true
+            Muschel = max(Muschel, _t5);
+            if (Muschel > _max) { _max = Muschel; _argmax = 3; }
+            //     else if b8 is B8_veg_dicht:
+            _t4 = min(_t3, 1.0f - _t4);
+            float _t6 = min(_t4, B8_B8_veg_dicht(b8));
+            //         dense2: true
+            dense2 = max(dense2, _t6);
+            if (dense2 > _max) { _max = dense2; _argmax = 4; }
+            //     else:
+            _t6 = min(_t4, 1.0f - _t6);
+            //         dense1: true
+            dense1 = max(dense1, _t6);
+            if (dense1 > _max) { _max = dense1; _argmax = 5; }
+            // else if b1 is B1_strand:
+            _t2 = min(_t1, 1.0f - _t2);
+            float _t7 = min(_t2, B1_B1_strand(b1));
+            //     Strand: true
+            Strand = max(Strand, _t7);
+            if (Strand > _max) { _max = Strand; _argmax = 6; }
+            // else if b3 is B3_sand:
+            _t7 = min(_t2, 1.0f - _t7);
+            float _t8 = min(_t7, B3_B3_sand(b3));
+            //     Sand: true
+            Sand = max(Sand, _t8);
+            if (Sand > _max) { _max = Sand; _argmax = 7; }
+            // else if b3 is B3_sand2 and b8 is B8_sediment_wasser:
+            _t8 = min(_t7, 1.0f - _t8);
+            float _t9 = min(_t8, min(B3_B3_sand2(b3), _B8_B8_sediment_wasser));
+            //     Misch: true
+            Misch = max(Misch, _t9);
+            if (Misch > _max) { _max = Misch; _argmax = 8; }
+            // else if b3 is B3_misch and b8 is B8_sediment_wasser:
+            _t9 = min(_t8, 1.0f - _t9);
+            float _t10 = min(_t9, min(B3_B3_misch(b3), _B8_B8_sediment_wasser));
+            //     Misch2: true
+            Misch2 = max(Misch2, _t10);
+            if (Misch2 > _max) { _max = Misch2; _argmax = 9; }
+            // else if b3 is B3_schlick and b2 is B2_schlick and b8 is B8_sediment_wasser:
+            _t10 = min(_t9, 1.0f - _t10);
+            float _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), _B8_B8_sediment_wasser)));
+            //     Schlick: true
+            Schlick = max(Schlick, _t11);
+            if (Schlick > _max) { _max = Schlick; _argmax = 10; }
+            // else if b16 is B16_sediment_wasser and b8 is B8_sediment_wasser:
+            _t11 = min(_t10, 1.0f - _t11);
+            float _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), _B8_B8_sediment_wasser));
+            //     schlick_t: true
+            schlick_t = max(schlick_t, _t12);
+            if (schlick_t > _max) { _max = schlick_t; _argmax = 11; }
+            // else:
+            _t12 = min(_t11, 1.0f - _t12);
+            //     Wasser2: true
+            Wasser2 = max(Wasser2, _t12);
+            if (Wasser2 > _max) { _max = Wasser2; _argmax = 12; }
+
+            nodata_[i] = nodata;
+            Wasser_[i] = Wasser;
+            Schill_[i] = Schill;
+            Muschel_[i] = Muschel;
+            dense2_[i] = dense2;
+            dense1_[i] = dense1;
+            Strand_[i] = Strand;
+            Sand_[i] = Sand;
+            Misch_[i] = Misch;
+            Misch2_[i] = Misch2;
+            Schlick_[i] = Schlick;
+            schlick_t_[i] = schlick_t;
+            Wasser2_[i] = Wasser2;
+            bsum_[i] = bsum;
+            classIndexes[i] = _argmax;
+            maxValues[i] = (float) _max;
+        }
+    }
+
+    public final void applyShortCircuit(double[][] inputs, double[][] outputs, int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        final double[] b1_ = inputs[0];
+        final double[] b2_ = inputs[1];
+        final double[] b3_ = inputs[2];
+        final double[] b4_ = inputs[3];
+        final double[] b5_ = inputs[4];
+        final double[] b7_ = inputs[5];
+        final double[] b8_ = inputs[6];
+        final double[] b12_ = inputs[7];
+        final double[] b13_ = inputs[8];
+        final double[] b14_ = inputs[9];
+        final double[] b16_ = inputs[10];
+        final double[] b19_ = inputs[11];
+
+        final double[] nodata_ = outputs[0];
+        final double[] Wasser_ = outputs[1];
+        final double[] Schill_ = outputs[2];
+        final double[] Muschel_ = outputs[3];
+        final double[] dense2_ = outputs[4];
+        final double[] dense1_ = outputs[5];
+        final double[] Strand_ = outputs[6];
+        final double[] Sand_ = outputs[7];
+        final double[] Misch_ = outputs[8];
+        final double[] Misch2_ = outputs[9];
+        final double[] Schlick_ = outputs[10];
+        final double[] schlick_t_ = outputs[11];
+        final double[] Wasser2_ = outputs[12];
+        final double[] bsum_ = outputs[13];
+
+        for (int i = offset; i < offset + length; i++) {
+            final double b1 = b1_[i];
+            final double b2 = b2_[i];
+            final double b3 = b3_[i];
+            final double b4 = b4_[i];
+            final double b5 = b5_[i];
+            final double b7 = b7_[i];
+            final double b8 = b8_[i];
+            final double b12 = b12_[i];
+            final double b13 = b13_[i];
+            final double b14 = b14_[i];
+            final double b16 = b16_[i];
+            final double b19 = b19_[i];
+
+            final double bsum = b12 + b13 + b14;
+
+            double nodata = 0.0;
+            double Wasser = 0.0;
+            double Schill = 0.0;
+            double Muschel = 0.0;
+            double dense2 = 0.0;
+            double dense1 = 0.0;
+            double Strand = 0.0;
+            double Sand = 0.0;
+            double Misch = 0.0;
+            double Misch2 = 0.0;
+            double Schlick = 0.0;
+            double schlick_t = 0.0;
+            double Wasser2 = 0.0;
+
+            final double _t0 = 1.0;
+            // if b4 is B4_nodata:
+            double _t1 = min(_t0, B4_B4_nodata(b4));
+            //     nodata: true
+            nodata = max(nodata, _t1);
+            // else if (b8 is B8_veg and b1 is B1_veg) or b8 is B8_veg_wasser:
+            _t1 = min(_t0, 1.0 - _t1);
+            if (_t1 > 0.0) {
+                double _t2 = min(_t1, max(min(B8_B8_veg(b8), B1_B1_veg(b1)), B8_B8_veg_wasser(b8)));
+                if (_t2 > 0.0) {
+                    //     if b5 is B5_wasser:
+                    double _t3 = min(_t2, B5_B5_wasser(b5));
+                    //         Wasser: true
+                    Wasser = max(Wasser, _t3);
+                    //     else if (b19 is B19_muschel and (b8 is B8_muschel_min and b8 is B8_muschel_max) and b7 is B7_muschel) or (b8 is B8_muschel_min and bsum is BSum_schill_1) or (b8 is B8_muschel_schill and bsum is BSum_schill_2):
+                    _t3 = min(_t2, 1.0 - _t3);
+                    if (_t3 > 0.0) {
+                        double _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(B8_B8_muschel_min(b8), B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(B8_B8_muschel_min(b8), BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
+                        if (_t4 > 0.0) {
+                            //         if bsum is BSum_schill_1a:
+                            double _t5 = min(_t4, BSum_BSum_schill_1a(bsum));
+                            //             Schill: true
+                            Schill = max(Schill, _t5);
+                            //         else:
+                            _t5 = min(_t4, 1.0 - _t5);
+                            //             Muschel: true
+                            Muschel = max(Muschel, _t5);
+                        }
+                        //     else if b8 is B8_veg_dicht:
+                        _t4 = min(_t3, 1.0 - _t4);
+                        if (_t4 > 0.0) {
+                            double _t6 = min(_t4, B8_B8_veg_dicht(b8));
+                            //         dense2: true
+                            dense2 = max(dense2, _t6);
+                            //     else:
+                            _t6 = min(_t4, 1.0 - _t6);
+                            //         dense1: true
+                            dense1 = max(dense1, _t6);
+                        }
+                    }
+                }
+                // else if b1 is B1_strand:
+                _t2 = min(_t1, 1.0 - _t2);
+                if (_t2 > 0.0) {
+                    double _t7 = min(_t2, B1_B1_strand(b1));
+                    //     Strand: true
+                    Strand = max(Strand, _t7);
+                    // else if b3 is B3_sand:
+                    _t7 = min(_t2, 1.0 - _t7);
+                    if (_t7 > 0.0) {
+                        double _t8 = min(_t7, B3_B3_sand(b3));
+                        //     Sand: true
+                        Sand = max(Sand, _t8);
+                        // else if b3 is B3_sand2 and b8 is B8_sediment_wasser:
+                        _t8 = min(_t7, 1.0 - _t8);
+                        if (_t8 > 0.0) {
+                            double _t9 = min(_t8, min(B3_B3_sand2(b3), B8_B8_sediment_wasser(b8)));
+                            //     Misch: true
+                            Misch = max(Misch, _t9);
+                            // else if b3 is B3_misch and b8 is B8_sediment_wasser:
+                            _t9 = min(_t8, 1.0 - _t9);
+                            if (_t9 > 0.0) {
+                                double _t10 = min(_t9, min(B3_B3_misch(b3), B8_B8_sediment_wasser(b8)));
+                                //     Misch2: true
+                                Misch2 = max(Misch2, _t10);
+                                // else if b3 is B3_schlick and b2 is B2_schlick and b8 is B8_sediment_wasser:
+                                _t10 = min(_t9, 1.0 - _t10);
+                                if (_t10 > 0.0) {
+                                    double _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), B8_B8_sediment_wasser(b8))));
+                                    //     Schlick: true
+                                    Schlick = max(Schlick, _t11);
+                                    // else if b16 is B16_sediment_wasser and b8 is B8_sediment_wasser:
+                                    _t11 = min(_t10, 1.0 - _t11);
+                                    if (_t11 > 0.0) {
+                                        double _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), B8_B8_sediment_wasser(b8)));
+                                        //     schlick_t: true
+                                        schlick_t = max(schlick_t, _t12);
+                                        // else:
+                                        _t12 = min(_t11, 1.0 - _t12);
+                                        //     Wasser2: true
+                                        Wasser2 = max(Wasser2, _t12);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            nodata_[i] = nodata;
+            Wasser_[i] = Wasser;
+            Schill_[i] = Schill;
+            Muschel_[i] = Muschel;
+            dense2_[i] = dense2;
+            dense1_[i] = dense1;
+            Strand_[i] = Strand;
+            Sand_[i] = Sand;
+            Misch_[i] = Misch;
+            Misch2_[i] = Misch2;
+            Schlick_[i] = Schlick;
+            schlick_t_[i] = schlick_t;
+            Wasser2_[i] = Wasser2;
+            bsum_[i] = bsum;
+        }
+    }
+
+    public final void applyShortCircuit(float[][] inputs, float[][] outputs, int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        final float[] b1_ = inputs[0];
+        final float[] b2_ = inputs[1];
+        final float[] b3_ = inputs[2];
+        final float[] b4_ = inputs[3];
+        final float[] b5_ = inputs[4];
+        final float[] b7_ = inputs[5];
+        final float[] b8_ = inputs[6];
+        final float[] b12_ = inputs[7];
+        final float[] b13_ = inputs[8];
+        final float[] b14_ = inputs[9];
+        final float[] b16_ = inputs[10];
+        final float[] b19_ = inputs[11];
+
+        final float[] nodata_ = outputs[0];
+        final float[] Wasser_ = outputs[1];
+        final float[] Schill_ = outputs[2];
+        final float[] Muschel_ = outputs[3];
+        final float[] dense2_ = outputs[4];
+        final float[] dense1_ = outputs[5];
+        final float[] Strand_ = outputs[6];
+        final float[] Sand_ = outputs[7];
+        final float[] Misch_ = outputs[8];
+        final float[] Misch2_ = outputs[9];
+        final float[] Schlick_ = outputs[10];
+        final float[] schlick_t_ = outputs[11];
+        final float[] Wasser2_ = outputs[12];
+        final float[] bsum_ = outputs[13];
+
+        for (int i = offset; i < offset + length; i++) {
+            final float b1 = b1_[i];
+            final float b2 = b2_[i];
+            final float b3 = b3_[i];
+            final float b4 = b4_[i];
+            final float b5 = b5_[i];
+            final float b7 = b7_[i];
+            final float b8 = b8_[i];
+            final float b12 = b12_[i];
+            final float b13 = b13_[i];
+            final float b14 = b14_[i];
+            final float b16 = b16_[i];
+            final float b19 = b19_[i];
+
+            final float bsum = b12 + b13 + b14;
+
+            float nodata = 0.0f;
+            float Wasser = 0.0f;
+            float Schill = 0.0f;
+            float Muschel = 0.0f;
+            float dense2 = 0.0f;
+            float dense1 = 0.0f;
+            float Strand = 0.0f;
+            float Sand = 0.0f;
+            float Misch = 0.0f;
+            float Misch2 = 0.0f;
+            float Schlick = 0.0f;
+            float schlick_t = 0.0f;
+            float Wasser2 = 0.0f;
+
+            final float _t0 = 1.0f;
+            // if b4 is B4_nodata:
+            float _t1 = min(_t0, B4_B4_nodata(b4));
+            //     nodata: true
+            nodata = max(nodata, _t1);
+            // else if (b8 is B8_veg and b1 is B1_veg) or b8 is B8_veg_wasser:
+            _t1 = min(_t0, 1.0f - _t1);
+            if (_t1 > 0.0f) {
+                float _t2 = min(_t1, max(min(B8_B8_veg(b8), B1_B1_veg(b1)), B8_B8_veg_wasser(b8)));
+                if (_t2 > 0.0f) {
+                    //     if b5 is B5_wasser:
+                    float _t3 = min(_t2, B5_B5_wasser(b5));
+                    //         Wasser: true
+                    Wasser = max(Wasser, _t3);
+                    //     else if (b19 is B19_muschel and (b8 is B8_muschel_min and b8 is B8_muschel_max) and b7 is B7_muschel) or (b8 is B8_muschel_min and bsum is BSum_schill_1) or (b8 is B8_muschel_schill and bsum is BSum_schill_2):
+                    _t3 = min(_t2, 1.0f - _t3);
+                    if (_t3 > 0.0f) {
+                        float _t4 = min(_t3, max(min(B19_B19_muschel(b19), min(min(B8_B8_muschel_min(b8), B8_B8_muschel_max(b8)), B7_B7_muschel(b7))), max(min(B8_B8_muschel_min(b8), BSum_BSum_schill_1(bsum)), min(B8_B8_muschel_schill(b8), BSum_BSum_schill_2(bsum)))));
+                        if (_t4 > 0.0f) {
+                            //         if bsum is BSum_schill_1a:
+                            float _t5 = min(_t4, BSum_BSum_schill_1a(bsum));
+                            //             Schill: true
+                            Schill = max(Schill, _t5);
+                            //         else:
+                            _t5 = min(_t4, 1.0f - _t5);
+                            //             Muschel: true
+                            Muschel = max(Muschel, _t5);
+                        }
+                        //     else if b8 is B8_veg_dicht:
+                        _t4 = min(_t3, 1.0f - _t4);
+                        if (_t4 > 0.0f) {
+                            float _t6 = min(_t4, B8_B8_veg_dicht(b8));
+                            //         dense2: true
+                            dense2 = max(dense2, _t6);
+                            //     else:
+                            _t6 = min(_t4, 1.0f - _t6);
+                            //         dense1: true
+                            dense1 = max(dense1, _t6);
+                        }
+                    }
+                }
+                // else if b1 is B1_strand:
+                _t2 = min(_t1, 1.0f - _t2);
+                if (_t2 > 0.0f) {
+                    float _t7 = min(_t2, B1_B1_strand(b1));
+                    //     Strand: true
+                    Strand = max(Strand, _t7);
+                    // else if b3 is B3_sand:
+                    _t7 = min(_t2, 1.0f - _t7);
+                    if (_t7 > 0.0f) {
+                        float _t8 = min(_t7, B3_B3_sand(b3));
+                        //     Sand: true
+                        Sand = max(Sand, _t8);
+                        // else if b3 is B3_sand2 and b8 is B8_sediment_wasser:
+                        _t8 = min(_t7, 1.0f - _t8);
+                        if (_t8 > 0.0f) {
+                            float _t9 = min(_t8, min(B3_B3_sand2(b3), B8_B8_sediment_wasser(b8)));
+                            //     Misch: true
+                            Misch = max(Misch, _t9);
+                            // else if b3 is B3_misch and b8 is B8_sediment_wasser:
+                            _t9 = min(_t8, 1.0f - _t9);
+                            if (_t9 > 0.0f) {
+                                float _t10 = min(_t9, min(B3_B3_misch(b3), B8_B8_sediment_wasser(b8)));
+                                //     Misch2: true
+                                Misch2 = max(Misch2, _t10);
+                                // else if b3 is B3_schlick and b2 is B2_schlick and b8 is B8_sediment_wasser:
+                                _t10 = min(_t9, 1.0f - _t10);
+                                if (_t10 > 0.0f) {
+                                    float _t11 = min(_t10, min(B3_B3_schlick(b3), min(B2_B2_schlick(b2), B8_B8_sediment_wasser(b8))));
+                                    //     Schlick: true
+                                    Schlick = max(Schlick, _t11);
+                                    // else if b16 is B16_sediment_wasser and b8 is B8_sediment_wasser:
+                                    _t11 = min(_t10, 1.0f - _t11);
+                                    if (_t11 > 0.0f) {
+                                        float _t12 = min(_t11, min(B16_B16_sediment_wasser(b16), B8_B8_sediment_wasser(b8)));
+                                        //     schlick_t: true
+                                        schlick_t = max(schlick_t, _t12);
+                                        // else:
+                                        _t12 = min(_t11, 1.0f - _t12);
+                                        //     Wasser2: true
+                                        Wasser2 = max(Wasser2, _t12);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+
+            nodata_[i] = nodata;
+            Wasser_[i] = Wasser;
+            Schill_[i] = Schill;
+            Muschel_[i] = Muschel;
+            dense2_[i] = dense2;
+            dense1_[i] = dense1;
+            Strand_[i] = Strand;
+            Sand_[i] = Sand;
+            Misch_[i] = Misch;
+            Misch2_[i] = Misch2;
+            Schlick_[i] = Schlick;
+            schlick_t_[i] = schlick_t;
+            Wasser2_[i] = Wasser2;
+            bsum_[i] = bsum;
+        }
+    }
+
     // boolean: (internal)
     private static double boolean_TRUE(double x) {
         return (x <= 0.0) ? 0.0 : (x <= 1.0) ? x : 1.0;
@@ -176,290 +1127,389 @@ public class IntertidalFlatClassifierFuz  {
 
     // B1: lt(0.85, dx=0.05)
     private static double B1_B1_veg(double x) {
-        if (0.05 == 0.0)
-            return x < 0.85 ? 1.0 : 0.0;
-        final double x1 = 0.85 - 0.05;
-        final double x2 = 0.85 + 0.05;
-        if (x <= x1)
+        if (x <= 0.7999999999999999)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.9)
+            return 1.0 - (x - 0.7999999999999999) * 9.999999999999991;
         return 0.0;
     }
 
+    // B1: lt(0.85, dx=0.05)
+    private static float B1_B1_veg(float x) {
+        if (x <= 0.8f)
+            return 1.0f;
+        if (x <= 0.90000004f)
+            return 1.0f - (x - 0.8f) * 9.999998f;
+        return 0.0f;
+    }
+
     // B1: gt(1.00, dx=0.10)
     private static double B1_B1_strand(double x) {
-        if (0.1 == 0.0)
-            return x > 1.0 ? 1.0 : 0.0;
-        final double x1 = 1.0 - 0.1;
-        final double x2 = 1.0 + 0.1;
-        if (x <= x1)
+        if (x <= 0.9)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 1.1)
+            return (x - 0.9) * 4.999999999999998;
         return 1.0;
     }
 
+    // B1: gt(1.00, dx=0.10)
+    private static float B1_B1_strand(float x) {
+        if (x <= 0.9f)
+            return 0.0f;
+        if (x <= 1.1f)
+            return (x - 0.9f) * 4.999999f;
+        return 1.0f;
+    }
+
     // B2: gt(0.00, dx=0.01)
     private static double B2_B2_schlick(double x) {
-        if (0.01 == 0.0)
-            return x > 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.01;
-        final double x2 = 0.0 + 0.01;
-        if (x <= x1)
+        if (x <= -0.01)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.01)
+            return (x - -0.01) * 50.0;
         return 1.0;
     }
 
+    // B2: gt(0.00, dx=0.01)
+    private static float B2_B2_schlick(float x) {
+        if (x <= -0.01f)
+            return 0.0f;
+        if (x <= 0.01f)
+            return (x - -0.01f) * 5e+01f;
+        return 1.0f;
+    }
+
     // B3: lt(0.05, dx=0.01)
     private static double B3_B3_sand(double x) {
-        if (0.01 == 0.0)
-            return x < 0.05 ? 1.0 : 0.0;
-        final double x1 = 0.05 - 0.01;
-        final double x2 = 0.05 + 0.01;
-        if (x <= x1)
+        if (x <= 0.04)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.060000000000000005)
+            return 1.0 - (x - 0.04) * 49.99999999999999;
         return 0.0;
     }
 
+    // B3: lt(0.05, dx=0.01)
+    private static float B3_B3_sand(float x) {
+        if (x <= 0.04f)
+            return 1.0f;
+        if (x <= 0.060000002f)
+            return 1.0f - (x - 0.04f) * 49.999992f;
+        return 0.0f;
+    }
+
     // B3: lt(0.10, dx=0.01)
     private static double B3_B3_sand2(double x) {
-        if (0.01 == 0.0)
-            return x < 0.1 ? 1.0 : 0.0;
-        final double x1 = 0.1 - 0.01;
-        final double x2 = 0.1 + 0.01;
-        if (x <= x1)
+        if (x <= 0.09000000000000001)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.11)
+            return 1.0 - (x - 0.09000000000000001) * 50.00000000000003;
         return 0.0;
     }
 
+    // B3: lt(0.10, dx=0.01)
+    private static float B3_B3_sand2(float x) {
+        if (x <= 0.09f)
+            return 1.0f;
+        if (x <= 0.11f)
+            return 1.0f - (x - 0.09f) * 50.00001f;
+        return 0.0f;
+    }
+
     // B3: lt(0.15, dx=0.01)
     private static double B3_B3_misch(double x) {
-        if (0.01 == 0.0)
-            return x < 0.15 ? 1.0 : 0.0;
-        final double x1 = 0.15 - 0.01;
-        final double x2 = 0.15 + 0.01;
-        if (x <= x1)
+        if (x <= 0.13999999999999999)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.16)
+            return 1.0 - (x - 0.13999999999999999) * 49.99999999999996;
         return 0.0;
     }
 
+    // B3: lt(0.15, dx=0.01)
+    private static float B3_B3_misch(float x) {
+        if (x <= 0.14f)
+            return 1.0f;
+        if (x <= 0.16000001f)
+            return 1.0f - (x - 0.14f) * 49.999973f;
+        return 0.0f;
+    }
+
     // B3: lt(0.20, dx=0.01)
     private static double B3_B3_schlick(double x) {
-        if (0.01 == 0.0)
-            return x < 0.2 ? 1.0 : 0.0;
-        final double x1 = 0.2 - 0.01;
-        final double x2 = 0.2 + 0.01;
-        if (x <= x1)
+        if (x <= 0.19)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.21000000000000002)
+            return 1.0 - (x - 0.19) * 49.99999999999996;
         return 0.0;
     }
 
+    // B3: lt(0.20, dx=0.01)
+    private static float B3_B3_schlick(float x) {
+        if (x <= 0.19f)
+            return 1.0f;
+        if (x <= 0.21000001f)
+            return 1.0f - (x - 0.19f) * 49.999973f;
+        return 0.0f;
+    }
+
     // B4: eq(0.0)
     private static double B4_B4_nodata(double x) {
-        if (0.0 == 0.0)
-            return x == 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.0;
-        final double x2 = 0.0;
-        final double x3 = 0.0 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        if (x <= x3)
-            return 1.0 - (x - x2) / (x3 - x2);
-        return 0.0;
+        return x == 0.0 ? 1.0 : 0.0;
+    }
+
+    // B4: eq(0.0)
+    private static float B4_B4_nodata(float x) {
+        return x == 0.0f ? 1.0f : 0.0f;
     }
 
     // B5: lt(0.10, dx=0.05)
     private static double B5_B5_wasser(double x) {
-        if (0.05 == 0.0)
-            return x < 0.1 ? 1.0 : 0.0;
-        final double x1 = 0.1 - 0.05;
-        final double x2 = 0.1 + 0.05;
-        if (x <= x1)
+        if (x <= 0.05)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.15000000000000002)
+            return 1.0 - (x - 0.05) * 9.999999999999998;
         return 0.0;
     }
 
+    // B5: lt(0.10, dx=0.05)
+    private static float B5_B5_wasser(float x) {
+        if (x <= 0.05f)
+            return 1.0f;
+        if (x <= 0.15f)
+            return 1.0f - (x - 0.05f) * 9.999999f;
+        return 0.0f;
+    }
+
     // B7: lt(0.50, dx=0.05)
     private static double B7_B7_muschel(double x) {
-        if (0.05 == 0.0)
-            return x < 0.5 ? 1.0 : 0.0;
-        final double x1 = 0.5 - 0.05;
-        final double x2 = 0.5 + 0.05;
-        if (x <= x1)
+        if (x <= 0.45)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.55)
+            return 1.0 - (x - 0.45) * 9.999999999999996;
         return 0.0;
     }
 
+    // B7: lt(0.50, dx=0.05)
+    private static float B7_B7_muschel(float x) {
+        if (x <= 0.45f)
+            return 1.0f;
+        if (x <= 0.55f)
+            return 1.0f - (x - 0.45f) * 9.999998f;
+        return 0.0f;
+    }
+
     // B8: gt(0.00, dx=0.01)
     private static double B8_B8_sediment_wasser(double x) {
-        if (0.01 == 0.0)
-            return x > 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.01;
-        final double x2 = 0.0 + 0.01;
-        if (x <= x1)
+        if (x <= -0.01)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.01)
+            return (x - -0.01) * 50.0;
         return 1.0;
     }
 
+    // B8: gt(0.00, dx=0.01)
+    private static float B8_B8_sediment_wasser(float x) {
+        if (x <= -0.01f)
+            return 0.0f;
+        if (x <= 0.01f)
+            return (x - -0.01f) * 5e+01f;
+        return 1.0f;
+    }
+
     // B8: lt(0.09, dx=0.01)
     private static double B8_B8_veg_wasser(double x) {
-        if (0.01 == 0.0)
-            return x < 0.09 ? 1.0 : 0.0;
-        final double x1 = 0.09 - 0.01;
-        final double x2 = 0.09 + 0.01;
-        if (x <= x1)
+        if (x <= 0.08)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.09999999999999999)
+            return 1.0 - (x - 0.08) * 50.00000000000003;
         return 0.0;
     }
 
+    // B8: lt(0.09, dx=0.01)
+    private static float B8_B8_veg_wasser(float x) {
+        if (x <= 0.080000006f)
+            return 1.0f;
+        if (x <= 0.1f)
+            return 1.0f - (x - 0.080000006f) * 50.00001f;
+        return 0.0f;
+    }
+
     // B8: gt(0.33, dx=0.02)
     private static double B8_B8_veg(double x) {
-        if (0.02 == 0.0)
-            return x > 0.33 ? 1.0 : 0.0;
-        final double x1 = 0.33 - 0.02;
-        final double x2 = 0.33 + 0.02;
-        if (x <= x1)
+        if (x <= 0.31)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.35000000000000003)
+            return (x - 0.31) * 24.99999999999998;
         return 1.0;
     }
 
+    // B8: gt(0.33, dx=0.02)
+    private static float B8_B8_veg(float x) {
+        if (x <= 0.31f)
+            return 0.0f;
+        if (x <= 0.35000002f)
+            return (x - 0.31f) * 24.999987f;
+        return 1.0f;
+    }
+
     // B8: gt(0.35, dx=0.02)
     private static double B8_B8_muschel_schill(double x) {
-        if (0.02 == 0.0)
-            return x > 0.35 ? 1.0 : 0.0;
-        final double x1 = 0.35 - 0.02;
-        final double x2 = 0.35 + 0.02;
-        if (x <= x1)
+        if (x <= 0.32999999999999996)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.37)
+            return (x - 0.32999999999999996) * 24.99999999999998;
         return 1.0;
     }
 
+    // B8: gt(0.35, dx=0.02)
+    private static float B8_B8_muschel_schill(float x) {
+        if (x <= 0.32999998f)
+            return 0.0f;
+        if (x <= 0.37f)
+            return (x - 0.32999998f) * 24.999987f;
+        return 1.0f;
+    }
+
     // B8: gt(0.40, dx=0.02)
     private static double B8_B8_muschel_min(double x) {
-        if (0.02 == 0.0)
-            return x > 0.4 ? 1.0 : 0.0;
-        final double x1 = 0.4 - 0.02;
-        final double x2 = 0.4 + 0.02;
-        if (x <= x1)
+        if (x <= 0.38)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.42000000000000004)
+            return (x - 0.38) * 24.99999999999998;
         return 1.0;
     }
 
+    // B8: gt(0.40, dx=0.02)
+    private static float B8_B8_muschel_min(float x) {
+        if (x <= 0.38f)
+            return 0.0f;
+        if (x <= 0.42000002f)
+            return (x - 0.38f) * 24.999987f;
+        return 1.0f;
+    }
+
     // B8: gt(0.45, dx=0.02)
     private static double B8_B8_veg_dicht(double x) {
-        if (0.02 == 0.0)
-            return x > 0.45 ? 1.0 : 0.0;
-        final double x1 = 0.45 - 0.02;
-        final double x2 = 0.45 + 0.02;
-        if (x <= x1)
+        if (x <= 0.43)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.47000000000000003)
+            return (x - 0.43) * 24.99999999999998;
         return 1.0;
     }
 
+    // B8: gt(0.45, dx=0.02)
+    private static float B8_B8_veg_dicht(float x) {
+        if (x <= 0.42999998f)
+            return 0.0f;
+        if (x <= 0.47f)
+            return (x - 0.42999998f) * 24.999987f;
+        return 1.0f;
+    }
+
     // B8: lt(0.85, dx=0.02)
     private static double B8_B8_muschel_max(double x) {
-        if (0.02 == 0.0)
-            return x < 0.85 ? 1.0 : 0.0;
-        final double x1 = 0.85 - 0.02;
-        final double x2 = 0.85 + 0.02;
-        if (x <= x1)
+        if (x <= 0.83)
             return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
+        if (x <= 0.87)
+            return 1.0 - (x - 0.83) * 24.99999999999998;
         return 0.0;
     }
 
+    // B8: lt(0.85, dx=0.02)
+    private static float B8_B8_muschel_max(float x) {
+        if (x <= 0.83000004f)
+            return 1.0f;
+        if (x <= 0.87f)
+            return 1.0f - (x - 0.83000004f) * 25.000025f;
+        return 0.0f;
+    }
+
     // B16: gt(0.00, dx=0.01)
     private static double B16_B16_sediment_wasser(double x) {
-        if (0.01 == 0.0)
-            return x > 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.01;
-        final double x2 = 0.0 + 0.01;
-        if (x <= x1)
+        if (x <= -0.01)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.01)
+            return (x - -0.01) * 50.0;
         return 1.0;
     }
 
+    // B16: gt(0.00, dx=0.01)
+    private static float B16_B16_sediment_wasser(float x) {
+        if (x <= -0.01f)
+            return 0.0f;
+        if (x <= 0.01f)
+            return (x - -0.01f) * 5e+01f;
+        return 1.0f;
+    }
+
     // B19: gt(0.15, dx=0.01)
     private static double B19_B19_muschel(double x) {
-        if (0.01 == 0.0)
-            return x > 0.15 ? 1.0 : 0.0;
-        final double x1 = 0.15 - 0.01;
-        final double x2 = 0.15 + 0.01;
-        if (x <= x1)
+        if (x <= 0.13999999999999999)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.16)
+            return (x - 0.13999999999999999) * 49.99999999999996;
         return 1.0;
     }
 
+    // B19: gt(0.15, dx=0.01)
+    private static float B19_B19_muschel(float x) {
+        if (x <= 0.14f)
+            return 0.0f;
+        if (x <= 0.16000001f)
+            return (x - 0.14f) * 49.999973f;
+        return 1.0f;
+    }
+
     // BSum: gt(0.11, dx=0.02)
     private static double BSum_BSum_schill_1(double x) {
-        if (0.02 == 0.0)
-            return x > 0.11 ? 1.0 : 0.0;
-        final double x1 = 0.11 - 0.02;
-        final double x2 = 0.11 + 0.02;
-        if (x <= x1)
+        if (x <= 0.09)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.13)
+            return (x - 0.09) * 24.999999999999996;
         return 1.0;
     }
 
+    // BSum: gt(0.11, dx=0.02)
+    private static float BSum_BSum_schill_1(float x) {
+        if (x <= 0.09f)
+            return 0.0f;
+        if (x <= 0.13f)
+            return (x - 0.09f) * 25.000006f;
+        return 1.0f;
+    }
+
     // BSum: gt(0.13, dx=0.02)
     private static double BSum_BSum_schill_1a(double x) {
-        if (0.02 == 0.0)
-            return x > 0.13 ? 1.0 : 0.0;
-        final double x1 = 0.13 - 0.02;
-        final double x2 = 0.13 + 0.02;
-        if (x <= x1)
+        if (x <= 0.11)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.15)
+            return (x - 0.11) * 25.000000000000004;
         return 1.0;
     }
 
+    // BSum: gt(0.13, dx=0.02)
+    private static float BSum_BSum_schill_1a(float x) {
+        if (x <= 0.11f)
+            return 0.0f;
+        if (x <= 0.14999999f)
+            return (x - 0.11f) * 25.000006f;
+        return 1.0f;
+    }
+
     // BSum: gt(0.16, dx=0.01)
     private static double BSum_BSum_schill_2(double x) {
-        if (0.01 == 0.0)
-            return x > 0.16 ? 1.0 : 0.0;
-        final double x1 = 0.16 - 0.01;
-        final double x2 = 0.16 + 0.01;
-        if (x <= x1)
+        if (x <= 0.15)
             return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
+        if (x <= 0.17)
+            return (x - 0.15) * 49.99999999999996;
         return 1.0;
     }
+
+    // BSum: gt(0.16, dx=0.01)
+    private static float BSum_BSum_schill_2(float x) {
+        if (x <= 0.14999999f)
+            return 0.0f;
+        if (x <= 0.17f)
+            return (x - 0.14999999f) * 49.999973f;
+        return 1.0f;
+    }
 }
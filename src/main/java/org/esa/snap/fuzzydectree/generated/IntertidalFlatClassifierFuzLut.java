@@ -0,0 +1,266 @@
+package org.esa.snap.fuzzydectree.generated;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.esa.snap.fuzzydectree.generated.IntertidalFlatClassifierFuzVec.*;
+
+// Lookup table variant of IntertidalFlatClassifierFuz for quantized inputs, float precision only.
+// The ramp membership functions of each input are tabulated once over a uniform grid spanning all
+// ramps of that input. Per pixel, the grid position is computed once per input and every membership
+// of that input is evaluated by table lookup plus linear interpolation. The crisp nodata test is
+// evaluated exactly. Memberships deviate from exact evaluation only in grid cells containing a ramp
+// corner, see computeErrorReport(). The tables are shared between copies of an instance, the scratch
+// columns are not, so instances are not thread-safe.
+public class IntertidalFlatClassifierFuzLut {
+
+    public static final int DEFAULT_TABLE_SIZE = 4096;
+
+    private static final int BSUM_INPUT = -1;
+
+    // Ramp membership functions of IntertidalFlatClassifierFuz, grouped by input
+    private static final Ramp[] RAMPS = {
+            new Ramp("B1_veg", 0, B1_VEG_COLUMN, true, 0.85f, 0.05f),
+            new Ramp("B1_strand", 0, B1_STRAND_COLUMN, false, 1.0f, 0.1f),
+            new Ramp("B2_schlick", 1, B2_SCHLICK_COLUMN, false, 0.0f, 0.01f),
+            new Ramp("B3_sand", 2, B3_SAND_COLUMN, true, 0.05f, 0.01f),
+            new Ramp("B3_sand2", 2, B3_SAND2_COLUMN, true, 0.1f, 0.01f),
+            new Ramp("B3_misch", 2, B3_MISCH_COLUMN, true, 0.15f, 0.01f),
+            new Ramp("B3_schlick", 2, B3_SCHLICK_COLUMN, true, 0.2f, 0.01f),
+            new Ramp("B5_wasser", 4, B5_WASSER_COLUMN, true, 0.1f, 0.05f),
+            new Ramp("B7_muschel", 5, B7_MUSCHEL_COLUMN, true, 0.5f, 0.05f),
+            new Ramp("B8_sediment_wasser", 6, B8_SEDIMENT_WASSER_COLUMN, false, 0.0f, 0.01f),
+            new Ramp("B8_veg_wasser", 6, B8_VEG_WASSER_COLUMN, true, 0.09f, 0.01f),
+            new Ramp("B8_veg", 6, B8_VEG_COLUMN, false, 0.33f, 0.02f),
+            new Ramp("B8_muschel_schill", 6, B8_MUSCHEL_SCHILL_COLUMN, false, 0.35f, 0.02f),
+            new Ramp("B8_muschel_min", 6, B8_MUSCHEL_MIN_COLUMN, false, 0.4f, 0.02f),
+            new Ramp("B8_veg_dicht", 6, B8_VEG_DICHT_COLUMN, false, 0.45f, 0.02f),
+            new Ramp("B8_muschel_max", 6, B8_MUSCHEL_MAX_COLUMN, true, 0.85f, 0.02f),
+            new Ramp("B16_sediment_wasser", 10, B16_SEDIMENT_WASSER_COLUMN, false, 0.0f, 0.01f),
+            new Ramp("B19_muschel", 11, B19_MUSCHEL_COLUMN, false, 0.15f, 0.01f),
+            new Ramp("BSum_schill_1", BSUM_INPUT, BSUM_SCHILL_1_COLUMN, false, 0.11f, 0.02f),
+            new Ramp("BSum_schill_1a", BSUM_INPUT, BSUM_SCHILL_1A_COLUMN, false, 0.13f, 0.02f),
+            new Ramp("BSum_schill_2", BSUM_INPUT, BSUM_SCHILL_2_COLUMN, false, 0.16f, 0.01f),
+    };
+
+    private final int tableSize;
+    private final Grid[] grids;
+
+    private float[][] columns;
+    private int[] gridIndexes;
+    private float[] gridWeights;
+
+    /**
+     * Creates a classifier with tables of {@link #DEFAULT_TABLE_SIZE} grid points per input.
+     */
+    public IntertidalFlatClassifierFuzLut() {
+        this(DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * @param tableSize the number of grid points per input, at least 2
+     */
+    public IntertidalFlatClassifierFuzLut(int tableSize) {
+        if (tableSize < 2) {
+            throw new IllegalArgumentException("tableSize must be at least 2");
+        }
+        this.tableSize = tableSize;
+        final List<Grid> grids = new ArrayList<>();
+        for (Ramp ramp : RAMPS) {
+            if (grids.isEmpty() || grids.get(grids.size() - 1).input != ramp.input) {
+                grids.add(new Grid(ramp.input));
+            }
+            grids.get(grids.size() - 1).ramps.add(ramp);
+        }
+        this.grids = grids.toArray(new Grid[grids.size()]);
+        for (Grid grid : this.grids) {
+            grid.tabulate(tableSize);
+        }
+    }
+
+    /**
+     * Creates a classifier sharing the tables of the given one.
+     *
+     * @param other the classifier whose tables are used
+     */
+    public IntertidalFlatClassifierFuzLut(IntertidalFlatClassifierFuzLut other) {
+        this.tableSize = other.tableSize;
+        this.grids = other.grids;
+    }
+
+    public final int getInputSize() { return 12; }
+    public final int getOutputSize() { return 14; }
+
+    public final int getTableSize() {
+        return tableSize;
+    }
+
+    public final void apply(float[][] inputs, float[][] outputs, int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        if (columns == null) {
+            columns = new float[NUM_COLUMNS][BLOCK_SIZE];
+            gridIndexes = new int[BLOCK_SIZE];
+            gridWeights = new float[BLOCK_SIZE];
+        }
+        for (int blockOffset = offset; blockOffset < offset + length; blockOffset += BLOCK_SIZE) {
+            applyBlock(inputs, outputs, blockOffset, min(BLOCK_SIZE, offset + length - blockOffset));
+        }
+    }
+
+    /**
+     * Compares each tabulated membership function with its exact evaluation at 16 points per grid cell.
+     * Since the decision tree only combines memberships by min and max, no output deviates by more than
+     * the largest membership deviation.
+     *
+     * @return the maximum absolute deviation per membership function, in tree order
+     */
+    public Map<String, Float> computeErrorReport() {
+        final int oversampling = 16;
+        final Map<String, Float> report = new LinkedHashMap<>();
+        for (Grid grid : grids) {
+            final int n = (tableSize - 1) * oversampling + 1;
+            final float[] x = new float[n];
+            for (int j = 0; j < n; j++) {
+                x[j] = grid.min + j * (grid.max - grid.min) / (n - 1);
+            }
+            final int[] indexes = new int[n];
+            final float[] weights = new float[n];
+            grid.locate(x, 0, indexes, weights, n);
+            final float[] expected = new float[n];
+            final float[] actual = new float[n];
+            for (int k = 0; k < grid.ramps.size(); k++) {
+                final Ramp ramp = grid.ramps.get(k);
+                ramp.evaluate(x, expected, n);
+                interpolate(grid.tables[k], indexes, weights, actual, n);
+                float maxError = 0.0f;
+                for (int j = 0; j < n; j++) {
+                    maxError = max(maxError, abs(actual[j] - expected[j]));
+                }
+                report.put(ramp.name, maxError);
+            }
+        }
+        return report;
+    }
+
+    private void applyBlock(float[][] inputs, float[][] outputs, int o, int n) {
+        final float[] b4 = inputs[3];
+        final float[] b12 = inputs[7];
+        final float[] b13 = inputs[8];
+        final float[] b14 = inputs[9];
+
+        final float[] bsum = columns[BSUM_COLUMN];
+        for (int j = 0; j < n; j++) {
+            bsum[j] = b12[o + j] + b13[o + j] + b14[o + j];
+        }
+
+        eq(b4, o, 0.0f, columns[B4_NODATA_COLUMN], n);
+
+        for (Grid grid : grids) {
+            if (grid.input == BSUM_INPUT) {
+                grid.locate(bsum, 0, gridIndexes, gridWeights, n);
+            } else {
+                grid.locate(inputs[grid.input], o, gridIndexes, gridWeights, n);
+            }
+            for (int k = 0; k < grid.tables.length; k++) {
+                interpolate(grid.tables[k], gridIndexes, gridWeights, columns[grid.ramps.get(k).column], n);
+            }
+        }
+
+        combine(columns, outputs, o, n);
+    }
+
+    private static void interpolate(float[] table, int[] indexes, float[] weights, float[] m, int n) {
+        for (int j = 0; j < n; j++) {
+            final int i = indexes[j];
+            final float m0 = table[i];
+            m[j] = m0 + weights[j] * (table[i + 1] - m0);
+        }
+    }
+
+    private static final class Ramp {
+
+        final String name;
+        final int input;
+        final int column;
+        final boolean lt;
+        final float x0;
+        final float dx;
+
+        Ramp(String name, int input, int column, boolean lt, float x0, float dx) {
+            this.name = name;
+            this.input = input;
+            this.column = column;
+            this.lt = lt;
+            this.x0 = x0;
+            this.dx = dx;
+        }
+
+        void evaluate(float[] x, float[] m, int n) {
+            if (lt) {
+                lt(x, 0, x0, dx, m, n);
+            } else {
+                gt(x, 0, x0, dx, m, n);
+            }
+        }
+    }
+
+    // A uniform grid over [min, max] of one input, spanning all ramps of that input.
+    // Outside the grid the ramps are constant, so values are clamped to the grid ends.
+    private static final class Grid {
+
+        final int input;
+        final List<Ramp> ramps = new ArrayList<>();
+        float min;
+        float max;
+        float scale;
+        int lastCell;
+        float[][] tables;
+
+        Grid(int input) {
+            this.input = input;
+        }
+
+        void tabulate(int tableSize) {
+            min = Float.POSITIVE_INFINITY;
+            max = Float.NEGATIVE_INFINITY;
+            for (Ramp ramp : ramps) {
+                min = Math.min(min, ramp.x0 - ramp.dx);
+                max = Math.max(max, ramp.x0 + ramp.dx);
+            }
+            scale = (tableSize - 1) / (max - min);
+            lastCell = tableSize - 2;
+
+            final float[] x = new float[tableSize];
+            for (int i = 0; i < tableSize; i++) {
+                x[i] = min + i * (max - min) / (tableSize - 1);
+            }
+            tables = new float[ramps.size()][tableSize];
+            for (int k = 0; k < ramps.size(); k++) {
+                ramps.get(k).evaluate(x, tables[k], tableSize);
+            }
+        }
+
+        // NaN is located at the upper end of the grid, like the ramps which treat NaN as +inf.
+        void locate(float[] x, int o, int[] indexes, float[] weights, int n) {
+            final float last = lastCell + 1;
+            for (int j = 0; j < n; j++) {
+                float t = (x[o + j] - min) * scale;
+                if (!(t < last)) {
+                    t = last;
+                } else if (t < 0.0f) {
+                    t = 0.0f;
+                }
+                final int i = min((int) t, lastCell);
+                indexes[j] = i;
+                weights[j] = t - i;
+            }
+        }
+    }
+}
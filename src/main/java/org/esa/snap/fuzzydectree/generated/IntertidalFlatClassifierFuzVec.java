@@ -0,0 +1,453 @@
+package org.esa.snap.fuzzydectree.generated;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+// Column-wise variant of IntertidalFlatClassifierFuz, results are identical.
+// Each membership function is evaluated for a block of pixels in its own loop, then the tree
+// combines the membership columns in a single min/max loop. These loops are free of calls and
+// table lookups, so HotSpot's superword pass can compile them into SIMD instructions.
+// Instances keep scratch columns and are therefore not thread-safe.
+public class IntertidalFlatClassifierFuzVec {
+
+    public static final int BLOCK_SIZE = 256;
+
+    static final int BSUM_COLUMN = 0;
+    static final int B1_VEG_COLUMN = 1;
+    static final int B1_STRAND_COLUMN = 2;
+    static final int B2_SCHLICK_COLUMN = 3;
+    static final int B3_SAND_COLUMN = 4;
+    static final int B3_SAND2_COLUMN = 5;
+    static final int B3_MISCH_COLUMN = 6;
+    static final int B3_SCHLICK_COLUMN = 7;
+    static final int B4_NODATA_COLUMN = 8;
+    static final int B5_WASSER_COLUMN = 9;
+    static final int B7_MUSCHEL_COLUMN = 10;
+    static final int B8_SEDIMENT_WASSER_COLUMN = 11;
+    static final int B8_VEG_WASSER_COLUMN = 12;
+    static final int B8_VEG_COLUMN = 13;
+    static final int B8_MUSCHEL_SCHILL_COLUMN = 14;
+    static final int B8_MUSCHEL_MIN_COLUMN = 15;
+    static final int B8_VEG_DICHT_COLUMN = 16;
+    static final int B8_MUSCHEL_MAX_COLUMN = 17;
+    static final int B16_SEDIMENT_WASSER_COLUMN = 18;
+    static final int B19_MUSCHEL_COLUMN = 19;
+    static final int BSUM_SCHILL_1_COLUMN = 20;
+    static final int BSUM_SCHILL_1A_COLUMN = 21;
+    static final int BSUM_SCHILL_2_COLUMN = 22;
+    static final int NUM_COLUMNS = 23;
+
+    private double[][] columns;
+    private float[][] floatColumns;
+
+    /**
+     * @return {@code true} if the running JVM's JIT compiler vectorizes simple loops (HotSpot {@code UseSuperWord})
+     */
+    public static boolean isSupported() {
+        try {
+            final HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+            return bean != null && Boolean.parseBoolean(bean.getVMOption("UseSuperWord").getValue());
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    public final int getInputSize() { return 12; }
+    public final int getOutputSize() { return 14; }
+
+    public final void apply(double[][] inputs, double[][] outputs, int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        if (columns == null) {
+            columns = new double[NUM_COLUMNS][BLOCK_SIZE];
+        }
+        for (int blockOffset = offset; blockOffset < offset + length; blockOffset += BLOCK_SIZE) {
+            applyBlock(inputs, outputs, blockOffset, min(BLOCK_SIZE, offset + length - blockOffset));
+        }
+    }
+
+    public final void apply(float[][] inputs, float[][] outputs, int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        if (floatColumns == null) {
+            floatColumns = new float[NUM_COLUMNS][BLOCK_SIZE];
+        }
+        for (int blockOffset = offset; blockOffset < offset + length; blockOffset += BLOCK_SIZE) {
+            applyBlock(inputs, outputs, blockOffset, min(BLOCK_SIZE, offset + length - blockOffset));
+        }
+    }
+
+    // Like apply, and determines per pixel the index of the first class output with the largest membership,
+    // or -1 if all are 0, and that membership. The maximum is taken per block while its outputs are in cache.
+    public final void applyAndClassify(float[][] inputs, float[][] outputs, int[] classIndexes, float[] maxValues,
+                                       int offset, int length) {
+        assert inputs.length >= 12;
+        assert outputs.length >= 14;
+
+        if (floatColumns == null) {
+            floatColumns = new float[NUM_COLUMNS][BLOCK_SIZE];
+        }
+        for (int blockOffset = offset; blockOffset < offset + length; blockOffset += BLOCK_SIZE) {
+            final int n = min(BLOCK_SIZE, offset + length - blockOffset);
+            applyBlock(inputs, outputs, blockOffset, n);
+            argMax(outputs, 13, classIndexes, maxValues, blockOffset, n);
+        }
+    }
+
+    private void applyBlock(double[][] inputs, double[][] outputs, int o, int n) {
+        final double[] b1 = inputs[0];
+        final double[] b2 = inputs[1];
+        final double[] b3 = inputs[2];
+        final double[] b4 = inputs[3];
+        final double[] b5 = inputs[4];
+        final double[] b7 = inputs[5];
+        final double[] b8 = inputs[6];
+        final double[] b12 = inputs[7];
+        final double[] b13 = inputs[8];
+        final double[] b14 = inputs[9];
+        final double[] b16 = inputs[10];
+        final double[] b19 = inputs[11];
+
+        final double[] bsum = columns[BSUM_COLUMN];
+        final double[] B1_veg = columns[B1_VEG_COLUMN];
+        final double[] B1_strand = columns[B1_STRAND_COLUMN];
+        final double[] B2_schlick = columns[B2_SCHLICK_COLUMN];
+        final double[] B3_sand = columns[B3_SAND_COLUMN];
+        final double[] B3_sand2 = columns[B3_SAND2_COLUMN];
+        final double[] B3_misch = columns[B3_MISCH_COLUMN];
+        final double[] B3_schlick = columns[B3_SCHLICK_COLUMN];
+        final double[] B4_nodata = columns[B4_NODATA_COLUMN];
+        final double[] B5_wasser = columns[B5_WASSER_COLUMN];
+        final double[] B7_muschel = columns[B7_MUSCHEL_COLUMN];
+        final double[] B8_sediment_wasser = columns[B8_SEDIMENT_WASSER_COLUMN];
+        final double[] B8_veg_wasser = columns[B8_VEG_WASSER_COLUMN];
+        final double[] B8_veg = columns[B8_VEG_COLUMN];
+        final double[] B8_muschel_schill = columns[B8_MUSCHEL_SCHILL_COLUMN];
+        final double[] B8_muschel_min = columns[B8_MUSCHEL_MIN_COLUMN];
+        final double[] B8_veg_dicht = columns[B8_VEG_DICHT_COLUMN];
+        final double[] B8_muschel_max = columns[B8_MUSCHEL_MAX_COLUMN];
+        final double[] B16_sediment_wasser = columns[B16_SEDIMENT_WASSER_COLUMN];
+        final double[] B19_muschel = columns[B19_MUSCHEL_COLUMN];
+        final double[] BSum_schill_1 = columns[BSUM_SCHILL_1_COLUMN];
+        final double[] BSum_schill_1a = columns[BSUM_SCHILL_1A_COLUMN];
+        final double[] BSum_schill_2 = columns[BSUM_SCHILL_2_COLUMN];
+
+        for (int j = 0; j < n; j++) {
+            bsum[j] = b12[o + j] + b13[o + j] + b14[o + j];
+        }
+
+        lt(b1, o, 0.85, 0.05, B1_veg, n);
+        gt(b1, o, 1.0, 0.1, B1_strand, n);
+        gt(b2, o, 0.0, 0.01, B2_schlick, n);
+        lt(b3, o, 0.05, 0.01, B3_sand, n);
+        lt(b3, o, 0.1, 0.01, B3_sand2, n);
+        lt(b3, o, 0.15, 0.01, B3_misch, n);
+        lt(b3, o, 0.2, 0.01, B3_schlick, n);
+        eq(b4, o, 0.0, B4_nodata, n);
+        lt(b5, o, 0.1, 0.05, B5_wasser, n);
+        lt(b7, o, 0.5, 0.05, B7_muschel, n);
+        gt(b8, o, 0.0, 0.01, B8_sediment_wasser, n);
+        lt(b8, o, 0.09, 0.01, B8_veg_wasser, n);
+        gt(b8, o, 0.33, 0.02, B8_veg, n);
+        gt(b8, o, 0.35, 0.02, B8_muschel_schill, n);
+        gt(b8, o, 0.4, 0.02, B8_muschel_min, n);
+        gt(b8, o, 0.45, 0.02, B8_veg_dicht, n);
+        lt(b8, o, 0.85, 0.02, B8_muschel_max, n);
+        gt(b16, o, 0.0, 0.01, B16_sediment_wasser, n);
+        gt(b19, o, 0.15, 0.01, B19_muschel, n);
+        gt(bsum, 0, 0.11, 0.02, BSum_schill_1, n);
+        gt(bsum, 0, 0.13, 0.02, BSum_schill_1a, n);
+        gt(bsum, 0, 0.16, 0.01, BSum_schill_2, n);
+
+        final double[] nodata_ = outputs[0];
+        final double[] Wasser_ = outputs[1];
+        final double[] Schill_ = outputs[2];
+        final double[] Muschel_ = outputs[3];
+        final double[] dense2_ = outputs[4];
+        final double[] dense1_ = outputs[5];
+        final double[] Strand_ = outputs[6];
+        final double[] Sand_ = outputs[7];
+        final double[] Misch_ = outputs[8];
+        final double[] Misch2_ = outputs[9];
+        final double[] Schlick_ = outputs[10];
+        final double[] schlick_t_ = outputs[11];
+        final double[] Wasser2_ = outputs[12];
+        final double[] bsum_ = outputs[13];
+
+        for (int j = 0; j < n; j++) {
+            final double _t0 = 1.0;
+            double _t1 = min(_t0, B4_nodata[j]);
+            nodata_[o + j] = max(0.0, _t1);
+            _t1 = min(_t0, 1.0 - _t1);
+            double _t2 = min(_t1, max(min(B8_veg[j], B1_veg[j]), B8_veg_wasser[j]));
+            double _t3 = min(_t2, B5_wasser[j]);
+            Wasser_[o + j] = max(0.0, _t3);
+            _t3 = min(_t2, 1.0 - _t3);
+            double _t4 = min(_t3, max(min(B19_muschel[j], min(min(B8_muschel_min[j], B8_muschel_max[j]), B7_muschel[j])), max(min(B8_muschel_min[j], BSum_schill_1[j]), min(B8_muschel_schill[j], BSum_schill_2[j]))));
+            double _t5 = min(_t4, BSum_schill_1a[j]);
+            Schill_[o + j] = max(0.0, _t5);
+            _t5 = min(_t4, 1.0 - _t5);
+            Muschel_[o + j] = max(0.0, _t5);
+            _t4 = min(_t3, 1.0 - _t4);
+            double _t6 = min(_t4, B8_veg_dicht[j]);
+            dense2_[o + j] = max(0.0, _t6);
+            _t6 = min(_t4, 1.0 - _t6);
+            dense1_[o + j] = max(0.0, _t6);
+            _t2 = min(_t1, 1.0 - _t2);
+            double _t7 = min(_t2, B1_strand[j]);
+            Strand_[o + j] = max(0.0, _t7);
+            _t7 = min(_t2, 1.0 - _t7);
+            double _t8 = min(_t7, B3_sand[j]);
+            Sand_[o + j] = max(0.0, _t8);
+            _t8 = min(_t7, 1.0 - _t8);
+            double _t9 = min(_t8, min(B3_sand2[j], B8_sediment_wasser[j]));
+            Misch_[o + j] = max(0.0, _t9);
+            _t9 = min(_t8, 1.0 - _t9);
+            double _t10 = min(_t9, min(B3_misch[j], B8_sediment_wasser[j]));
+            Misch2_[o + j] = max(0.0, _t10);
+            _t10 = min(_t9, 1.0 - _t10);
+            double _t11 = min(_t10, min(B3_schlick[j], min(B2_schlick[j], B8_sediment_wasser[j])));
+            Schlick_[o + j] = max(0.0, _t11);
+            _t11 = min(_t10, 1.0 - _t11);
+            double _t12 = min(_t11, min(B16_sediment_wasser[j], B8_sediment_wasser[j]));
+            schlick_t_[o + j] = max(0.0, _t12);
+            _t12 = min(_t11, 1.0 - _t12);
+            Wasser2_[o + j] = max(0.0, _t12);
+            bsum_[o + j] = bsum[j];
+        }
+    }
+
+    private void applyBlock(float[][] inputs, float[][] outputs, int o, int n) {
+        final float[] b1 = inputs[0];
+        final float[] b2 = inputs[1];
+        final float[] b3 = inputs[2];
+        final float[] b4 = inputs[3];
+        final float[] b5 = inputs[4];
+        final float[] b7 = inputs[5];
+        final float[] b8 = inputs[6];
+        final float[] b12 = inputs[7];
+        final float[] b13 = inputs[8];
+        final float[] b14 = inputs[9];
+        final float[] b16 = inputs[10];
+        final float[] b19 = inputs[11];
+
+        final float[] bsum = floatColumns[BSUM_COLUMN];
+        final float[] B1_veg = floatColumns[B1_VEG_COLUMN];
+        final float[] B1_strand = floatColumns[B1_STRAND_COLUMN];
+        final float[] B2_schlick = floatColumns[B2_SCHLICK_COLUMN];
+        final float[] B3_sand = floatColumns[B3_SAND_COLUMN];
+        final float[] B3_sand2 = floatColumns[B3_SAND2_COLUMN];
+        final float[] B3_misch = floatColumns[B3_MISCH_COLUMN];
+        final float[] B3_schlick = floatColumns[B3_SCHLICK_COLUMN];
+        final float[] B4_nodata = floatColumns[B4_NODATA_COLUMN];
+        final float[] B5_wasser = floatColumns[B5_WASSER_COLUMN];
+        final float[] B7_muschel = floatColumns[B7_MUSCHEL_COLUMN];
+        final float[] B8_sediment_wasser = floatColumns[B8_SEDIMENT_WASSER_COLUMN];
+        final float[] B8_veg_wasser = floatColumns[B8_VEG_WASSER_COLUMN];
+        final float[] B8_veg = floatColumns[B8_VEG_COLUMN];
+        final float[] B8_muschel_schill = floatColumns[B8_MUSCHEL_SCHILL_COLUMN];
+        final float[] B8_muschel_min = floatColumns[B8_MUSCHEL_MIN_COLUMN];
+        final float[] B8_veg_dicht = floatColumns[B8_VEG_DICHT_COLUMN];
+        final float[] B8_muschel_max = floatColumns[B8_MUSCHEL_MAX_COLUMN];
+        final float[] B16_sediment_wasser = floatColumns[B16_SEDIMENT_WASSER_COLUMN];
+        final float[] B19_muschel = floatColumns[B19_MUSCHEL_COLUMN];
+        final float[] BSum_schill_1 = floatColumns[BSUM_SCHILL_1_COLUMN];
+        final float[] BSum_schill_1a = floatColumns[BSUM_SCHILL_1A_COLUMN];
+        final float[] BSum_schill_2 = floatColumns[BSUM_SCHILL_2_COLUMN];
+
+        for (int j = 0; j < n; j++) {
+            bsum[j] = b12[o + j] + b13[o + j] + b14[o + j];
+        }
+
+        lt(b1, o, 0.85f, 0.05f, B1_veg, n);
+        gt(b1, o, 1.0f, 0.1f, B1_strand, n);
+        gt(b2, o, 0.0f, 0.01f, B2_schlick, n);
+        lt(b3, o, 0.05f, 0.01f, B3_sand, n);
+        lt(b3, o, 0.1f, 0.01f, B3_sand2, n);
+        lt(b3, o, 0.15f, 0.01f, B3_misch, n);
+        lt(b3, o, 0.2f, 0.01f, B3_schlick, n);
+        eq(b4, o, 0.0f, B4_nodata, n);
+        lt(b5, o, 0.1f, 0.05f, B5_wasser, n);
+        lt(b7, o, 0.5f, 0.05f, B7_muschel, n);
+        gt(b8, o, 0.0f, 0.01f, B8_sediment_wasser, n);
+        lt(b8, o, 0.09f, 0.01f, B8_veg_wasser, n);
+        gt(b8, o, 0.33f, 0.02f, B8_veg, n);
+        gt(b8, o, 0.35f, 0.02f, B8_muschel_schill, n);
+        gt(b8, o, 0.4f, 0.02f, B8_muschel_min, n);
+        gt(b8, o, 0.45f, 0.02f, B8_veg_dicht, n);
+        lt(b8, o, 0.85f, 0.02f, B8_muschel_max, n);
+        gt(b16, o, 0.0f, 0.01f, B16_sediment_wasser, n);
+        gt(b19, o, 0.15f, 0.01f, B19_muschel, n);
+        gt(bsum, 0, 0.11f, 0.02f, BSum_schill_1, n);
+        gt(bsum, 0, 0.13f, 0.02f, BSum_schill_1a, n);
+        gt(bsum, 0, 0.16f, 0.01f, BSum_schill_2, n);
+
+        combine(floatColumns, outputs, o, n);
+    }
+
+    // Combines the membership columns of a block of pixels by the decision tree.
+    static void combine(float[][] columns, float[][] outputs, int o, int n) {
+        final float[] bsum = columns[BSUM_COLUMN];
+        final float[] B1_veg = columns[B1_VEG_COLUMN];
+        final float[] B1_strand = columns[B1_STRAND_COLUMN];
+        final float[] B2_schlick = columns[B2_SCHLICK_COLUMN];
+        final float[] B3_sand = columns[B3_SAND_COLUMN];
+        final float[] B3_sand2 = columns[B3_SAND2_COLUMN];
+        final float[] B3_misch = columns[B3_MISCH_COLUMN];
+        final float[] B3_schlick = columns[B3_SCHLICK_COLUMN];
+        final float[] B4_nodata = columns[B4_NODATA_COLUMN];
+        final float[] B5_wasser = columns[B5_WASSER_COLUMN];
+        final float[] B7_muschel = columns[B7_MUSCHEL_COLUMN];
+        final float[] B8_sediment_wasser = columns[B8_SEDIMENT_WASSER_COLUMN];
+        final float[] B8_veg_wasser = columns[B8_VEG_WASSER_COLUMN];
+        final float[] B8_veg = columns[B8_VEG_COLUMN];
+        final float[] B8_muschel_schill = columns[B8_MUSCHEL_SCHILL_COLUMN];
+        final float[] B8_muschel_min = columns[B8_MUSCHEL_MIN_COLUMN];
+        final float[] B8_veg_dicht = columns[B8_VEG_DICHT_COLUMN];
+        final float[] B8_muschel_max = columns[B8_MUSCHEL_MAX_COLUMN];
+        final float[] B16_sediment_wasser = columns[B16_SEDIMENT_WASSER_COLUMN];
+        final float[] B19_muschel = columns[B19_MUSCHEL_COLUMN];
+        final float[] BSum_schill_1 = columns[BSUM_SCHILL_1_COLUMN];
+        final float[] BSum_schill_1a = columns[BSUM_SCHILL_1A_COLUMN];
+        final float[] BSum_schill_2 = columns[BSUM_SCHILL_2_COLUMN];
+
+        final float[] nodata_ = outputs[0];
+        final float[] Wasser_ = outputs[1];
+        final float[] Schill_ = outputs[2];
+        final float[] Muschel_ = outputs[3];
+        final float[] dense2_ = outputs[4];
+        final float[] dense1_ = outputs[5];
+        final float[] Strand_ = outputs[6];
+        final float[] Sand_ = outputs[7];
+        final float[] Misch_ = outputs[8];
+        final float[] Misch2_ = outputs[9];
+        final float[] Schlick_ = outputs[10];
+        final float[] schlick_t_ = outputs[11];
+        final float[] Wasser2_ = outputs[12];
+        final float[] bsum_ = outputs[13];
+
+        for (int j = 0; j < n; j++) {
+            final float _t0 = 1.0f;
+            float _t1 = min(_t0, B4_nodata[j]);
+            nodata_[o + j] = max(0.0f, _t1);
+            _t1 = min(_t0, 1.0f - _t1);
+            float _t2 = min(_t1, max(min(B8_veg[j], B1_veg[j]), B8_veg_wasser[j]));
+            float _t3 = min(_t2, B5_wasser[j]);
+            Wasser_[o + j] = max(0.0f, _t3);
+            _t3 = min(_t2, 1.0f - _t3);
+            float _t4 = min(_t3, max(min(B19_muschel[j], min(min(B8_muschel_min[j], B8_muschel_max[j]), B7_muschel[j])), max(min(B8_muschel_min[j], BSum_schill_1[j]), min(B8_muschel_schill[j], BSum_schill_2[j]))));
+            float _t5 = min(_t4, BSum_schill_1a[j]);
+            Schill_[o + j] = max(0.0f, _t5);
+            _t5 = min(_t4, 1.0f - _t5);
+            Muschel_[o + j] = max(0.0f, _t5);
+            _t4 = min(_t3, 1.0f - _t4);
+            float _t6 = min(_t4, B8_veg_dicht[j]);
+            dense2_[o + j] = max(0.0f, _t6);
+            _t6 = min(_t4, 1.0f - _t6);
+            dense1_[o + j] = max(0.0f, _t6);
+            _t2 = min(_t1, 1.0f - _t2);
+            float _t7 = min(_t2, B1_strand[j]);
+            Strand_[o + j] = max(0.0f, _t7);
+            _t7 = min(_t2, 1.0f - _t7);
+            float _t8 = min(_t7, B3_sand[j]);
+            Sand_[o + j] = max(0.0f, _t8);
+            _t8 = min(_t7, 1.0f - _t8);
+            float _t9 = min(_t8, min(B3_sand2[j], B8_sediment_wasser[j]));
+            Misch_[o + j] = max(0.0f, _t9);
+            _t9 = min(_t8, 1.0f - _t9);
+            float _t10 = min(_t9, min(B3_misch[j], B8_sediment_wasser[j]));
+            Misch2_[o + j] = max(0.0f, _t10);
+            _t10 = min(_t9, 1.0f - _t10);
+            float _t11 = min(_t10, min(B3_schlick[j], min(B2_schlick[j], B8_sediment_wasser[j])));
+            Schlick_[o + j] = max(0.0f, _t11);
+            _t11 = min(_t10, 1.0f - _t11);
+            float _t12 = min(_t11, min(B16_sediment_wasser[j], B8_sediment_wasser[j]));
+            schlick_t_[o + j] = max(0.0f, _t12);
+            _t12 = min(_t11, 1.0f - _t12);
+            Wasser2_[o + j] = max(0.0f, _t12);
+            bsum_[o + j] = bsum[j];
+        }
+    }
+
+    // Running maximum over the class columns, one column after the other. The strict comparison keeps the
+    // first class of equal memberships, NaN memberships are never taken.
+    static void argMax(float[][] outputs, int numClasses, int[] classIndexes, float[] maxValues, int o, int n) {
+        for (int j = 0; j < n; j++) {
+            maxValues[o + j] = 0.0f;
+            classIndexes[o + j] = -1;
+        }
+        for (int i = 0; i < numClasses; i++) {
+            final float[] output = outputs[i];
+            for (int j = 0; j < n; j++) {
+                final float v = output[o + j];
+                final boolean larger = v > maxValues[o + j];
+                maxValues[o + j] = larger ? v : maxValues[o + j];
+                classIndexes[o + j] = larger ? i : classIndexes[o + j];
+            }
+        }
+    }
+
+    // lt(x0, dx)
+    static void lt(double[] x, int o, double x0, double dx, double[] m, int n) {
+        final double x1 = x0 - dx;
+        final double x2 = x0 + dx;
+        final double s = 1.0 / (x2 - x1);
+        for (int j = 0; j < n; j++) {
+            final double v = x[o + j];
+            m[j] = v <= x1 ? 1.0 : v <= x2 ? 1.0 - (v - x1) * s : 0.0;
+        }
+    }
+
+    // lt(x0, dx)
+    static void lt(float[] x, int o, float x0, float dx, float[] m, int n) {
+        final float x1 = x0 - dx;
+        final float x2 = x0 + dx;
+        final float s = 1.0f / (x2 - x1);
+        for (int j = 0; j < n; j++) {
+            final float v = x[o + j];
+            m[j] = v <= x1 ? 1.0f : v <= x2 ? 1.0f - (v - x1) * s : 0.0f;
+        }
+    }
+
+    // gt(x0, dx)
+    static void gt(double[] x, int o, double x0, double dx, double[] m, int n) {
+        final double x1 = x0 - dx;
+        final double x2 = x0 + dx;
+        final double s = 1.0 / (x2 - x1);
+        for (int j = 0; j < n; j++) {
+            final double v = x[o + j];
+            m[j] = v <= x1 ? 0.0 : v <= x2 ? (v - x1) * s : 1.0;
+        }
+    }
+
+    // gt(x0, dx)
+    static void gt(float[] x, int o, float x0, float dx, float[] m, int n) {
+        final float x1 = x0 - dx;
+        final float x2 = x0 + dx;
+        final float s = 1.0f / (x2 - x1);
+        for (int j = 0; j < n; j++) {
+            final float v = x[o + j];
+            m[j] = v <= x1 ? 0.0f : v <= x2 ? (v - x1) * s : 1.0f;
+        }
+    }
+
+    // eq(x0)
+    static void eq(double[] x, int o, double x0, double[] m, int n) {
+        for (int j = 0; j < n; j++) {
+            m[j] = x[o + j] == x0 ? 1.0 : 0.0;
+        }
+    }
+
+    // eq(x0)
+    static void eq(float[] x, int o, float x0, float[] m, int n) {
+        for (int j = 0; j < n; j++) {
+            m[j] = x[o + j] == x0 ? 1.0f : 0.0f;
+        }
+    }
+}
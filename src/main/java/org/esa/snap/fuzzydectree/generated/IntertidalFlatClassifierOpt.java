@@ -3,48 +3,54 @@ package org.esa.snap.fuzzydectree.generated;
 import static java.lang.Math.*;
 //import com.bc.dectree.DecTreeFunction;
 
-// Generated by com.bc.dectree.impl.DecTreeCodeGen on Mon Apr 09 18:10:03 CEST 2018
+// Derived from the output of com.bc.dectree.impl.DecTreeCodeGen of Mon Apr 09 18:10:03 CEST 2018 and maintained by
+// hand since: ramp constants are folded and repeated predicates are shared, which the generator does not do. Do not
+// regenerate this class, IntertidalFlatClassifierFoldingTest checks it against the generator output.
 //public class IntertidalFlatClassifierOpt implements DecTreeFunction {
 public class IntertidalFlatClassifierOpt {
 
+    private static final String[] INPUT_NAMES = {
+            /*0*/ "b1",
+            /*1*/ "b2",
+            /*2*/ "b3",
+            /*3*/ "b4",
+            /*4*/ "b5",
+            /*5*/ "b7",
+            /*6*/ "b8",
+            /*7*/ "b12",
+            /*8*/ "b13",
+            /*9*/ "b14",
+            /*10*/ "b15",
+            /*11*/ "b16",
+            /*12*/ "b19",
+    };
+
+    private static final String[] OUTPUT_NAMES = {
+            /*0*/ "nodata",
+            /*1*/ "Wasser",
+            /*2*/ "Schill",
+            /*3*/ "Muschel",
+            /*4*/ "dense2",
+            /*5*/ "dense1",
+            /*6*/ "Strand",
+            /*7*/ "Sand",
+            /*8*/ "Misch",
+            /*9*/ "Misch2",
+            /*10*/ "Schlick",
+            /*11*/ "schlick_t",
+            /*12*/ "Wasser2",
+            /*13*/ "bsum",
+    };
+
     public final int getInputSize() { return 13; }
     public final int getOutputSize() { return 14; }
 
     public final String[] getInputNames() {
-        return new String[] {
-                /*0*/ "b1",
-                /*1*/ "b2",
-                /*2*/ "b3",
-                /*3*/ "b4",
-                /*4*/ "b5",
-                /*5*/ "b7",
-                /*6*/ "b8",
-                /*7*/ "b12",
-                /*8*/ "b13",
-                /*9*/ "b14",
-                /*10*/ "b15",
-                /*11*/ "b16",
-                /*12*/ "b19",
-        };
+        return INPUT_NAMES.clone();
     }
 
     public final String[] getOutputNames() {
-        return new String[] {
-                /*0*/ "nodata",
-                /*1*/ "Wasser",
-                /*2*/ "Schill",
-                /*3*/ "Muschel",
-                /*4*/ "dense2",
-                /*5*/ "dense1",
-                /*6*/ "Strand",
-                /*7*/ "Sand",
-                /*8*/ "Misch",
-                /*9*/ "Misch2",
-                /*10*/ "Schlick",
-                /*11*/ "schlick_t",
-                /*12*/ "Wasser2",
-                /*13*/ "bsum",
-        };
+        return OUTPUT_NAMES.clone();
     }
 
     public final void apply(double[] inputs, double[] outputs) {
@@ -81,6 +87,9 @@ public class IntertidalFlatClassifierOpt {
         double schlick_t = 0.0;
         double Wasser2 = 0.0;
 
+        final double _B8_GT_04 = B8_GT_04(b8);
+        final double _B8_GT_0 = B8_GT_0(b8);
+
         final double _t0 = 1.0;
         // if b4 is NODATA:
         double _t1 = min(_t0, B4_NODATA(b4));
@@ -95,7 +104,7 @@ public class IntertidalFlatClassifierOpt {
         Wasser = max(Wasser, _t3);
         //     else if (b19 is GT_015 and (b8 is GT_04 and b8 is LT_085) and b7 is LT_05) or (b8 is GT_04 and bsum is GT_011) or (b8 is GT_035 and bsum is GT_016):
         _t3 = min(_t2, 1.0 - _t3);
-        double _t4 = min(_t3, max(min(B19_GT_015(b19), min(min(B8_GT_04(b8), B8_LT_085(b8)), B7_LT_05(b7))), max(min(B8_GT_04(b8), BSum_GT_011(bsum)), min(B8_GT_035(b8), BSum_GT_016(bsum)))));
+        double _t4 = min(_t3, max(min(B19_GT_015(b19), min(min(_B8_GT_04, B8_LT_085(b8)), B7_LT_05(b7))), max(min(_B8_GT_04, BSum_GT_011(bsum)), min(B8_GT_035(b8), BSum_GT_016(bsum)))));
         //         if bsum is GT_013:
         double _t5 = min(_t4, BSum_GT_013(bsum));
         //             Schill: true
@@ -125,22 +134,22 @@ public class IntertidalFlatClassifierOpt {
         Sand = max(Sand, _t8);
         // else if b3 is LT_01 and b8 is GT_0:
         _t8 = min(_t7, 1.0 - _t8);
-        double _t9 = min(_t8, min(B3_LT_01(b3), B8_GT_0(b8)));
+        double _t9 = min(_t8, min(B3_LT_01(b3), _B8_GT_0));
         //     Misch: true
         Misch = max(Misch, _t9);
         // else if b3 is LT_015 and b8 is GT_0:
         _t9 = min(_t8, 1.0 - _t9);
-        double _t10 = min(_t9, min(B3_LT_015(b3), B8_GT_0(b8)));
+        double _t10 = min(_t9, min(B3_LT_015(b3), _B8_GT_0));
         //     Misch2: true
         Misch2 = max(Misch2, _t10);
         // else if b3 is LT_02 and b2 is GT_0 and b8 is GT_0:
         _t10 = min(_t9, 1.0 - _t10);
-        double _t11 = min(_t10, min(B3_LT_02(b3), min(B2_GT_0(b2), B8_GT_0(b8))));
+        double _t11 = min(_t10, min(B3_LT_02(b3), min(B2_GT_0(b2), _B8_GT_0)));
         //     Schlick: true
         Schlick = max(Schlick, _t11);
         // else if b16 is GT_0 and b8 is GT_0:
         _t11 = min(_t10, 1.0 - _t11);
-        double _t12 = min(_t11, min(B16_GT_0(b16), B8_GT_0(b8)));
+        double _t12 = min(_t11, min(B16_GT_0(b16), _B8_GT_0));
         //     schlick_t: true
         schlick_t = max(schlick_t, _t12);
         // else:
@@ -176,290 +185,111 @@ public class IntertidalFlatClassifierOpt {
 
     // B1: lt(0.85)
     private static double B1_LT_085(double x) {
-        if (0.0 == 0.0)
-            return x < 0.85 ? 1.0 : 0.0;
-        final double x1 = 0.85 - 0.0;
-        final double x2 = 0.85 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.85 ? 1.0 : 0.0;
     }
 
     // B1: gt(1.0)
     private static double B1_GT_1(double x) {
-        if (0.0 == 0.0)
-            return x > 1.0 ? 1.0 : 0.0;
-        final double x1 = 1.0 - 0.0;
-        final double x2 = 1.0 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 1.0 ? 1.0 : 0.0;
     }
 
     // B2: gt(0.0)
     private static double B2_GT_0(double x) {
-        if (0.0 == 0.0)
-            return x > 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.0;
-        final double x2 = 0.0 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.0 ? 1.0 : 0.0;
     }
 
     // B3: lt(0.05)
     private static double B3_LT_005(double x) {
-        if (0.0 == 0.0)
-            return x < 0.05 ? 1.0 : 0.0;
-        final double x1 = 0.05 - 0.0;
-        final double x2 = 0.05 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.05 ? 1.0 : 0.0;
     }
 
     // B3: lt(0.1)
     private static double B3_LT_01(double x) {
-        if (0.0 == 0.0)
-            return x < 0.1 ? 1.0 : 0.0;
-        final double x1 = 0.1 - 0.0;
-        final double x2 = 0.1 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.1 ? 1.0 : 0.0;
     }
 
     // B3: lt(0.15)
     private static double B3_LT_015(double x) {
-        if (0.0 == 0.0)
-            return x < 0.15 ? 1.0 : 0.0;
-        final double x1 = 0.15 - 0.0;
-        final double x2 = 0.15 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.15 ? 1.0 : 0.0;
     }
 
     // B3: lt(0.2)
     private static double B3_LT_02(double x) {
-        if (0.0 == 0.0)
-            return x < 0.2 ? 1.0 : 0.0;
-        final double x1 = 0.2 - 0.0;
-        final double x2 = 0.2 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.2 ? 1.0 : 0.0;
     }
 
     // B4: eq(0.0)
     private static double B4_NODATA(double x) {
-        if (0.0 == 0.0)
-            return x == 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.0;
-        final double x2 = 0.0;
-        final double x3 = 0.0 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        if (x <= x3)
-            return 1.0 - (x - x2) / (x3 - x2);
-        return 0.0;
+        return x == 0.0 ? 1.0 : 0.0;
     }
 
     // B5: lt(0.1)
     private static double B5_LT_01(double x) {
-        if (0.0 == 0.0)
-            return x < 0.1 ? 1.0 : 0.0;
-        final double x1 = 0.1 - 0.0;
-        final double x2 = 0.1 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.1 ? 1.0 : 0.0;
     }
 
     // B7: lt(0.5)
     private static double B7_LT_05(double x) {
-        if (0.0 == 0.0)
-            return x < 0.5 ? 1.0 : 0.0;
-        final double x1 = 0.5 - 0.0;
-        final double x2 = 0.5 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.5 ? 1.0 : 0.0;
     }
 
     // B8: gt(0.0)
     private static double B8_GT_0(double x) {
-        if (0.0 == 0.0)
-            return x > 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.0;
-        final double x2 = 0.0 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.0 ? 1.0 : 0.0;
     }
 
     // B8: lt(0.09)
     private static double B8_LT_009(double x) {
-        if (0.0 == 0.0)
-            return x < 0.09 ? 1.0 : 0.0;
-        final double x1 = 0.09 - 0.0;
-        final double x2 = 0.09 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.09 ? 1.0 : 0.0;
     }
 
     // B8: gt(0.33)
     private static double B8_GT_033(double x) {
-        if (0.0 == 0.0)
-            return x > 0.33 ? 1.0 : 0.0;
-        final double x1 = 0.33 - 0.0;
-        final double x2 = 0.33 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.33 ? 1.0 : 0.0;
     }
 
     // B8: gt(0.35)
     private static double B8_GT_035(double x) {
-        if (0.0 == 0.0)
-            return x > 0.35 ? 1.0 : 0.0;
-        final double x1 = 0.35 - 0.0;
-        final double x2 = 0.35 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.35 ? 1.0 : 0.0;
     }
 
     // B8: gt(0.4)
     private static double B8_GT_04(double x) {
-        if (0.0 == 0.0)
-            return x > 0.4 ? 1.0 : 0.0;
-        final double x1 = 0.4 - 0.0;
-        final double x2 = 0.4 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.4 ? 1.0 : 0.0;
     }
 
     // B8: gt(0.45)
     private static double B8_GT_045(double x) {
-        if (0.0 == 0.0)
-            return x > 0.45 ? 1.0 : 0.0;
-        final double x1 = 0.45 - 0.0;
-        final double x2 = 0.45 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.45 ? 1.0 : 0.0;
     }
 
     // B8: lt(0.85)
     private static double B8_LT_085(double x) {
-        if (0.0 == 0.0)
-            return x < 0.85 ? 1.0 : 0.0;
-        final double x1 = 0.85 - 0.0;
-        final double x2 = 0.85 + 0.0;
-        if (x <= x1)
-            return 1.0;
-        if (x <= x2)
-            return 1.0 - (x - x1) / (x2 - x1);
-        return 0.0;
+        return x < 0.85 ? 1.0 : 0.0;
     }
 
     // B16: gt(0.0)
     private static double B16_GT_0(double x) {
-        if (0.0 == 0.0)
-            return x > 0.0 ? 1.0 : 0.0;
-        final double x1 = 0.0 - 0.0;
-        final double x2 = 0.0 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.0 ? 1.0 : 0.0;
     }
 
     // B19: gt(0.15)
     private static double B19_GT_015(double x) {
-        if (0.0 == 0.0)
-            return x > 0.15 ? 1.0 : 0.0;
-        final double x1 = 0.15 - 0.0;
-        final double x2 = 0.15 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.15 ? 1.0 : 0.0;
     }
 
     // BSum: gt(0.11)
     private static double BSum_GT_011(double x) {
-        if (0.0 == 0.0)
-            return x > 0.11 ? 1.0 : 0.0;
-        final double x1 = 0.11 - 0.0;
-        final double x2 = 0.11 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.11 ? 1.0 : 0.0;
     }
 
     // BSum: gt(0.13)
     private static double BSum_GT_013(double x) {
-        if (0.0 == 0.0)
-            return x > 0.13 ? 1.0 : 0.0;
-        final double x1 = 0.13 - 0.0;
-        final double x2 = 0.13 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.13 ? 1.0 : 0.0;
     }
 
     // BSum: gt(0.16)
     private static double BSum_GT_016(double x) {
-        if (0.0 == 0.0)
-            return x > 0.16 ? 1.0 : 0.0;
-        final double x1 = 0.16 - 0.0;
-        final double x2 = 0.16 + 0.0;
-        if (x <= x1)
-            return 0.0;
-        if (x <= x2)
-            return (x - x1) / (x2 - x1);
-        return 1.0;
+        return x > 0.16 ? 1.0 : 0.0;
     }
 }
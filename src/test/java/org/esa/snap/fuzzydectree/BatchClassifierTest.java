@@ -0,0 +1,71 @@
+package org.esa.snap.fuzzydectree;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BatchClassifierTest {
+
+    @Test
+    public void testFindSources() throws Exception {
+        final Path dir = Files.createTempDirectory("batch");
+        try {
+            for (String name : new String[]{"S2B_0002.dim", "S2A_0001.dim", "S2A_0001.data", "L8_0001.dim"}) {
+                Files.createFile(dir.resolve(name));
+            }
+            final List<File> sources = BatchClassifier.findSources(
+                    Arrays.asList(dir.resolve("S2*.dim").toString(), dir.resolve("L8_0001.dim").toString()));
+            assertEquals(Arrays.asList(dir.resolve("S2A_0001.dim").toFile(), dir.resolve("S2B_0002.dim").toFile(),
+                                       dir.resolve("L8_0001.dim").toFile()), sources);
+        } finally {
+            for (File file : dir.toFile().listFiles()) {
+                Files.delete(file.toPath());
+            }
+            Files.delete(dir);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testFindSourcesFailsForMissingProduct() throws Exception {
+        BatchClassifier.findSources(Arrays.asList("no_such_product.dim"));
+    }
+
+    @Test
+    public void testClassifyRejectsDuplicateTargetNames() throws Exception {
+        final Path dir = Files.createTempDirectory("batch");
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            final File first = Files.createFile(Files.createDirectory(dir.resolve("a")).resolve("S2A.dim")).toFile();
+            final File second = Files.createFile(Files.createDirectory(dir.resolve("b")).resolve("S2A.dim")).toFile();
+            final BatchClassifier classifier = new BatchClassifier(null, Collections.emptyMap(), pool,
+                                                                   ProductClassifier.DEFAULT_STRIPE_HEIGHT,
+                                                                   "BEAM-DIMAP");
+            final ByteArrayOutputStream err = new ByteArrayOutputStream();
+            // the first product fails too, since it is empty
+            final int numFailed = classifier.classify(Arrays.asList(first, second), dir.toFile(), 2,
+                                                      new PrintStream(new ByteArrayOutputStream()),
+                                                      new PrintStream(err, true));
+            assertEquals(2, numFailed);
+            assertTrue(err.toString().contains(second + ": target product would overwrite the one of " + first));
+        } finally {
+            pool.shutdown();
+            for (String subDir : new String[]{"a", "b"}) {
+                Files.delete(dir.resolve(subDir).resolve("S2A.dim"));
+                Files.delete(dir.resolve(subDir));
+            }
+            Files.delete(dir);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.esa.snap.fuzzydectree;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class CachingRowClassifierTest {
+
+    @Test
+    public void testExactCacheReturnsClassifierResults() throws Exception {
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        final CachingRowClassifier cachingClassifier = new CachingRowClassifier(classifier, 64, 0.0F);
+        final int length = 1000;
+
+        // few distinct vectors, as in homogeneous areas
+        final Random random = new Random(4711);
+        final float[][] vectors = new float[10][classifier.getInputSize()];
+        for (float[] vector : vectors) {
+            for (int i = 0; i < vector.length; i++) {
+                vector[i] = i == 0 ? Float.NaN : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+        }
+        final float[][] inputs = new float[classifier.getInputSize()][length];
+        for (int k = 0; k < length; k++) {
+            final float[] vector = vectors[random.nextInt(vectors.length)];
+            for (int i = 0; i < vector.length; i++) {
+                inputs[i][k] = vector[i];
+            }
+        }
+
+        final float[][] expected = new float[classifier.getOutputSize()][length];
+        final float[][] actual = new float[classifier.getOutputSize()][length];
+        classifier.apply(inputs, expected, 0, length);
+        cachingClassifier.apply(inputs, actual, 0, length / 2);
+        cachingClassifier.apply(inputs, actual, length / 2, length - length / 2);
+
+        for (int j = 0; j < expected.length; j++) {
+            for (int k = 0; k < length; k++) {
+                assertEquals("output " + j + ", pixel " + k, expected[j][k], actual[j][k], 0.0);
+            }
+        }
+        assertEquals(length - vectors.length, cachingClassifier.getHitCount());
+        assertEquals(vectors.length, cachingClassifier.getMissCount());
+    }
+
+    @Test
+    public void testQuantizedCacheClassifiesRoundedInputs() throws Exception {
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        final CachingRowClassifier cachingClassifier = new CachingRowClassifier(classifier, 1, 0.01F);
+        final int length = 300;
+
+        final Random random = new Random(4711);
+        final float[][] inputs = new float[classifier.getInputSize()][length];
+        final float[][] roundedInputs = new float[classifier.getInputSize()][length];
+        for (int i = 0; i < inputs.length; i++) {
+            for (int k = 0; k < length; k++) {
+                inputs[i][k] = (float) (random.nextDouble() * 1.2 - 0.1);
+                roundedInputs[i][k] = Math.round(inputs[i][k] / 0.01F) * 0.01F;
+            }
+        }
+        inputs[0][7] = Float.NaN;
+        roundedInputs[0][7] = Float.NaN;
+
+        final float[][] expected = new float[classifier.getOutputSize()][length];
+        final float[][] actual = new float[classifier.getOutputSize()][length];
+        classifier.apply(roundedInputs, expected, 0, length);
+        cachingClassifier.apply(inputs, actual, 0, length);
+
+        for (int j = 0; j < expected.length; j++) {
+            for (int k = 0; k < length; k++) {
+                assertEquals("output " + j + ", pixel " + k, expected[j][k], actual[j][k], 0.0);
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.esa.snap.fuzzydectree;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.PrintStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ClassifierCliTest {
+
+    @Test
+    public void testParseParameter() throws Exception {
+        final IntertidalFlatClassifierOp intertidalOp = new IntertidalFlatClassifierOp();
+        assertEquals("class", ClassifierCli.parseParameter(intertidalOp, "outputMode", "class"));
+        assertEquals(5, ClassifierCli.parseParameter(intertidalOp, "topK", "5"));
+        assertEquals(0.5F, ClassifierCli.parseParameter(intertidalOp, "decisionCacheQuantizationStep", "0.5"));
+        assertEquals(true, ClassifierCli.parseParameter(intertidalOp, "skipInvalidPixels", "true"));
+        assertEquals(true, ClassifierCli.parseParameter(intertidalOp, "shortCircuit", "true"));
+        // declared by the operator, not by the base class
+        assertEquals(64, ClassifierCli.parseParameter(intertidalOp, "lookupTableSize", "64"));
+
+        final GenericClassifierOp genericOp = new GenericClassifierOp();
+        assertEquals(new File("tree.yml"), ClassifierCli.parseParameter(genericOp, "yamlFile", "tree.yml"));
+        final String[] bandMapping = (String[]) ClassifierCli.parseParameter(genericOp, "bandMapping",
+                                                                              "b1=sand,b2=mud");
+        assertEquals(2, bandMapping.length);
+        assertEquals("b1=sand", bandMapping[0]);
+        assertEquals("b2=mud", bandMapping[1]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseParameterFailsForUnknownName() throws Exception {
+        ClassifierCli.parseParameter(new IntertidalFlatClassifierOp(), "noSuchParameter", "1");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseParameterFailsForInvalidNumber() throws Exception {
+        ClassifierCli.parseParameter(new IntertidalFlatClassifierOp(), "topK", "three");
+    }
+
+    @Test
+    public void testRunFailsForInvalidArguments() throws Exception {
+        assertUsageError("Source product and target file are required.", "source.dim");
+        assertUsageError("Unknown option '-x'.", "-x", "source.dim", "target.dim");
+        assertUsageError("Missing value of option '-threads'.", "source.dim", "target.dim", "-threads");
+        assertUsageError("Threads, stripe height and products must be positive.",
+                         "-stripe", "0", "source.dim", "target.dim");
+        assertUsageError("Unexpected argument 'other.dim'.", "source.dim", "target.dim", "other.dim");
+        assertUsageError("Source products are required.", "-batch", "out");
+        assertUsageError("Option -batch must precede the source products and cannot be combined with -points.",
+                         "-points", "-batch", "out", "source.csv");
+    }
+
+    private static void assertUsageError(String message, String... args) {
+        final ByteArrayOutputStream err = new ByteArrayOutputStream();
+        final int exitCode = ClassifierCli.run(args, new PrintStream(new ByteArrayOutputStream()),
+                                               new PrintStream(err, true));
+        assertEquals(1, exitCode);
+        assertTrue(err.toString(), err.toString().startsWith("Error: " + message));
+        assertTrue(err.toString(), err.toString().contains(ClassifierCli.USAGE));
+    }
+}
@@ -0,0 +1,50 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeFunction;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+
+public class DecTreeCompilerTest {
+
+    private static final String CLASS_NAME = DecTreeCompiler.PACKAGE_NAME + ".Sum";
+
+    private static final String SOURCE = "package " + DecTreeCompiler.PACKAGE_NAME + ";\n" +
+            "public class Sum implements com.bc.dectree.DecTreeFunction {\n" +
+            "    public int getInputSize() { return 2; }\n" +
+            "    public int getOutputSize() { return 1; }\n" +
+            "    public String[] getInputNames() { return new String[]{\"a\", \"b\"}; }\n" +
+            "    public String[] getOutputNames() { return new String[]{\"sum\"}; }\n" +
+            "    public void apply(double[] inputs, double[] outputs) { outputs[0] = inputs[0] + inputs[1]; }\n" +
+            "}\n";
+
+    @Test
+    public void testCompile() throws Exception {
+        final DecTreeFunction function = DecTreeCompiler.compile(CLASS_NAME, SOURCE);
+
+        assertNotNull(function);
+        assertEquals(2, function.getInputSize());
+        assertArrayEquals(new String[]{"sum"}, function.getOutputNames());
+        final double[] outputs = new double[1];
+        function.apply(new double[]{0.25, 0.5}, outputs);
+        assertEquals(0.75, outputs[0], 0.0);
+    }
+
+    @Test
+    public void testCompileLoadsEachTreeWithItsOwnClassLoader() throws Exception {
+        final DecTreeFunction function1 = DecTreeCompiler.compile(CLASS_NAME, SOURCE);
+        final DecTreeFunction function2 = DecTreeCompiler.compile(CLASS_NAME, SOURCE);
+
+        assertNotSame(function1.getClass(), function2.getClass());
+        assertNotSame(DecTreeFunction.class.getClassLoader(), function1.getClass().getClassLoader());
+    }
+
+    @Test
+    public void testCompileReturnsNullForInvalidSource() throws Exception {
+        assertNull(DecTreeCompiler.compile(CLASS_NAME, SOURCE.replace("inputs[1]", "inputs[1")));
+    }
+}
@@ -0,0 +1,130 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.dectree.DecTreeFunction;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class DecTreeFunctionCacheTest {
+
+    private Path dir;
+    private List<byte[]> loaded;
+    private DecTreeFunctionCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        dir = Files.createTempDirectory("dectree");
+        loaded = new ArrayList<>();
+        cache = new DecTreeFunctionCache(2, (name, content) -> {
+            loaded.add(content);
+            return new TestFunction();
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        for (File file : dir.toFile().listFiles()) {
+            Files.delete(file.toPath());
+        }
+        Files.delete(dir);
+    }
+
+    @Test
+    public void testHash() throws Exception {
+        final String hash = DecTreeFunctionCache.hash("rules:\n".getBytes(StandardCharsets.UTF_8));
+        assertEquals(64, hash.length());
+        assertEquals(hash, DecTreeFunctionCache.hash("rules:\n".getBytes(StandardCharsets.UTF_8)));
+        assertFalse(hash.equals(DecTreeFunctionCache.hash("rules: \n".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    public void testGetReusesFunctionOfUnchangedFile() throws Exception {
+        final File file = write("a.yml", "rules:\n");
+
+        final DecTreeFunction function = cache.get(file);
+
+        assertSame(function, cache.get(file));
+        // the same content in another file is the same tree
+        assertSame(function, cache.get(write("b.yml", "rules:\n")));
+        assertEquals(1, loaded.size());
+    }
+
+    @Test
+    public void testGetReloadsEditedFile() throws Exception {
+        final File file = write("a.yml", "rules:\n");
+        final DecTreeFunction function = cache.get(file);
+
+        write("a.yml", "rules: \n");
+
+        assertNotSame(function, cache.get(file));
+        assertEquals(2, loaded.size());
+    }
+
+    @Test
+    public void testGetLoadsHashedContent() throws Exception {
+        cache.get(write("a.yml", "rules:\n"));
+
+        assertArrayEquals("rules:\n".getBytes(StandardCharsets.UTF_8), loaded.get(0));
+    }
+
+    @Test
+    public void testGetEvictsLeastRecentlyUsedFunction() throws Exception {
+        final File a = write("a.yml", "a:\n");
+        final File b = write("b.yml", "b:\n");
+        final File c = write("c.yml", "c:\n");
+        final DecTreeFunction functionA = cache.get(a);
+        final DecTreeFunction functionB = cache.get(b);
+        cache.get(a);
+
+        cache.get(c);
+
+        assertSame(functionA, cache.get(a));
+        assertEquals(3, loaded.size());
+        assertNotSame(functionB, cache.get(b));
+        assertEquals(4, loaded.size());
+    }
+
+    private File write(String name, String content) throws Exception {
+        return Files.write(dir.resolve(name), content.getBytes(StandardCharsets.UTF_8)).toFile();
+    }
+
+    private static class TestFunction implements DecTreeFunction {
+
+        @Override
+        public int getInputSize() {
+            return 0;
+        }
+
+        @Override
+        public int getOutputSize() {
+            return 0;
+        }
+
+        @Override
+        public String[] getInputNames() {
+            return new String[0];
+        }
+
+        @Override
+        public String[] getOutputNames() {
+            return new String[0];
+        }
+
+        @Override
+        public void apply(double[] inputs, double[] outputs) {
+        }
+    }
+}
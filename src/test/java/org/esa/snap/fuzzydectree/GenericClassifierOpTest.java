@@ -0,0 +1,111 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.gpf.OperatorException;
+import org.junit.Test;
+
+import java.io.File;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class GenericClassifierOpTest {
+
+    @Test
+    public void testInitializeFailsForMissingDecisionTree() throws Exception {
+        final GenericClassifierOp op = new GenericClassifierOp();
+        op.setSourceProduct(new Product("source", "test", 4, 2));
+        op.setParameter("yamlFile", new File("no_such_tree.yml"));
+        try {
+            op.getTargetProduct();
+            fail("OperatorException expected");
+        } catch (OperatorException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Decision tree could not be loaded"));
+        }
+    }
+
+    @Test
+    public void testBindSourceBandsByMapping() throws Exception {
+        final Product product = createProduct("b1", "sand", "other");
+
+        final Band[] bands = GenericClassifierOp.bindSourceBands(product, new String[]{"b1", "x"},
+                                                                 new String[]{"b1 = other", "x=sand"});
+
+        assertArrayEquals(new Band[]{product.getBand("other"), product.getBand("sand")}, bands);
+    }
+
+    @Test
+    public void testBindSourceBandsByName() throws Exception {
+        final Product product = createProduct("ndvi", "b8", "flh");
+
+        final Band[] bands = GenericClassifierOp.bindSourceBands(product, new String[]{"b8", "flh"}, null);
+
+        assertArrayEquals(new Band[]{product.getBand("b8"), product.getBand("flh")}, bands);
+    }
+
+    @Test
+    public void testBindSourceBandsByAlias() throws Exception {
+        final Product product = createProduct("flh", "ndvi");
+
+        final Band[] bands = GenericClassifierOp.bindSourceBands(product, new String[]{"b8", "b7"}, null);
+
+        assertArrayEquals(new Band[]{product.getBand("ndvi"), product.getBand("flh")}, bands);
+    }
+
+    @Test
+    public void testBindSourceBandsByPosition() throws Exception {
+        final Product product = createProduct("first", "second", "third");
+
+        final Band[] bands = GenericClassifierOp.bindSourceBands(product, new String[]{"b3", "b1"}, null);
+
+        assertArrayEquals(new Band[]{product.getBand("third"), product.getBand("first")}, bands);
+    }
+
+    @Test
+    public void testBindSourceBandsFailsForConflictingMapping() throws Exception {
+        final Product product = createProduct("first", "second");
+
+        assertBindFails("Decision tree input 'b1' is mapped more than once.", product, new String[]{"b1"},
+                        "b1=first", "b1=second");
+        assertBindFails("Band mapping 'b2=second' names no decision tree input.", product, new String[]{"b1"},
+                        "b2=second");
+        assertBindFails("Invalid band mapping 'b1', expected 'input=band'.", product, new String[]{"b1"}, "b1");
+    }
+
+    @Test
+    public void testBindSourceBandsFailsForMissingBand() throws Exception {
+        final Product product = createProduct("first", "second");
+
+        assertBindFails("Source band 'third' mapped to input 'b1' not found.", product, new String[]{"b1"},
+                        "b1=third");
+        assertBindFails("No source band found for decision tree input 'b3'.", product, new String[]{"b3"});
+        assertBindFails("No source band found for decision tree input 'ndvi'.", product, new String[]{"ndvi"});
+    }
+
+    private static void assertBindFails(String message, Product product, String[] inputNames,
+                                        String... bandMapping) {
+        try {
+            GenericClassifierOp.bindSourceBands(product, inputNames, bandMapping);
+            fail("OperatorException expected");
+        } catch (OperatorException e) {
+            assertEquals(message, e.getMessage());
+        }
+    }
+
+    private static Product createProduct(String... bandNames) {
+        final Product product = mock(Product.class);
+        when(product.getNumBands()).thenReturn(bandNames.length);
+        for (int i = 0; i < bandNames.length; i++) {
+            final Band band = mock(Band.class);
+            when(product.getBand(bandNames[i])).thenReturn(band);
+            when(product.containsBand(bandNames[i])).thenReturn(true);
+            when(product.getBandAt(i)).thenReturn(band);
+        }
+        return product;
+    }
+}
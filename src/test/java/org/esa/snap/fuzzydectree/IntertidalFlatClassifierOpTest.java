@@ -1,11 +1,162 @@
 package org.esa.snap.fuzzydectree;
 
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductData;
+import org.junit.Before;
 import org.junit.Test;
 
+import java.awt.image.Raster;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
 public class IntertidalFlatClassifierOpTest {
 
+    private static final int WIDTH = 16;
+    private static final int HEIGHT = 8;
+
+    private Product sourceProduct;
+    private float[][] outputs;
+    private float[] fuzzyMaxVal;
+    private int[] finalClass;
+
+    @Before
+    public void setUp() throws Exception {
+        sourceProduct = new Product("test", "TEST", WIDTH, HEIGHT);
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        final float[][] inputs = new float[classifier.getInputSize()][WIDTH * HEIGHT];
+        final Random random = new Random(4711);
+        for (int i = 0; i < inputs.length; i++) {
+            for (int k = 0; k < inputs[i].length; k++) {
+                inputs[i][k] = random.nextInt(10) == 0 ? 0.0F : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+            final Band band = sourceProduct.addBand(IntertidalFlatClassifierConstants.INPUT_NAMES[i][1],
+                                                    ProductData.TYPE_FLOAT32);
+            band.setRasterData(ProductData.createInstance(inputs[i].clone()));
+        }
+
+        // the expected results, the whole scene classified as a single row
+        outputs = new float[classifier.getOutputSize()][WIDTH * HEIGHT];
+        fuzzyMaxVal = new float[WIDTH * HEIGHT];
+        finalClass = new int[WIDTH * HEIGHT];
+        classifier.applyAndClassify(inputs, outputs, finalClass, fuzzyMaxVal, 0, WIDTH * HEIGHT);
+        for (int k = 0; k < finalClass.length; k++) {
+            finalClass[k] = finalClass[k] >= 0 ? IntertidalFlatClassifierConstants.CLASSIF_CLASS[finalClass[k]] : -1;
+        }
+    }
+
+    @Test
+    public void testOutputModeAll() throws Exception {
+        final Product targetProduct = createTargetProduct(GenericClassifierConstants.OUTPUT_MODE_ALL, "float32");
+        final String[] outputNames = new IntertidalRowClassifier().getOutputNames();
+
+        final String[] expectedBandNames = Arrays.copyOf(outputNames, outputNames.length + 2);
+        expectedBandNames[outputNames.length] = GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME;
+        expectedBandNames[outputNames.length + 1] = GenericClassifierConstants.FINAL_CLASS_BAND_NAME;
+        assertArrayEquals(expectedBandNames, targetProduct.getBandNames());
+        for (int i = 0; i < outputNames.length; i++) {
+            assertSamplesEqual(outputs[i], getBand(targetProduct, outputNames[i]), 0.0F);
+        }
+        assertSamplesEqual(fuzzyMaxVal, getBand(targetProduct, GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME),
+                           0.0F);
+        assertClassesEqual(finalClass, getBand(targetProduct, GenericClassifierConstants.FINAL_CLASS_BAND_NAME));
+    }
+
+    @Test
+    public void testOutputModeClassAndMaxValue() throws Exception {
+        final Product targetProduct = createTargetProduct(GenericClassifierConstants.OUTPUT_MODE_CLASS_AND_MAX_VALUE,
+                                                          "float32");
+
+        assertArrayEquals(new String[]{GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME,
+                GenericClassifierConstants.FINAL_CLASS_BAND_NAME}, targetProduct.getBandNames());
+        assertSamplesEqual(fuzzyMaxVal, getBand(targetProduct, GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME),
+                           0.0F);
+        assertClassesEqual(finalClass, getBand(targetProduct, GenericClassifierConstants.FINAL_CLASS_BAND_NAME));
+    }
+
+    @Test
+    public void testOutputModeClass() throws Exception {
+        final Product targetProduct = createTargetProduct(GenericClassifierConstants.OUTPUT_MODE_CLASS, "float32");
+
+        assertArrayEquals(new String[]{GenericClassifierConstants.FINAL_CLASS_BAND_NAME},
+                          targetProduct.getBandNames());
+        assertClassesEqual(finalClass, getBand(targetProduct, GenericClassifierConstants.FINAL_CLASS_BAND_NAME));
+    }
+
+    @Test
+    public void testOutputModeTopK() throws Exception {
+        final Product targetProduct = createTargetProduct(GenericClassifierConstants.OUTPUT_MODE_TOP_K, "float32");
+
+        assertArrayEquals(new String[]{"class_1", "class_2", "class_3", "membership_1", "membership_2",
+                "membership_3"}, targetProduct.getBandNames());
+        // the first class is the final class
+        assertClassesEqual(finalClass, getBand(targetProduct, "class_1"));
+        assertSamplesEqual(fuzzyMaxVal, getBand(targetProduct, "membership_1"), 0.0F);
+        final Raster class2 = getBand(targetProduct, "class_2").getSourceImage().getData();
+        final Raster membership2 = getBand(targetProduct, "membership_2").getSourceImage().getData();
+        final Raster membership3 = getBand(targetProduct, "membership_3").getSourceImage().getData();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                final int k = y * WIDTH + x;
+                assertTrue(membership2.getSampleFloat(x, y, 0) <= fuzzyMaxVal[k]);
+                assertTrue(membership3.getSampleFloat(x, y, 0) <= membership2.getSampleFloat(x, y, 0));
+                if (membership2.getSampleFloat(x, y, 0) > 0.0F) {
+                    assertTrue((byte) class2.getSample(x, y, 0) != finalClass[k]);
+                } else {
+                    assertEquals(-1, (byte) class2.getSample(x, y, 0));
+                }
+            }
+        }
+    }
+
     @Test
-    public void testFuzzyDecisionTreeOp() throws Exception {
-        // todo
+    public void testMembershipEncodingUint8() throws Exception {
+        final Product targetProduct = createTargetProduct(GenericClassifierConstants.OUTPUT_MODE_CLASS_AND_MAX_VALUE,
+                                                          "uint8");
+
+        final Band fuzzyMaxValBand = getBand(targetProduct, GenericClassifierConstants.FUZZY_MAX_VAL_BAND_NAME);
+        assertEquals(ProductData.TYPE_UINT8, fuzzyMaxValBand.getDataType());
+        // rounded to the nearest step of 1/255
+        assertSamplesEqual(fuzzyMaxVal, fuzzyMaxValBand, 0.5F / 255 + 1e-6F);
+        assertClassesEqual(finalClass, getBand(targetProduct, GenericClassifierConstants.FINAL_CLASS_BAND_NAME));
+    }
+
+    private Product createTargetProduct(String outputMode, String membershipEncoding) {
+        final IntertidalFlatClassifierOp operator = new IntertidalFlatClassifierOp();
+        operator.setParameter("outputMode", outputMode);
+        operator.setParameter("membershipEncoding", membershipEncoding);
+        operator.setSourceProduct(sourceProduct);
+        return operator.getTargetProduct();
+    }
+
+    private static Band getBand(Product product, String name) {
+        final Band band = product.getBand(name);
+        assertNotNull(name, band);
+        return band;
+    }
+
+    private static void assertSamplesEqual(float[] expected, Band band, float delta) {
+        final Raster actual = band.getGeophysicalImage().getData();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals(band.getName() + " at " + x + "," + y, expected[y * WIDTH + x],
+                             actual.getSampleFloat(x, y, 0), delta);
+            }
+        }
+    }
+
+    private static void assertClassesEqual(int[] expected, Band band) {
+        final Raster actual = band.getSourceImage().getData();
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                assertEquals(band.getName() + " at " + x + "," + y, expected[y * WIDTH + x],
+                             (byte) actual.getSample(x, y, 0));
+            }
+        }
     }
 }
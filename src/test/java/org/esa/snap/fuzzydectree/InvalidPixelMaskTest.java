@@ -0,0 +1,110 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.gpf.Tile;
+import org.junit.Test;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.DataBuffer;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.when;
+
+public class InvalidPixelMaskTest {
+
+    // 8 x 3 pixels at (10, 20): a valid, a mixed and an invalid scanline
+    private static final Rectangle RECTANGLE = new Rectangle(10, 20, 8, 3);
+    private static final byte[] MASK_DATA = {
+            0, 0, 0, 0, 0, 0, 0, 0,
+            0, 1, 1, 0, 0, 0, 1, 0,
+            1, 1, 1, 1, 1, 1, 1, 1
+    };
+
+    @Test
+    public void testReadRow() throws Exception {
+        final InvalidPixelMask mask = new InvalidPixelMask(TestTiles.createTile(RECTANGLE, MASK_DATA));
+        final boolean[] invalid = new boolean[5];
+
+        assertEquals(0, mask.readRow(20, 10, 5, invalid));
+        assertArrayEquals(new boolean[]{false, false, false, false, false}, invalid);
+        // the count is the one of the whole scanline
+        assertEquals(3, mask.readRow(21, 11, 5, invalid));
+        assertArrayEquals(new boolean[]{true, true, false, false, false}, invalid);
+        assertEquals(3, mask.readRow(21, 13, 5, invalid));
+        assertArrayEquals(new boolean[]{false, false, false, true, false}, invalid);
+        assertEquals(8, mask.readRow(22, 12, 5, invalid));
+        assertArrayEquals(new boolean[]{true, true, true, true, true}, invalid);
+    }
+
+    @Test
+    public void testReadRowWithoutDataBuffer() throws Exception {
+        final Tile tile = TestTiles.createTile(RECTANGLE, (byte[]) null);
+        when(tile.getSampleInt(anyInt(), anyInt())).thenAnswer(invocation -> {
+            final Object[] args = invocation.getArguments();
+            final int x = (Integer) args[0];
+            final int y = (Integer) args[1];
+            return (int) MASK_DATA[(y - RECTANGLE.y) * RECTANGLE.width + x - RECTANGLE.x];
+        });
+        final InvalidPixelMask mask = new InvalidPixelMask(tile);
+        final boolean[] invalid = new boolean[5];
+
+        assertEquals(3, mask.readRow(21, 11, 5, invalid));
+        assertArrayEquals(new boolean[]{true, true, false, false, false}, invalid);
+        assertFalse(mask.isAllInvalid());
+    }
+
+    @Test
+    public void testIsAllInvalid() throws Exception {
+        assertFalse(new InvalidPixelMask(TestTiles.createTile(RECTANGLE, MASK_DATA)).isAllInvalid());
+
+        final byte[] allInvalid = new byte[MASK_DATA.length];
+        Arrays.fill(allInvalid, (byte) 1);
+        assertTrue(new InvalidPixelMask(TestTiles.createTile(RECTANGLE, allInvalid)).isAllInvalid());
+        allInvalid[allInvalid.length - 1] = 0;
+        assertFalse(new InvalidPixelMask(TestTiles.createTile(RECTANGLE, allInvalid)).isAllInvalid());
+    }
+
+    @Test
+    public void testFillWritesInvalidOutputs() throws Exception {
+        // the operator fills tiles which are all invalid instead of classifying them
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        final float[] invalidOutputs = classifier.createInvalidOutputs();
+        final TileStackClassifier tileStackClassifier =
+                new TileStackClassifier(classifier, IntertidalFlatClassifierConstants.CLASSIF_CLASS, invalidOutputs);
+        final int numPixels = RECTANGLE.width * RECTANGLE.height;
+        final float[][] outputs = new float[invalidOutputs.length][numPixels];
+        final float[] fuzzyMaxVal = new float[numPixels];
+        final byte[] finalClass = new byte[numPixels];
+
+        tileStackClassifier.fill(TestTiles.createTargetRows(RECTANGLE, outputs, fuzzyMaxVal, finalClass), RECTANGLE);
+
+        for (int k = 0; k < numPixels; k++) {
+            for (int i = 0; i < invalidOutputs.length; i++) {
+                assertEquals(invalidOutputs[i], outputs[i][k], 0.0F);
+            }
+            assertEquals(1.0F, fuzzyMaxVal[k], 0.0F);
+            assertEquals(IntertidalFlatClassifierConstants.CLASSIF_CLASS[0], finalClass[k]);
+        }
+    }
+
+    @Test
+    public void testIsAllInvalidWithinRectangle() throws Exception {
+        final WritableRaster maskTile = Raster.createBandedRaster(DataBuffer.TYPE_BYTE, 100, 50, 1,
+                                                                  new Point(100, 50));
+        for (int y = 50; y < 100; y++) {
+            for (int x = 100; x < 200; x++) {
+                maskTile.setSample(x, y, 0, x < 150 ? 255 : 0);
+            }
+        }
+        assertTrue(InvalidPixelMask.isAllInvalid(maskTile, new Rectangle(0, 0, 150, 100)));
+        assertFalse(InvalidPixelMask.isAllInvalid(maskTile, new Rectangle(0, 0, 151, 100)));
+        assertFalse(InvalidPixelMask.isAllInvalid(maskTile, new Rectangle(100, 50, 100, 50)));
+    }
+}
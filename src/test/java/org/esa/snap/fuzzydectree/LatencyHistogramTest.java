@@ -0,0 +1,33 @@
+package org.esa.snap.fuzzydectree;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketsCoverValuesWithBoundedRelativeError() throws Exception {
+        for (long value : new long[]{0L, 1L, 15L, 16L, 17L, 1000L, 123456789L, 1L << 40}) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            final long upperBound = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upperBound >= value);
+            assertTrue(upperBound - value <= value / 16);
+            assertEquals(index, LatencyHistogram.bucketIndex(upperBound));
+        }
+    }
+
+    @Test
+    public void testPercentiles() throws Exception {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000000L, histogram.getMax());
+        assertEquals(500000.0, histogram.getValueAtPercentile(50.0), 500000.0 / 16);
+        assertEquals(990000.0, histogram.getValueAtPercentile(99.0), 990000.0 / 16);
+        assertEquals(1000000L, histogram.getValueAtPercentile(100.0));
+    }
+}
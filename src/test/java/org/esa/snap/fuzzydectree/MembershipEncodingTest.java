@@ -0,0 +1,24 @@
+package org.esa.snap.fuzzydectree;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class MembershipEncodingTest {
+
+    @Test
+    public void testEncodeRoundsAndClamps() throws Exception {
+        assertEquals(0, MembershipEncoding.encode(0.0F, 255));
+        assertEquals(255, MembershipEncoding.encode(1.0F, 255));
+        assertEquals(128, MembershipEncoding.encode(0.5F, 255));
+        assertEquals(65535, MembershipEncoding.encode(1.0F, 65535));
+        assertEquals(0, MembershipEncoding.encode(-0.1F, 255));
+        assertEquals(255, MembershipEncoding.encode(1.1F, 255));
+        assertEquals(0, MembershipEncoding.encode(Float.NaN, 255));
+        // decoded values deviate by at most half a step
+        for (int i = 0; i <= 1000; i++) {
+            final float sample = i / 1000.0F;
+            assertEquals(sample, MembershipEncoding.encode(sample, 255) / 255.0F, 0.5F / 255 + 1.0e-7F);
+        }
+    }
+}
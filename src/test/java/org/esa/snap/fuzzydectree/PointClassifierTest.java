@@ -0,0 +1,58 @@
+package org.esa.snap.fuzzydectree;
+
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class PointClassifierTest {
+
+    @Test
+    public void testClassifyInChunks() throws Exception {
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        final int numPoints = 20;
+        final String[][] inputNames = IntertidalFlatClassifierConstants.INPUT_NAMES;
+
+        // band names with type suffix, except for b1 given by its tree name, plus an id column
+        final StringBuilder csv = new StringBuilder("# match-ups\nid");
+        for (int i = 0; i < inputNames.length; i++) {
+            csv.append('\t').append(i == 0 ? inputNames[i][0] : inputNames[i][1] + ":float");
+        }
+        csv.append('\n');
+        final Random random = new Random(4711);
+        final float[][] inputs = new float[inputNames.length][numPoints];
+        for (int k = 0; k < numPoints; k++) {
+            csv.append("p").append(k);
+            for (int i = 0; i < inputNames.length; i++) {
+                inputs[i][k] = (float) (random.nextDouble() * 1.2 - 0.1);
+                csv.append('\t').append(inputs[i][k]);
+            }
+            csv.append('\n');
+        }
+        final float[][] expected = new float[classifier.getOutputSize()][numPoints];
+        classifier.apply(inputs, expected, 0, numPoints);
+
+        final StringWriter out = new StringWriter();
+        final long count = PointClassifier.createIntertidal().classify(
+                new BufferedReader(new StringReader(csv.toString())), out, 7);
+
+        assertEquals(numPoints, count);
+        final String[] lines = out.toString().split("\n");
+        assertEquals(numPoints + 2, lines.length);
+        assertEquals("# match-ups", lines[0]);
+        final String[] header = lines[1].split("\t");
+        assertEquals(1 + inputNames.length + classifier.getOutputSize() + 2, header.length);
+        assertEquals(GenericClassifierConstants.FINAL_CLASS_BAND_NAME, header[header.length - 1]);
+        for (int k = 0; k < numPoints; k++) {
+            final String[] values = lines[k + 2].split("\t");
+            assertEquals("p" + k, values[0]);
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(expected[j][k], Float.parseFloat(values[1 + inputNames.length + j]), 0.0F);
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.ceres.core.ProgressMonitor;
+import org.esa.snap.core.dataio.ProductWriter;
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductData;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.image.Raster;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class ProductClassifierTest {
+
+    private static final int WIDTH = 64;
+    private static final int HEIGHT = 40;
+
+    private Product sourceProduct;
+
+    @Before
+    public void setUp() throws Exception {
+        sourceProduct = new Product("test", "TEST", WIDTH, HEIGHT);
+        sourceProduct.setPreferredTileSize(32, 32);
+        final Random random = new Random(4711);
+        for (String[] inputName : IntertidalFlatClassifierConstants.INPUT_NAMES) {
+            final float[] samples = new float[WIDTH * HEIGHT];
+            for (int k = 0; k < samples.length; k++) {
+                samples[k] = random.nextInt(10) == 0 ? 0.0F : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+            final Band band = sourceProduct.addBand(inputName[1], ProductData.TYPE_FLOAT32);
+            band.setRasterData(ProductData.createInstance(samples));
+        }
+    }
+
+    @Test
+    public void testClassifyEqualsOperator() throws Exception {
+        assertClassifyEqualsOperator(new HashMap<>());
+    }
+
+    @Test
+    public void testClassifyEqualsOperatorWithInvalidPixels() throws Exception {
+        final Map<String, Object> parameters = new HashMap<>();
+        // the right tile column is entirely invalid, the left one partly
+        parameters.put("roiExpression", "X < 30");
+        assertClassifyEqualsOperator(parameters);
+    }
+
+    @Test
+    public void testClassifyEqualsOperatorWithTopK() throws Exception {
+        final Map<String, Object> parameters = new HashMap<>();
+        parameters.put("outputMode", GenericClassifierConstants.OUTPUT_MODE_TOP_K);
+        parameters.put("roiExpression", "X < 30");
+        assertClassifyEqualsOperator(parameters);
+    }
+
+    private void assertClassifyEqualsOperator(Map<String, Object> parameters) throws Exception {
+        final IntertidalFlatClassifierOp gpfOperator = createOperator(parameters);
+        final IntertidalFlatClassifierOp standaloneOperator = createOperator(parameters);
+        try {
+            final ProductClassifier classifier = new ProductClassifier(standaloneOperator);
+            final Map<String, float[]> written = new HashMap<>();
+            final ProductWriter writer = mock(ProductWriter.class);
+            doAnswer(invocation -> {
+                final Object[] args = invocation.getArguments();
+                final Band band = (Band) args[0];
+                final int y = (Integer) args[2];
+                final int length = (Integer) args[3] * (Integer) args[4];
+                final ProductData data = (ProductData) args[5];
+                final float[] samples = written.computeIfAbsent(band.getName(), name -> new float[WIDTH * HEIGHT]);
+                for (int k = 0; k < length; k++) {
+                    samples[y * WIDTH + k] = data.getElemFloatAt(k);
+                }
+                return null;
+            }).when(writer).writeBandRasterData(any(Band.class), anyInt(), anyInt(), anyInt(), anyInt(),
+                                                any(ProductData.class), any(ProgressMonitor.class));
+            final ForkJoinPool pool = new ForkJoinPool(2);
+            try {
+                classifier.classify(pool, 7, writer);
+            } finally {
+                pool.shutdown();
+            }
+
+            final Product targetProduct = gpfOperator.getTargetProduct();
+            assertEquals(targetProduct.getNumBands(), written.size());
+            for (Band band : targetProduct.getBands()) {
+                final Raster expected = band.getSourceImage().getData();
+                final float[] actual = written.get(band.getName());
+                assertNotNull(band.getName(), actual);
+                for (int y = 0; y < HEIGHT; y++) {
+                    for (int x = 0; x < WIDTH; x++) {
+                        final float expectedSample = band.getDataType() == ProductData.TYPE_INT8 ?
+                                (byte) expected.getSample(x, y, 0) : expected.getSampleFloat(x, y, 0);
+                        assertEquals(band.getName() + " at " + x + "," + y, expectedSample,
+                                     actual[y * WIDTH + x], 0.0F);
+                    }
+                }
+            }
+        } finally {
+            gpfOperator.dispose();
+            standaloneOperator.dispose();
+        }
+    }
+
+    private IntertidalFlatClassifierOp createOperator(Map<String, Object> parameters) {
+        final IntertidalFlatClassifierOp operator = new IntertidalFlatClassifierOp();
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            operator.setParameter(parameter.getKey(), parameter.getValue());
+        }
+        operator.setSourceProduct(sourceProduct);
+        return operator;
+    }
+}
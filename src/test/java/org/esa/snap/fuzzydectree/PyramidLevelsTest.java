@@ -0,0 +1,98 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.CrsGeoCoding;
+import org.esa.snap.core.datamodel.FlagCoding;
+import org.esa.snap.core.datamodel.GeoPos;
+import org.esa.snap.core.datamodel.Mask;
+import org.esa.snap.core.datamodel.PixelPos;
+import org.esa.snap.core.datamodel.Product;
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.core.gpf.OperatorException;
+import org.geotools.referencing.crs.DefaultGeographicCRS;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.image.Raster;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+public class PyramidLevelsTest {
+
+    private static final int WIDTH = 256;
+    private static final int HEIGHT = 128;
+
+    private Product product;
+
+    @Before
+    public void setUp() throws Exception {
+        product = new Product("test", "TEST", WIDTH, HEIGHT);
+        product.setNumResolutionsMax(3);
+        product.setSceneGeoCoding(new CrsGeoCoding(DefaultGeographicCRS.WGS84, WIDTH, HEIGHT, 0.0, 50.0, 0.1, 0.1));
+
+        final float[] radiances = new float[WIDTH * HEIGHT];
+        final byte[] flags = new byte[WIDTH * HEIGHT];
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                radiances[y * WIDTH + x] = x;
+                // the left half is invalid
+                flags[y * WIDTH + x] = (byte) (x < WIDTH / 2 ? 1 : 0);
+            }
+        }
+        final Band radiance = product.addBand("radiance", ProductData.TYPE_FLOAT32);
+        radiance.setRasterData(ProductData.createInstance(radiances));
+        radiance.setValidPixelExpression("!l1_flags.INVALID");
+
+        final FlagCoding flagCoding = new FlagCoding("l1_flags");
+        flagCoding.addFlag("INVALID", 1, "Invalid pixel");
+        product.getFlagCodingGroup().add(flagCoding);
+        final Band l1Flags = product.addBand("l1_flags", ProductData.TYPE_INT8);
+        l1Flags.setRasterData(ProductData.createInstance(flags));
+        l1Flags.setSampleCoding(flagCoding);
+    }
+
+    @Test
+    public void testCreateLevelProduct() throws Exception {
+        final Product levelProduct = PyramidLevels.createLevelProduct(product, 1);
+        assertEquals(WIDTH / 2, levelProduct.getSceneRasterWidth());
+        assertEquals(HEIGHT / 2, levelProduct.getSceneRasterHeight());
+        assertEquals(2, levelProduct.getNumBands());
+        final Band radiance = levelProduct.getBand("radiance");
+        assertEquals(WIDTH / 2, radiance.getRasterWidth());
+        assertEquals(HEIGHT / 2, radiance.getRasterHeight());
+        assertEquals("!l1_flags.INVALID", radiance.getValidPixelExpression());
+    }
+
+    @Test
+    public void testCreateLevelProductSubsamplesGeoCoding() throws Exception {
+        final Product levelProduct = PyramidLevels.createLevelProduct(product, 2);
+        assertNotNull(levelProduct.getSceneGeoCoding());
+        // the first level pixel covers the first 4 x 4 pixels
+        final GeoPos expected = product.getSceneGeoCoding().getGeoPos(new PixelPos(2.0, 2.0), null);
+        final GeoPos actual = levelProduct.getSceneGeoCoding().getGeoPos(new PixelPos(0.5, 0.5), null);
+        assertEquals(expected.getLat(), actual.getLat(), 1.0e-6);
+        assertEquals(expected.getLon(), actual.getLon(), 1.0e-6);
+    }
+
+    @Test
+    public void testCreateLevelProductKeepsFlagCoding() throws Exception {
+        final Product levelProduct = PyramidLevels.createLevelProduct(product, 1);
+        final Band l1Flags = levelProduct.getBand("l1_flags");
+        assertTrue(l1Flags.isFlagBand());
+        assertNotNull(levelProduct.getFlagCodingGroup().get("l1_flags"));
+
+        final Mask mask = InvalidPixelMask.createMask(levelProduct, new Band[]{levelProduct.getBand("radiance")},
+                                                      null, null);
+        assertNotNull(mask);
+        final Raster maskData = mask.getSourceImage().getData();
+        assertTrue(maskData.getSample(10, 10, 0) != 0);
+        assertEquals(0, maskData.getSample(WIDTH / 2 - 10, 10, 0));
+    }
+
+    @Test(expected = OperatorException.class)
+    public void testCreateLevelProductFailsForMissingLevel() throws Exception {
+        PyramidLevels.createLevelProduct(product, 3);
+    }
+}
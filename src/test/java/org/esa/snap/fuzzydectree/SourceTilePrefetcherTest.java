@@ -0,0 +1,67 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+public class SourceTilePrefetcherTest {
+
+    // 3 x 3 tiles, the last column and row are partial
+    private static final Dimension SCENE_SIZE = new Dimension(250, 130);
+    private static final Dimension TILE_SIZE = new Dimension(100, 50);
+
+    private SourceTilePrefetcher prefetcher;
+
+    @Before
+    public void setUp() throws Exception {
+        prefetcher = new SourceTilePrefetcher(new Band[0], null, SCENE_SIZE, 2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        prefetcher.dispose();
+    }
+
+    @Test
+    public void testSelectTilesWrapsToNextRow() throws Exception {
+        assertEquals(Arrays.asList(new Rectangle(0, 50, 100, 50), new Rectangle(100, 50, 100, 50)),
+                     prefetcher.selectTiles(new Rectangle(200, 0, 50, 50), TILE_SIZE));
+    }
+
+    @Test
+    public void testSelectTilesClipsLastRowAndColumn() throws Exception {
+        assertEquals(Collections.singletonList(new Rectangle(200, 100, 50, 30)),
+                     prefetcher.selectTiles(new Rectangle(100, 100, 100, 30), TILE_SIZE));
+        assertEquals(Collections.emptyList(), prefetcher.selectTiles(new Rectangle(200, 100, 50, 30), TILE_SIZE));
+    }
+
+    @Test
+    public void testSelectTilesOutOfOrder() throws Exception {
+        assertEquals(Arrays.asList(new Rectangle(0, 50, 100, 50), new Rectangle(100, 50, 100, 50)),
+                     prefetcher.selectTiles(new Rectangle(200, 0, 50, 50), TILE_SIZE));
+        // computed by another thread before tile 2, its successors are requested already
+        assertEquals(Collections.emptyList(), prefetcher.selectTiles(new Rectangle(100, 0, 100, 50), TILE_SIZE));
+        // only the tile not requested yet
+        assertEquals(Collections.singletonList(new Rectangle(200, 50, 50, 50)),
+                     prefetcher.selectTiles(new Rectangle(0, 50, 100, 50), TILE_SIZE));
+    }
+
+    @Test
+    public void testSelectTilesStartsNewPass() throws Exception {
+        assertEquals(Collections.singletonList(new Rectangle(200, 100, 50, 30)),
+                     prefetcher.selectTiles(new Rectangle(100, 100, 100, 30), TILE_SIZE));
+        // the product is computed again from the first tile
+        assertEquals(Arrays.asList(new Rectangle(100, 0, 100, 50), new Rectangle(200, 0, 50, 50)),
+                     prefetcher.selectTiles(new Rectangle(0, 0, 100, 50), TILE_SIZE));
+        assertEquals(Collections.singletonList(new Rectangle(0, 50, 100, 50)),
+                     prefetcher.selectTiles(new Rectangle(100, 0, 100, 50), TILE_SIZE));
+    }
+}
@@ -0,0 +1,86 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.Band;
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.core.gpf.Tile;
+
+import java.awt.Rectangle;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tiles backed by arrays, for the tests of the row readers and writers and the tile stack classifier.
+ */
+final class TestTiles {
+
+    private TestTiles() {
+    }
+
+    static Tile createTile(Rectangle rectangle, float[] data) {
+        final Tile tile = createTile(rectangle, ProductData.TYPE_FLOAT32);
+        when(tile.getDataBufferFloat()).thenReturn(data);
+        return tile;
+    }
+
+    static Tile createTile(Rectangle rectangle, byte[] data) {
+        final Tile tile = createTile(rectangle, ProductData.TYPE_INT8);
+        when(tile.getDataBufferByte()).thenReturn(data);
+        return tile;
+    }
+
+    /**
+     * @return a tile of a uint8 membership band, see {@link MembershipEncoding}
+     */
+    static Tile createMembershipTile(Rectangle rectangle, byte[] data) {
+        final Tile tile = createTile(rectangle, ProductData.TYPE_UINT8);
+        when(tile.getRasterDataNode().isScalingApplied()).thenReturn(true);
+        when(tile.getDataBufferByte()).thenReturn(data);
+        return tile;
+    }
+
+    /**
+     * @return a tile of a uint16 membership band, backed by a {@code DataBufferUShort} like in SNAP
+     */
+    static Tile createMembershipTile(Rectangle rectangle, short[] data) {
+        final Tile tile = createTile(rectangle, ProductData.TYPE_UINT16);
+        when(tile.getRasterDataNode().isScalingApplied()).thenReturn(true);
+        when(tile.getDataBufferUShort()).thenReturn(data);
+        return tile;
+    }
+
+    /**
+     * @return target rows writing the class memberships, the maximum membership and the final class into the
+     * given arrays, with a scanline stride of the rectangle width
+     */
+    static TargetRows createTargetRows(Rectangle rectangle, float[][] outputs, float[] fuzzyMaxVal,
+                                       byte[] finalClass) {
+        final TileRowWriter[] outputWriters = new TileRowWriter[outputs.length];
+        for (int i = 0; i < outputs.length; i++) {
+            outputWriters[i] = new TileRowWriter(createTile(rectangle, outputs[i]));
+        }
+        return new TargetRows(outputWriters, new TileRowWriter(createTile(rectangle, fuzzyMaxVal)),
+                              new TileRowWriter(createTile(rectangle, finalClass)),
+                              new TileRowWriter[0], new TileRowWriter[0]);
+    }
+
+    /**
+     * @return a tile without data buffers, whose samples are read and written through the tile's sample methods
+     */
+    static Tile createTile(Rectangle rectangle, int dataType) {
+        final Band band = mock(Band.class);
+        when(band.getDataType()).thenReturn(dataType);
+        final Tile tile = mock(Tile.class);
+        when(tile.getRasterDataNode()).thenReturn(band);
+        when(tile.getRectangle()).thenReturn(rectangle);
+        when(tile.getMinX()).thenReturn(rectangle.x);
+        when(tile.getMinY()).thenReturn(rectangle.y);
+        when(tile.getMaxX()).thenReturn(rectangle.x + rectangle.width - 1);
+        when(tile.getMaxY()).thenReturn(rectangle.y + rectangle.height - 1);
+        when(tile.getWidth()).thenReturn(rectangle.width);
+        when(tile.getHeight()).thenReturn(rectangle.height);
+        when(tile.getScanlineOffset()).thenReturn(0);
+        when(tile.getScanlineStride()).thenReturn(rectangle.width);
+        return tile;
+    }
+}
@@ -0,0 +1,96 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.core.gpf.Tile;
+import org.junit.Test;
+
+import java.awt.Rectangle;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TileRowReaderTest {
+
+    private static final Rectangle RECTANGLE = new Rectangle(10, 20, 4, 2);
+
+    @Test
+    public void testReadRowCopiesRawFloats() throws Exception {
+        final Tile tile = TestTiles.createTile(RECTANGLE, new float[]{0.0F, 0.1F, 0.2F, 0.3F, 1.0F, 1.1F, 1.2F, 1.3F});
+        final float[] samples = new float[3];
+
+        new TileRowReader(tile).readRow(21, 11, 3, samples);
+
+        assertArrayEquals(new float[]{1.1F, 1.2F, 1.3F}, samples, 0.0F);
+        verify(tile, never()).getSampleFloat(anyInt(), anyInt());
+    }
+
+    @Test
+    public void testReadRowHonoursScanlineOffsetAndStride() throws Exception {
+        // a tile of 4 x 2 pixels in a buffer with scanlines of 6 pixels, starting at index 1
+        final Tile tile = TestTiles.createTile(RECTANGLE, new float[]{9.0F, 0.0F, 0.1F, 0.2F, 0.3F, 9.0F,
+                9.0F, 1.0F, 1.1F, 1.2F, 1.3F, 9.0F});
+        when(tile.getScanlineOffset()).thenReturn(1);
+        when(tile.getScanlineStride()).thenReturn(6);
+        final float[] samples = new float[4];
+
+        new TileRowReader(tile).readRow(21, 10, 4, samples);
+
+        assertArrayEquals(new float[]{1.0F, 1.1F, 1.2F, 1.3F}, samples, 0.0F);
+    }
+
+    @Test
+    public void testReadRowFallsBackForScaledBand() throws Exception {
+        final Tile tile = createSampleTile(ProductData.TYPE_FLOAT32);
+        when(tile.getRasterDataNode().isScalingApplied()).thenReturn(true);
+
+        assertReadRowUsesSamples(tile);
+    }
+
+    @Test
+    public void testReadRowFallsBackForValidPixelExpression() throws Exception {
+        final Tile tile = createSampleTile(ProductData.TYPE_FLOAT32);
+        when(tile.getRasterDataNode().getValidPixelExpression()).thenReturn("B1 > 0");
+
+        assertReadRowUsesSamples(tile);
+    }
+
+    @Test
+    public void testReadRowFallsBackForIntegerBands() throws Exception {
+        assertReadRowUsesSamples(createSampleTile(ProductData.TYPE_INT8));
+        assertReadRowUsesSamples(createSampleTile(ProductData.TYPE_UINT16));
+    }
+
+    @Test
+    public void testIsRawReadable() throws Exception {
+        final Tile tile = createSampleTile(ProductData.TYPE_FLOAT32);
+        assertTrue(TileRowReader.isRawReadable(tile.getRasterDataNode()));
+        when(tile.getRasterDataNode().getValidPixelExpression()).thenReturn(" ");
+        assertTrue(TileRowReader.isRawReadable(tile.getRasterDataNode()));
+        when(tile.getRasterDataNode().getValidPixelExpression()).thenReturn("B1 > 0");
+        assertFalse(TileRowReader.isRawReadable(tile.getRasterDataNode()));
+
+        assertFalse(TileRowReader.isRawReadable(createSampleTile(ProductData.TYPE_INT16).getRasterDataNode()));
+    }
+
+    // the geophysical sample at (x, y) is x + y / 100
+    private static Tile createSampleTile(int dataType) {
+        final Tile tile = TestTiles.createTile(RECTANGLE, dataType);
+        when(tile.getDataBufferFloat()).thenReturn(new float[8]);
+        when(tile.getSampleFloat(anyInt(), anyInt())).thenAnswer(
+                invocation -> (Integer) invocation.getArguments()[0] + (Integer) invocation.getArguments()[1] / 100.0F);
+        return tile;
+    }
+
+    private static void assertReadRowUsesSamples(Tile tile) {
+        final float[] samples = new float[3];
+
+        new TileRowReader(tile).readRow(21, 11, 3, samples);
+
+        assertArrayEquals(new float[]{11.21F, 12.21F, 13.21F}, samples, 0.0F);
+    }
+}
@@ -0,0 +1,122 @@
+package org.esa.snap.fuzzydectree;
+
+import org.esa.snap.core.datamodel.ProductData;
+import org.esa.snap.core.gpf.Tile;
+import org.junit.Test;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.anyFloat;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TileRowWriterTest {
+
+    private static final Rectangle RECTANGLE = new Rectangle(10, 20, 4, 2);
+
+    @Test
+    public void testWriteRowCopiesRawFloats() throws Exception {
+        final float[] data = new float[8];
+        final Tile tile = TestTiles.createTile(RECTANGLE, data);
+        final TileRowWriter writer = new TileRowWriter(tile);
+
+        writer.writeRow(21, 11, 3, new float[]{0.5F, Float.NaN, 2.0F});
+        writer.writeRow(20, 10, 2, new int[]{3, -1});
+
+        assertArrayEquals(new float[]{3.0F, -1.0F, 0.0F, 0.0F, 0.0F, 0.5F, Float.NaN, 2.0F}, data, 0.0F);
+        verify(tile, never()).setSample(anyInt(), anyInt(), anyFloat());
+    }
+
+    @Test
+    public void testWriteRowHonoursScanlineOffsetAndStride() throws Exception {
+        // a tile of 4 x 2 pixels in a buffer with scanlines of 6 pixels, starting at index 1
+        final float[] data = new float[12];
+        final Tile tile = TestTiles.createTile(RECTANGLE, data);
+        when(tile.getScanlineOffset()).thenReturn(1);
+        when(tile.getScanlineStride()).thenReturn(6);
+
+        new TileRowWriter(tile).writeRow(21, 10, 4, new float[]{1.0F, 1.1F, 1.2F, 1.3F});
+
+        assertArrayEquals(new float[]{0.0F, 0.0F, 0.0F, 0.0F, 0.0F, 0.0F,
+                0.0F, 1.0F, 1.1F, 1.2F, 1.3F, 0.0F}, data, 0.0F);
+    }
+
+    @Test
+    public void testWriteRowCastsToBytes() throws Exception {
+        final byte[] data = new byte[8];
+        final TileRowWriter writer = new TileRowWriter(TestTiles.createTile(RECTANGLE, data));
+
+        writer.writeRow(20, 10, 4, new int[]{1, 2, -1, 13});
+        writer.writeRow(21, 10, 2, new float[]{3.0F, 4.0F});
+        writer.fillRow(21, 12, 2, 5);
+
+        assertArrayEquals(new byte[]{1, 2, -1, 13, 3, 4, 5, 5}, data);
+    }
+
+    @Test
+    public void testWriteRowFallsBackForOtherTiles() throws Exception {
+        // an unscaled int16 tile has no raw path, its short buffer is only used for encoded memberships
+        final Tile tile = TestTiles.createTile(RECTANGLE, ProductData.TYPE_INT16);
+        when(tile.getDataBufferShort()).thenReturn(new short[8]);
+        final TileRowWriter writer = new TileRowWriter(tile);
+
+        writer.writeRow(21, 11, 2, new float[]{0.5F, 2.0F});
+        writer.writeRow(20, 12, 1, new int[]{7});
+        writer.fillRow(20, 10, 1, 0.25F);
+
+        verify(tile).setSample(11, 21, 0.5F);
+        verify(tile).setSample(12, 21, 2.0F);
+        verify(tile).setSample(12, 20, 7);
+        verify(tile).setSample(10, 20, 0.25F);
+    }
+
+    @Test
+    public void testWriteRowEncodesUint8() throws Exception {
+        final byte[] data = new byte[8];
+        final TileRowWriter writer = new TileRowWriter(TestTiles.createMembershipTile(RECTANGLE, data));
+
+        writer.writeRow(21, 11, 3, new float[]{0.5F, 1.0F, Float.NaN});
+
+        assertArrayEquals(new byte[4], Arrays.copyOfRange(data, 0, 4));
+        assertEquals(0, data[4]);
+        assertEquals(128, data[5] & 0xff);
+        assertEquals(255, data[6] & 0xff);
+        assertEquals(0, data[7]);
+    }
+
+    @Test
+    public void testWriteRowEncodesUint16() throws Exception {
+        final short[] data = new short[8];
+        final TileRowWriter writer = new TileRowWriter(TestTiles.createMembershipTile(RECTANGLE, data));
+
+        writer.writeRow(20, 10, 4, new float[]{0.0F, 0.5F, 1.0F, 1.1F});
+
+        assertEquals(0, data[0]);
+        // rounded like MembershipEncoding.toRasterData, Tile.setSample would truncate to 32767
+        assertEquals(32768, data[1] & 0xffff);
+        assertEquals(65535, data[2] & 0xffff);
+        assertEquals(65535, data[3] & 0xffff);
+        assertArrayEquals(new short[4], Arrays.copyOfRange(data, 4, 8));
+    }
+
+    @Test
+    public void testFillRowEncodes() throws Exception {
+        final byte[] byteData = new byte[8];
+        final short[] shortData = new short[8];
+
+        new TileRowWriter(TestTiles.createMembershipTile(RECTANGLE, byteData)).fillRow(20, 10, 4, 0.3F);
+        new TileRowWriter(TestTiles.createMembershipTile(RECTANGLE, shortData)).fillRow(21, 12, 2, 0.3F);
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(MembershipEncoding.encode(0.3F, 255), byteData[i] & 0xff);
+        }
+        assertArrayEquals(new short[6], Arrays.copyOfRange(shortData, 0, 6));
+        assertEquals(MembershipEncoding.encode(0.3F, 65535), shortData[6] & 0xffff);
+        assertEquals(MembershipEncoding.encode(0.3F, 65535), shortData[7] & 0xffff);
+    }
+}
@@ -0,0 +1,188 @@
+package org.esa.snap.fuzzydectree;
+
+import com.bc.ceres.core.ProgressMonitor;
+import org.esa.snap.core.gpf.OperatorException;
+import org.junit.Test;
+
+import java.awt.Rectangle;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class TileStackClassifierTest {
+
+    @Test
+    public void testClassifyRowWithInvalidPixels() throws Exception {
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        final float[] invalidOutputs = classifier.createInvalidOutputs();
+        final TileStackClassifier tileStackClassifier = createTileStackClassifier();
+        final int width = 100;
+
+        final Random random = new Random(4711);
+        final float[][] inputs = new float[classifier.getInputSize()][width];
+        for (float[] input : inputs) {
+            for (int k = 0; k < width; k++) {
+                input[k] = (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+        }
+        final boolean[] invalid = new boolean[width];
+        int numInvalid = 0;
+        for (int k = 0; k < width; k++) {
+            invalid[k] = random.nextInt(3) == 0;
+            numInvalid += invalid[k] ? 1 : 0;
+        }
+
+        final float[][] expected = new float[classifier.getOutputSize()][width];
+        classifier.apply(inputs, expected, 0, width);
+        final float[][] outputs = new float[classifier.getOutputSize()][width];
+        final float[] fuzzyMaxVal = new float[width];
+        final int[] finalClass = new int[width];
+        tileStackClassifier.classifyRow(inputs, outputs, fuzzyMaxVal, finalClass, invalid, numInvalid, width);
+
+        for (int k = 0; k < width; k++) {
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(invalid[k] ? invalidOutputs[j] : expected[j][k], outputs[j][k], 0.0F);
+            }
+            if (invalid[k]) {
+                // the class of the nodata membership
+                assertEquals(IntertidalFlatClassifierConstants.CLASSIF_CLASS[0], finalClass[k]);
+                assertEquals(1.0F, fuzzyMaxVal[k], 0.0F);
+            }
+        }
+    }
+
+    @Test
+    public void testSelectTopK() throws Exception {
+        final TileStackClassifier tileStackClassifier = createTileStackClassifier(3);
+        final int width = 3;
+        final int[] classValues = IntertidalFlatClassifierConstants.CLASSIF_CLASS;
+
+        final float[][] outputs = new float[classValues.length + 1][width];
+        // pixel 0: four memberships, a tie between the classes 1 and 4
+        outputs[2][0] = 0.3F;
+        outputs[1][0] = 0.5F;
+        outputs[4][0] = 0.5F;
+        outputs[7][0] = 0.1F;
+        // pixel 1: a single membership
+        outputs[5][1] = 0.8F;
+        // pixel 2: no membership, the last output is not a class
+        outputs[outputs.length - 1][2] = 1.0F;
+
+        final int[][] topClasses = new int[3][width];
+        final float[][] topMemberships = new float[3][width];
+        tileStackClassifier.selectTopK(outputs, topClasses, topMemberships, width);
+
+        assertEquals(classValues[1], topClasses[0][0]);
+        assertEquals(classValues[4], topClasses[1][0]);
+        assertEquals(classValues[2], topClasses[2][0]);
+        assertEquals(0.5F, topMemberships[0][0], 0.0F);
+        assertEquals(0.5F, topMemberships[1][0], 0.0F);
+        assertEquals(0.3F, topMemberships[2][0], 0.0F);
+
+        assertEquals(classValues[5], topClasses[0][1]);
+        assertEquals(-1, topClasses[1][1]);
+        assertEquals(-1, topClasses[2][1]);
+        assertEquals(0.8F, topMemberships[0][1], 0.0F);
+        assertEquals(0.0F, topMemberships[1][1], 0.0F);
+
+        for (int j = 0; j < 3; j++) {
+            assertEquals(-1, topClasses[j][2]);
+            assertEquals(0.0F, topMemberships[j][2], 0.0F);
+        }
+    }
+
+    @Test
+    public void testStripedComputeEqualsSingleThreaded() throws Exception {
+        // 5 stripes of 8 scanlines, the last one has 5
+        final Rectangle rectangle = new Rectangle(16, 32, 24, 37);
+        final TileStackClassifier tileStackClassifier = createTileStackClassifier();
+        final TileRowReader[] sourceRows = createSourceRows(rectangle);
+        final InvalidPixelMask invalidPixels = createInvalidPixels(rectangle);
+
+        final int numPixels = rectangle.width * rectangle.height;
+        final int numOutputs = IntertidalFlatClassifierConstants.CLASSIF_CLASS.length + 1;
+        final float[][] expectedOutputs = new float[numOutputs][numPixels];
+        final float[] expectedFuzzyMaxVal = new float[numPixels];
+        final byte[] expectedFinalClass = new byte[numPixels];
+        tileStackClassifier.compute(sourceRows,
+                                    TestTiles.createTargetRows(rectangle, expectedOutputs, expectedFuzzyMaxVal,
+                                                               expectedFinalClass),
+                                    invalidPixels, rectangle, 0, ProgressMonitor.NULL, () -> {
+                });
+
+        final float[][] outputs = new float[numOutputs][numPixels];
+        final float[] fuzzyMaxVal = new float[numPixels];
+        final byte[] finalClass = new byte[numPixels];
+        tileStackClassifier.compute(sourceRows, TestTiles.createTargetRows(rectangle, outputs, fuzzyMaxVal, finalClass),
+                                    invalidPixels, rectangle, 8, ProgressMonitor.NULL, () -> {
+                });
+
+        for (int i = 0; i < numOutputs; i++) {
+            assertArrayEquals("output " + i, expectedOutputs[i], outputs[i], 0.0F);
+        }
+        assertArrayEquals(expectedFuzzyMaxVal, fuzzyMaxVal, 0.0F);
+        assertArrayEquals(expectedFinalClass, finalClass);
+        // the invalid scanline of the last stripe
+        assertEquals(IntertidalFlatClassifierConstants.CLASSIF_CLASS[0],
+                     finalClass[(rectangle.height - 2) * rectangle.width]);
+    }
+
+    @Test
+    public void testStripedComputePropagatesCancellation() throws Exception {
+        final Rectangle rectangle = new Rectangle(0, 0, 24, 37);
+        final TileStackClassifier tileStackClassifier = createTileStackClassifier();
+        final int numPixels = rectangle.width * rectangle.height;
+        final float[][] outputs = new float[IntertidalFlatClassifierConstants.CLASSIF_CLASS.length + 1][numPixels];
+        final TargetRows targetRows = TestTiles.createTargetRows(rectangle, outputs, new float[numPixels],
+                                                                 new byte[numPixels]);
+        final AtomicInteger numChecks = new AtomicInteger();
+        try {
+            // cancelled after more scanlines than a stripe has
+            tileStackClassifier.compute(createSourceRows(rectangle), targetRows, null, rectangle, 8,
+                                        ProgressMonitor.NULL, () -> {
+                        if (numChecks.incrementAndGet() > 12) {
+                            throw new OperatorException("Operation canceled.");
+                        }
+                    });
+            fail("OperatorException expected");
+        } catch (OperatorException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Operation canceled."));
+        }
+    }
+
+    private static TileStackClassifier createTileStackClassifier() {
+        return createTileStackClassifier(0);
+    }
+
+    private static TileStackClassifier createTileStackClassifier(int topK) {
+        final IntertidalRowClassifier classifier = new IntertidalRowClassifier();
+        return new TileStackClassifier(classifier, IntertidalFlatClassifierConstants.CLASSIF_CLASS,
+                                       classifier.createInvalidOutputs(), topK, null);
+    }
+
+    private static TileRowReader[] createSourceRows(Rectangle rectangle) {
+        final Random random = new Random(4711);
+        final TileRowReader[] sourceRows = new TileRowReader[IntertidalFlatClassifierConstants.INPUT_NAMES.length];
+        for (int i = 0; i < sourceRows.length; i++) {
+            final float[] data = new float[rectangle.width * rectangle.height];
+            for (int k = 0; k < data.length; k++) {
+                data[k] = random.nextInt(10) == 0 ? 0.0F : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+            sourceRows[i] = new TileRowReader(TestTiles.createTile(rectangle, data));
+        }
+        return sourceRows;
+    }
+
+    // every third pixel and the last but one scanline are invalid
+    private static InvalidPixelMask createInvalidPixels(Rectangle rectangle) {
+        final byte[] data = new byte[rectangle.width * rectangle.height];
+        for (int k = 0; k < data.length; k++) {
+            data[k] = (byte) (k % 3 == 0 || k / rectangle.width == rectangle.height - 2 ? 1 : 0);
+        }
+        return new InvalidPixelMask(TestTiles.createTile(rectangle, data));
+    }
+}
@@ -0,0 +1,62 @@
+package org.esa.snap.fuzzydectree.generated;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.function.BiConsumer;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntertidalFlatClassifierFoldingTest {
+
+    private static final int NUM_PIXELS = 100000;
+
+    @Test
+    public void testFuzzyClassifierEqualsGeneratorOutput() throws Exception {
+        final IntertidalFlatClassifierFuz classifier = new IntertidalFlatClassifierFuz();
+        final IntertidalFlatClassifierFuzUnfolded reference = new IntertidalFlatClassifierFuzUnfolded();
+
+        // the reciprocal of the ramp widths may change memberships by an ulp
+        assertApplyEquals(classifier.getInputSize(), classifier.getOutputSize(),
+                          classifier::apply, reference::apply, 1e-12);
+    }
+
+    @Test
+    public void testCrispClassifierEqualsGeneratorOutput() throws Exception {
+        final IntertidalFlatClassifier classifier = new IntertidalFlatClassifier();
+        final IntertidalFlatClassifierUnfolded reference = new IntertidalFlatClassifierUnfolded();
+
+        assertApplyEquals(classifier.getInputSize(), classifier.getOutputSize(),
+                          classifier::apply, reference::apply, 0.0);
+    }
+
+    @Test
+    public void testOptClassifierEqualsGeneratorOutput() throws Exception {
+        final IntertidalFlatClassifierOpt classifier = new IntertidalFlatClassifierOpt();
+        final IntertidalFlatClassifierOptUnfolded reference = new IntertidalFlatClassifierOptUnfolded();
+
+        assertApplyEquals(classifier.getInputSize(), classifier.getOutputSize(),
+                          classifier::apply, reference::apply, 0.0);
+    }
+
+    private static void assertApplyEquals(int inputSize, int outputSize,
+                                          BiConsumer<double[], double[]> folded,
+                                          BiConsumer<double[], double[]> unfolded,
+                                          double delta) {
+        final Random random = new Random(42);
+        final double[] inputs = new double[inputSize];
+        final double[] outputs = new double[outputSize];
+        final double[] expectedOutputs = new double[outputSize];
+        for (int i = 0; i < NUM_PIXELS; i++) {
+            for (int j = 0; j < inputSize; j++) {
+                // zeros hit the nodata rules, values around the ramp bounds hit the fuzzy memberships
+                inputs[j] = random.nextInt(10) == 0 ? 0.0 : random.nextDouble() * 1.2 - 0.1;
+            }
+            folded.accept(inputs, outputs);
+            unfolded.accept(inputs, expectedOutputs);
+            for (int j = 0; j < outputSize; j++) {
+                assertEquals("output " + j + " of pixel " + i, expectedOutputs[j], outputs[j], delta);
+            }
+        }
+    }
+}
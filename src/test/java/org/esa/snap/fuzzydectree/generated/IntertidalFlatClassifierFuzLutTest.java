@@ -0,0 +1,55 @@
+package org.esa.snap.fuzzydectree.generated;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class IntertidalFlatClassifierFuzLutTest {
+
+    @Test
+    public void testErrorReport() throws Exception {
+        final Map<String, Float> report = new IntertidalFlatClassifierFuzLut(4096).computeErrorReport();
+
+        assertEquals(21, report.size());
+        for (Map.Entry<String, Float> entry : report.entrySet()) {
+            assertTrue(entry.getKey() + ": " + entry.getValue(), entry.getValue() < 0.05F);
+        }
+    }
+
+    @Test
+    public void testApplyIsWithinReportedErrorOfScalarClassifier() throws Exception {
+        final IntertidalFlatClassifierFuz scalarClassifier = new IntertidalFlatClassifierFuz();
+        final IntertidalFlatClassifierFuzLut lutClassifier =
+                new IntertidalFlatClassifierFuzLut(new IntertidalFlatClassifierFuzLut(1024));
+        final int offset = 5;
+        final int length = 2 * IntertidalFlatClassifierFuzVec.BLOCK_SIZE + 17;
+
+        float maxError = 0.0F;
+        for (float error : new IntertidalFlatClassifierFuzLut(1024).computeErrorReport().values()) {
+            maxError = Math.max(maxError, error);
+        }
+
+        final Random random = new Random(4711);
+        final float[][] inputColumns = new float[scalarClassifier.getInputSize()][offset + length];
+        for (float[] column : inputColumns) {
+            for (int i = 0; i < column.length; i++) {
+                final int r = random.nextInt(20);
+                column[i] = r == 0 ? 0.0F : r == 1 ? Float.NaN : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+        }
+        final float[][] expected = new float[scalarClassifier.getOutputSize()][offset + length];
+        final float[][] actual = new float[lutClassifier.getOutputSize()][offset + length];
+        scalarClassifier.apply(inputColumns, expected, offset, length);
+        lutClassifier.apply(inputColumns, actual, offset, length);
+
+        for (int j = 0; j < expected.length; j++) {
+            for (int i = offset; i < offset + length; i++) {
+                assertEquals("output " + j + ", pixel " + i, expected[j][i], actual[j][i], maxError + 1.0E-6);
+            }
+        }
+    }
+}
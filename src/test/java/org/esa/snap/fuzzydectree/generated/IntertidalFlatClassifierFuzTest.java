@@ -0,0 +1,159 @@
+package org.esa.snap.fuzzydectree.generated;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntertidalFlatClassifierFuzTest {
+
+    @Test
+    public void testNamesAreCopies() throws Exception {
+        final IntertidalFlatClassifierFuz classifier = new IntertidalFlatClassifierFuz();
+
+        classifier.getInputNames()[0] = null;
+        classifier.getOutputNames()[0] = null;
+
+        assertEquals("b1", classifier.getInputNames()[0]);
+        assertEquals("nodata", classifier.getOutputNames()[0]);
+    }
+
+    @Test
+    public void testBatchApplyEqualsPixelApply() throws Exception {
+        final IntertidalFlatClassifierFuz classifier = new IntertidalFlatClassifierFuz();
+        final int offset = 3;
+        final int length = 200;
+
+        final Random random = new Random(42);
+        final double[][] inputColumns = new double[classifier.getInputSize()][offset + length];
+        for (double[] column : inputColumns) {
+            for (int i = 0; i < column.length; i++) {
+                column[i] = random.nextInt(10) == 0 ? 0.0 : random.nextDouble() * 1.2 - 0.1;
+            }
+        }
+        final double[][] outputColumns = new double[classifier.getOutputSize()][offset + length];
+        classifier.apply(inputColumns, outputColumns, offset, length);
+
+        final double[] inputs = new double[classifier.getInputSize()];
+        final double[] outputs = new double[classifier.getOutputSize()];
+        for (int i = offset; i < offset + length; i++) {
+            for (int j = 0; j < inputs.length; j++) {
+                inputs[j] = inputColumns[j][i];
+            }
+            classifier.apply(inputs, outputs);
+            for (int j = 0; j < outputs.length; j++) {
+                assertEquals(outputs[j], outputColumns[j][i], 0.0);
+            }
+        }
+        for (double[] outputColumn : outputColumns) {
+            for (int i = 0; i < offset; i++) {
+                assertEquals(0.0, outputColumn[i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testFloatApplyIsWithinToleranceOfDoubleApply() throws Exception {
+        final IntertidalFlatClassifierFuz classifier = new IntertidalFlatClassifierFuz();
+        final int length = 100000;
+
+        final Random random = new Random(42);
+        final float[][] floatInputs = new float[classifier.getInputSize()][length];
+        final double[][] doubleInputs = new double[classifier.getInputSize()][length];
+        for (int j = 0; j < floatInputs.length; j++) {
+            for (int i = 0; i < length; i++) {
+                floatInputs[j][i] = random.nextInt(10) == 0 ? 0.0F : (float) (random.nextDouble() * 1.2 - 0.1);
+                doubleInputs[j][i] = floatInputs[j][i];
+            }
+        }
+        final float[][] floatOutputs = new float[classifier.getOutputSize()][length];
+        final double[][] doubleOutputs = new double[classifier.getOutputSize()][length];
+        classifier.apply(floatInputs, floatOutputs, 0, length);
+        classifier.apply(doubleInputs, doubleOutputs, 0, length);
+
+        for (int j = 0; j < floatOutputs.length; j++) {
+            for (int i = 0; i < length; i++) {
+                assertEquals(doubleOutputs[j][i], floatOutputs[j][i], 1.0e-5);
+            }
+        }
+    }
+
+    @Test
+    public void testShortCircuitApplyEqualsBranchFreeApply() throws Exception {
+        final IntertidalFlatClassifierFuz classifier = new IntertidalFlatClassifierFuz();
+        final int length = 10000;
+
+        final Random random = new Random(42);
+        final float[][] inputs = new float[classifier.getInputSize()][length];
+        for (float[] column : inputs) {
+            for (int i = 0; i < length; i++) {
+                column[i] = random.nextInt(10) == 0 ? 0.0F : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+        }
+        final float[][] expected = new float[classifier.getOutputSize()][length];
+        final float[][] actual = new float[classifier.getOutputSize()][length];
+        classifier.apply(inputs, expected, 0, length);
+        classifier.applyShortCircuit(inputs, actual, 0, length);
+
+        for (int j = 0; j < expected.length; j++) {
+            for (int i = 0; i < length; i++) {
+                assertEquals(expected[j][i], actual[j][i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testApplyAndClassifyEqualsApplyAndMaximumSearch() throws Exception {
+        final IntertidalFlatClassifierFuz classifier = new IntertidalFlatClassifierFuz();
+        final int length = 10000;
+        final int numClasses = classifier.getOutputSize() - 1;
+
+        final Random random = new Random(42);
+        final float[][] inputs = new float[classifier.getInputSize()][length];
+        for (float[] column : inputs) {
+            for (int i = 0; i < length; i++) {
+                column[i] = random.nextInt(10) == 0 ? 0.0F : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+        }
+        final float[][] expected = new float[classifier.getOutputSize()][length];
+        final float[][] actual = new float[classifier.getOutputSize()][length];
+        final int[] classIndexes = new int[length];
+        final float[] maxValues = new float[length];
+        classifier.apply(inputs, expected, 0, length);
+        classifier.applyAndClassify(inputs, actual, classIndexes, maxValues, 0, length);
+
+        final double[] pixelInputs = new double[classifier.getInputSize()];
+        final double[] pixelOutputs = new double[classifier.getOutputSize()];
+        for (int i = 0; i < length; i++) {
+            double outputMax = Double.MIN_VALUE;
+            int maxOutputIndex = -1;
+            for (int j = 0; j < numClasses; j++) {
+                if (expected[j][i] > outputMax) {
+                    outputMax = expected[j][i];
+                    maxOutputIndex = j;
+                }
+            }
+            assertEquals(maxOutputIndex, classIndexes[i]);
+            assertEquals((float) outputMax, maxValues[i], 0.0);
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(expected[j][i], actual[j][i], 0.0);
+            }
+
+            for (int j = 0; j < pixelInputs.length; j++) {
+                pixelInputs[j] = inputs[j][i];
+            }
+            final int pixelClassIndex = classifier.applyAndClassify(pixelInputs, pixelOutputs);
+            classifier.apply(pixelInputs, pixelOutputs);
+            outputMax = Double.MIN_VALUE;
+            maxOutputIndex = -1;
+            for (int j = 0; j < numClasses; j++) {
+                if (pixelOutputs[j] > outputMax) {
+                    outputMax = pixelOutputs[j];
+                    maxOutputIndex = j;
+                }
+            }
+            assertEquals(maxOutputIndex, pixelClassIndex);
+        }
+    }
+}
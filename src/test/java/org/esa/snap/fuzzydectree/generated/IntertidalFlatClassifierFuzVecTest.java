@@ -0,0 +1,99 @@
+package org.esa.snap.fuzzydectree.generated;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntertidalFlatClassifierFuzVecTest {
+
+    @Test
+    public void testApplyEqualsScalarClassifier() throws Exception {
+        final IntertidalFlatClassifierFuz scalarClassifier = new IntertidalFlatClassifierFuz();
+        final IntertidalFlatClassifierFuzVec columnClassifier = new IntertidalFlatClassifierFuzVec();
+        final int offset = 5;
+        final int length = 2 * IntertidalFlatClassifierFuzVec.BLOCK_SIZE + 17;
+
+        final Random random = new Random(4711);
+        final double[][] inputColumns = new double[scalarClassifier.getInputSize()][offset + length];
+        for (double[] column : inputColumns) {
+            for (int i = 0; i < column.length; i++) {
+                final int r = random.nextInt(20);
+                column[i] = r == 0 ? 0.0 : r == 1 ? Double.NaN : random.nextDouble() * 1.2 - 0.1;
+            }
+        }
+        final double[][] expected = new double[scalarClassifier.getOutputSize()][offset + length];
+        final double[][] actual = new double[columnClassifier.getOutputSize()][offset + length];
+        scalarClassifier.apply(inputColumns, expected, offset, length);
+        columnClassifier.apply(inputColumns, actual, offset, length);
+
+        for (int j = 0; j < expected.length; j++) {
+            for (int i = 0; i < offset + length; i++) {
+                assertEquals("output " + j + ", pixel " + i, expected[j][i], actual[j][i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testFloatApplyEqualsScalarClassifier() throws Exception {
+        final IntertidalFlatClassifierFuz scalarClassifier = new IntertidalFlatClassifierFuz();
+        final IntertidalFlatClassifierFuzVec columnClassifier = new IntertidalFlatClassifierFuzVec();
+        final int offset = 5;
+        final int length = 2 * IntertidalFlatClassifierFuzVec.BLOCK_SIZE + 17;
+
+        final Random random = new Random(4711);
+        final float[][] inputColumns = new float[scalarClassifier.getInputSize()][offset + length];
+        for (float[] column : inputColumns) {
+            for (int i = 0; i < column.length; i++) {
+                final int r = random.nextInt(20);
+                column[i] = r == 0 ? 0.0F : r == 1 ? Float.NaN : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+        }
+        final float[][] expected = new float[scalarClassifier.getOutputSize()][offset + length];
+        final float[][] actual = new float[columnClassifier.getOutputSize()][offset + length];
+        scalarClassifier.apply(inputColumns, expected, offset, length);
+        columnClassifier.apply(inputColumns, actual, offset, length);
+
+        for (int j = 0; j < expected.length; j++) {
+            for (int i = 0; i < offset + length; i++) {
+                assertEquals("output " + j + ", pixel " + i, expected[j][i], actual[j][i], 0.0);
+            }
+        }
+    }
+
+    @Test
+    public void testApplyAndClassifyEqualsScalarClassifier() throws Exception {
+        final IntertidalFlatClassifierFuz scalarClassifier = new IntertidalFlatClassifierFuz();
+        final IntertidalFlatClassifierFuzVec columnClassifier = new IntertidalFlatClassifierFuzVec();
+        final int offset = 5;
+        final int length = 2 * IntertidalFlatClassifierFuzVec.BLOCK_SIZE + 17;
+
+        final Random random = new Random(4711);
+        final float[][] inputColumns = new float[scalarClassifier.getInputSize()][offset + length];
+        for (float[] column : inputColumns) {
+            for (int i = 0; i < column.length; i++) {
+                final int r = random.nextInt(20);
+                column[i] = r == 0 ? 0.0F : r == 1 ? Float.NaN : (float) (random.nextDouble() * 1.2 - 0.1);
+            }
+        }
+        final float[][] expected = new float[scalarClassifier.getOutputSize()][offset + length];
+        final int[] expectedClassIndexes = new int[offset + length];
+        final float[] expectedMaxValues = new float[offset + length];
+        final float[][] actual = new float[columnClassifier.getOutputSize()][offset + length];
+        final int[] actualClassIndexes = new int[offset + length];
+        final float[] actualMaxValues = new float[offset + length];
+        scalarClassifier.applyAndClassify(inputColumns, expected, expectedClassIndexes, expectedMaxValues,
+                                          offset, length);
+        columnClassifier.applyAndClassify(inputColumns, actual, actualClassIndexes, actualMaxValues,
+                                          offset, length);
+
+        for (int i = offset; i < offset + length; i++) {
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals("output " + j + ", pixel " + i, expected[j][i], actual[j][i], 0.0);
+            }
+            assertEquals("class of pixel " + i, expectedClassIndexes[i], actualClassIndexes[i]);
+            assertEquals("maximum of pixel " + i, expectedMaxValues[i], actualMaxValues[i], 0.0);
+        }
+    }
+}
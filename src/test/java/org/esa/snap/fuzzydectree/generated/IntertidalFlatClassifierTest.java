@@ -0,0 +1,26 @@
+package org.esa.snap.fuzzydectree.generated;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class IntertidalFlatClassifierTest {
+
+    @Test
+    public void testNamesAreCopies() throws Exception {
+        final IntertidalFlatClassifier classifier = new IntertidalFlatClassifier();
+        final IntertidalFlatClassifierOpt optClassifier = new IntertidalFlatClassifierOpt();
+        final String inputName = classifier.getInputNames()[0];
+        final String outputName = classifier.getOutputNames()[0];
+
+        classifier.getInputNames()[0] = null;
+        classifier.getOutputNames()[0] = null;
+        optClassifier.getInputNames()[0] = null;
+        optClassifier.getOutputNames()[0] = null;
+
+        assertEquals(inputName, classifier.getInputNames()[0]);
+        assertEquals(outputName, classifier.getOutputNames()[0]);
+        assertEquals(inputName, optClassifier.getInputNames()[0]);
+        assertEquals(outputName, optClassifier.getOutputNames()[0]);
+    }
+}